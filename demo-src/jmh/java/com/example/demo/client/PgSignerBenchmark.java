@@ -0,0 +1,72 @@
+package com.example.demo.client;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// 이니시스/NICE Pay 서명, 검증 값, 취소 hashData 생성 벤치마크
+@State(Scope.Benchmark)
+public class PgSignerBenchmark {
+
+    private PgSigner pgSigner;
+
+    private String oid;
+    private String price;
+    private String timestamp;
+    private String authToken;
+    private String refundTimestamp;
+    private String refundDataJson;
+
+    @Setup
+    public void setUp() {
+        pgSigner = new PgSigner();
+        ReflectionTestUtils.setField(pgSigner, "inicisMid", "INIpayTest");
+        ReflectionTestUtils.setField(pgSigner, "inicisSignKey", "SU5JTElURV9UUklQTEVERVNfS0VZU1RS");
+        ReflectionTestUtils.setField(pgSigner, "inicisApiKey", "ItEQKi3rY7uvDS8l");
+        pgSigner.init();
+
+        oid = "ORD20250918123456789";
+        price = "15000";
+        timestamp = "1758171296123";
+        authToken = "AT_20250918123456_7f3b9c2e4a1d8f6b5c0e9a7d3f1b2c4e6a8d0f2b4c6e8a0d2f4b6c8e0a2d4f6";
+        refundTimestamp = "20250918123456";
+        refundDataJson = "{\"tid\":\"StdpayCARDINIpayTest20250918123456789012\",\"msg\":\"고객 요청 취소\"}";
+    }
+
+    @Benchmark
+    public String inicisSignature() {
+        return pgSigner.inicisSignature(oid, price, timestamp);
+    }
+
+    @Benchmark
+    public String inicisVerification() {
+        return pgSigner.inicisVerification(oid, price, timestamp);
+    }
+
+    @Benchmark
+    public String inicisAuthSignature() {
+        return pgSigner.inicisAuthSignature(authToken, timestamp);
+    }
+
+    @Benchmark
+    public String inicisAuthVerification() {
+        return pgSigner.inicisAuthVerification(authToken, timestamp);
+    }
+
+    @Benchmark
+    public String mKey() {
+        return pgSigner.getMKey();
+    }
+
+    @Benchmark
+    public String inicisRefundHash() {
+        return pgSigner.inicisRefundHash(refundTimestamp, refundDataJson);
+    }
+
+    @Benchmark
+    public String nicePaySignature() {
+        return pgSigner.nicePaySignature(authToken, "nicepay00m", price, "EYzu8jGGMfqaDEp76gSckuvnaHHu+bC4opsSN6lHv3b2lurNYkVXrZ7Z1AoqQnXI3eLuaUFyoRNC6FkrzVjceg==");
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.demo.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+// PG 콜백 본문 바인딩 벤치마크
+// mapThenProbe: 기존 방식 (Map 으로 받은 뒤 필드마다 별칭 키를 차례로 조회)
+@State(Scope.Benchmark)
+public class CallbackBindingBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 이니시스 모바일 콜백 (P_ 파라미터)
+    private byte[] inicisJson;
+    private String inicisForm;
+
+    @Setup
+    public void setUp() throws IOException {
+        Map<String, Object> params = Map.of(
+            "P_STATUS", "00",
+            "P_RMESG1", "정상처리되었습니다.",
+            "P_TID", "StdpayCARDINIpayTest20250918123456789012",
+            "P_OID", "ORD20250918123456789",
+            "P_AMT", "15000",
+            "P_TYPE", "CARD",
+            "P_AUTH_DT", "20250918123456",
+            "P_MID", "INIpayTest");
+        inicisJson = objectMapper.writeValueAsBytes(params);
+
+        StringBuilder form = new StringBuilder();
+        params.forEach((key, value) -> form.append(form.isEmpty() ? "" : "&").append(key).append('=')
+            .append(java.net.URLEncoder.encode(value.toString(), StandardCharsets.UTF_8)));
+        inicisForm = form.toString();
+    }
+
+    @Benchmark
+    public InicisCallback jsonBinding() throws IOException {
+        return objectMapper.readValue(inicisJson, InicisCallback.class);
+    }
+
+    @Benchmark
+    public InicisCallback formBinding() {
+        return InicisCallback.BINDING.readForm(inicisForm, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public String mapThenProbe() throws IOException {
+        Map<String, Object> params = objectMapper.readValue(inicisJson, Map.class);
+        String orderNo = first(params, "orderNumber", "oid", "P_OID", "MOID");
+        String resultCode = first(params, "resultCode", "P_STATUS");
+        String resultMsg = first(params, "resultMsg", "P_RMESG1");
+        String tid = first(params, "tid", "P_TID", "TID", "transactionId");
+        return orderNo + resultCode + resultMsg + tid;
+    }
+
+    private static String first(Map<String, Object> params, String... keys) {
+        for (String key : keys) {
+            Object value = params.get(key);
+            if (value != null) {
+                return value.toString();
+            }
+        }
+        return null;
+    }
+}
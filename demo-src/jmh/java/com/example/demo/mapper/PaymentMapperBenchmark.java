@@ -0,0 +1,53 @@
+package com.example.demo.mapper;
+
+import com.example.demo.dto.InicisResponseDto;
+import com.example.demo.entity.Payment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+
+// 이니시스 승인 결과 -> Payment 변환 벤치마크
+@State(Scope.Benchmark)
+public class PaymentMapperBenchmark {
+
+    private PaymentMapper paymentMapper;
+    private InicisResponseDto inicisResponse;
+
+    @Setup
+    public void setUp() {
+        paymentMapper = new PaymentMapper();
+
+        inicisResponse = new InicisResponseDto();
+        inicisResponse.setResultCode("0000");
+        inicisResponse.setResultMsg("정상처리되었습니다.");
+        inicisResponse.setMid("INIpayTest");
+        inicisResponse.setOid("ORD20250918123456789");
+        inicisResponse.setPrice("15000");
+        inicisResponse.setTid("StdpayCARDINIpayTest20250918123456789012");
+        inicisResponse.setApplDate("20250918");
+        inicisResponse.setApplTime("123456");
+        inicisResponse.setApplNum("30012345");
+        inicisResponse.setCardCode("14");
+        inicisResponse.setCardName("신한");
+        inicisResponse.setCardQuota("00");
+    }
+
+    @Benchmark
+    public LocalDateTime parsePaymentDate() {
+        return paymentMapper.parsePaymentDate(inicisResponse.getApplDate(), inicisResponse.getApplTime());
+    }
+
+    // 승인일시가 잘못 전달된 경우 (파싱 실패 후 현재 시각)
+    @Benchmark
+    public LocalDateTime parsePaymentDateInvalid() {
+        return paymentMapper.parsePaymentDate("2025-09-18", "12:34:56");
+    }
+
+    @Benchmark
+    public Payment toPaymentEntity() {
+        return paymentMapper.toPaymentEntity(inicisResponse);
+    }
+}
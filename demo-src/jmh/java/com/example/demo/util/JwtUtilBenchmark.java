@@ -0,0 +1,61 @@
+package com.example.demo.util;
+
+import com.example.demo.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// JWT 발급/검증 벤치마크
+// validateTokenCached 는 검증 캐시 적중, validateTokenUncached 는 매번 서명 검증/파싱하는 경우
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private User user;
+    private String token;
+    private String uncachedToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = create(10000);
+        // 캐시 크기 0 이면 저장 즉시 제거되어 항상 검증을 다시 한다
+        uncachedJwtUtil = create(0);
+
+        user = new User();
+        user.setId(1024L);
+        user.setEmail("user@example.com");
+        user.setName("홍길동");
+        user.setPhoneNumber("010-1234-5678");
+        user.setPoints(15000);
+        user.setPointsVersion(42L);
+
+        token = jwtUtil.generateToken(user);
+        uncachedToken = uncachedJwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean validateTokenCached() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateTokenUncached() {
+        return uncachedJwtUtil.validateToken(uncachedToken);
+    }
+
+    private static JwtUtil create(int verifiedCacheSize) {
+        JwtUtil util = new JwtUtil();
+        ReflectionTestUtils.setField(util, "expiration", 86400000L);
+        ReflectionTestUtils.setField(util, "verifiedCacheSize", verifiedCacheSize);
+        util.init();
+        return util;
+    }
+}
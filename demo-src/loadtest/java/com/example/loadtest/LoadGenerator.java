@@ -0,0 +1,151 @@
+package com.example.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// 결제 흐름 부하 생성기 (open model)
+// 응답을 기다리지 않고 목표 도착률(arrival-rate)대로 시나리오를 시작하므로, 서버가 느려지면 동시 진행 수가 늘어난다.
+// 워밍업 이후 집계 구간에 도착한 시나리오만 단계별 처리량/오류율/p50~p99.9 지연으로 집계해 JSON 리포트를 남긴다.
+//
+// 실행: ./gradlew runLoadTest -Dloadtest.arrival-rate=50 -Dloadtest.duration-seconds=120
+public class LoadGenerator {
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final LoadTestConfig config;
+    private final PaymentScenarios scenarios;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore inFlight;
+
+    private final AtomicLong scheduled = new AtomicLong();
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private long maxSchedulerLagNanos;
+
+    LoadGenerator(LoadTestConfig config) {
+        this.config = config;
+        this.inFlight = new Semaphore(config.maxInFlight);
+        HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(executor)
+            .build();
+        this.scenarios = new PaymentScenarios(config, httpClient);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.load(args);
+        System.out.println("Load test started: " + config.asMap());
+
+        LoadGenerator generator = new LoadGenerator(config);
+        generator.run();
+
+        Map<String, Object> report = generator.report();
+        Path reportFile = generator.writeReport(report);
+        System.out.println(new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValueAsString(report));
+        System.out.println("Report written to " + reportFile.toAbsolutePath());
+        System.exit(0);
+    }
+
+    void run() throws InterruptedException {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / config.arrivalRate);
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + TimeUnit.SECONDS.toNanos(config.warmupSeconds);
+        long endNanos = measureFromNanos + TimeUnit.SECONDS.toNanos(config.durationSeconds);
+
+        long intendedNanos = startNanos;
+        while (intendedNanos < endNanos) {
+            long waitNanos = intendedNanos - System.nanoTime();
+            if (waitNanos > 0) {
+                LockSupport.parkNanos(waitNanos);
+            } else {
+                // 생성기가 밀리면 늦은 만큼 바로 따라잡는다 (도착률 유지)
+                maxSchedulerLagNanos = Math.max(maxSchedulerLagNanos, -waitNanos);
+            }
+
+            long arrivalNanos = intendedNanos;
+            boolean measured = arrivalNanos >= measureFromNanos;
+            if (measured) {
+                scheduled.incrementAndGet();
+            }
+            if (inFlight.tryAcquire()) {
+                if (measured) {
+                    started.incrementAndGet();
+                }
+                executor.execute(() -> {
+                    try {
+                        scenarios.run(arrivalNanos, measured);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } else if (measured) {
+                dropped.incrementAndGet();
+            }
+
+            intendedNanos += config.poissonArrivals ? nextExponential(intervalNanos) : intervalNanos;
+        }
+
+        // 진행 중인 시나리오 완료 대기 (단계 수 x 요청 타임아웃까지)
+        long drainMs = config.requestTimeoutMs * 3 + 1000;
+        if (!inFlight.tryAcquire(config.maxInFlight, drainMs, TimeUnit.MILLISECONDS)) {
+            System.err.println("Some scenarios did not finish within " + drainMs + "ms: "
+                + (config.maxInFlight - inFlight.availablePermits()) + " in flight");
+        }
+    }
+
+    // 평균 meanNanos 의 지수분포 간격 (Poisson 도착)
+    private static long nextExponential(long meanNanos) {
+        return (long) (-Math.log(1.0 - ThreadLocalRandom.current().nextDouble()) * meanNanos);
+    }
+
+    Map<String, Object> report() {
+        double measuredSeconds = config.durationSeconds;
+
+        Map<String, Object> arrivals = new LinkedHashMap<>();
+        arrivals.put("targetRatePerSec", config.arrivalRate);
+        arrivals.put("scheduled", scheduled.get());
+        arrivals.put("started", started.get());
+        arrivals.put("dropped", dropped.get());
+        arrivals.put("achievedRatePerSec", started.get() / measuredSeconds);
+        arrivals.put("maxSchedulerLagMs", TimeUnit.NANOSECONDS.toMillis(maxSchedulerLagNanos));
+
+        Map<String, Object> steps = new LinkedHashMap<>();
+        scenarios.steps().forEach((name, stats) -> steps.put(name, stats.report(measuredSeconds)));
+        Map<String, Object> scenarioReports = new LinkedHashMap<>();
+        scenarios.scenarios().forEach((name, stats) -> scenarioReports.put(name, stats.report(measuredSeconds)));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", LocalDateTime.now().toString());
+        report.put("config", config.asMap());
+        report.put("arrivals", arrivals);
+        report.put("steps", steps);
+        report.put("scenarios", scenarioReports);
+        return report;
+    }
+
+    private Path writeReport(Map<String, Object> report) throws IOException {
+        Path dir = Path.of(config.reportDir);
+        Files.createDirectories(dir);
+        Path file = dir.resolve("loadtest-" + LocalDateTime.now().format(FILE_TIME) + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), report);
+        return file;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+// 부하 테스트 설정 (loadtest.properties < 인자로 준 .properties 파일 < key=value 인자 < -Dloadtest.*)
+final class LoadTestConfig {
+
+    final String baseUrl;
+    final String inicisAuthUrl;         // /response 콜백에 넣을 authUrl (앱이 pgstub 프로파일이면 inicis.auth.url 로 대체됨)
+    final double arrivalRate;          // 초당 시나리오 시작 수 (open model - 응답을 기다리지 않음)
+    final boolean poissonArrivals;      // true 면 지수분포 간격, false 면 고정 간격
+    final long warmupSeconds;           // 집계에서 제외하는 시작 구간
+    final long durationSeconds;         // 집계 구간
+    final int maxInFlight;              // 생성기 보호용 동시 진행 시나리오 상한 (초과 도착은 dropped 로 집계)
+    final long requestTimeoutMs;
+    final double nicePayRatio;          // 전체 시나리오 중 NICE Pay 승인 시나리오 비율
+    final double refundRatio;           // 이니시스 결제 완료 후 취소까지 진행하는 비율
+    final long userIdFrom;
+    final long userIdTo;
+    final long minAmount;
+    final long maxAmount;
+    final String reportDir;
+
+    private LoadTestConfig(Properties properties) {
+        this.baseUrl = trimSlash(properties.getProperty("loadtest.base-url", "http://localhost:8080"));
+        this.inicisAuthUrl = properties.getProperty("loadtest.inicis-auth-url", "http://localhost:9090/inicis/api/v1/auth");
+        this.arrivalRate = number(properties, "loadtest.arrival-rate", 10);
+        this.poissonArrivals = Boolean.parseBoolean(properties.getProperty("loadtest.poisson-arrivals", "true"));
+        this.warmupSeconds = (long) number(properties, "loadtest.warmup-seconds", 10);
+        this.durationSeconds = (long) number(properties, "loadtest.duration-seconds", 60);
+        this.maxInFlight = (int) number(properties, "loadtest.max-in-flight", 2000);
+        this.requestTimeoutMs = (long) number(properties, "loadtest.request-timeout-ms", 30000);
+        this.nicePayRatio = number(properties, "loadtest.nicepay-ratio", 0.3);
+        this.refundRatio = number(properties, "loadtest.refund-ratio", 0.2);
+        this.userIdFrom = (long) number(properties, "loadtest.user-id-from", 1);
+        this.userIdTo = (long) number(properties, "loadtest.user-id-to", 1);
+        this.minAmount = (long) number(properties, "loadtest.min-amount", 1000);
+        this.maxAmount = (long) number(properties, "loadtest.max-amount", 50000);
+        this.reportDir = properties.getProperty("loadtest.report-dir", "build/reports/loadtest");
+
+        if (arrivalRate <= 0 || durationSeconds <= 0 || userIdTo < userIdFrom || maxAmount < minAmount) {
+            throw new IllegalArgumentException("Invalid load test configuration: " + asMap());
+        }
+    }
+
+    static LoadTestConfig load(String[] args) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = LoadTestConfig.class.getResourceAsStream("/loadtest.properties")) {
+            if (in != null) {
+                properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+            }
+        }
+        for (String arg : args) {
+            if (arg.endsWith(".properties")) {
+                try (Reader reader = Files.newBufferedReader(Path.of(arg), StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                }
+            } else if (arg.contains("=")) {
+                properties.setProperty(arg.substring(0, arg.indexOf('=')).trim(), arg.substring(arg.indexOf('=') + 1).trim());
+            }
+        }
+        System.getProperties().stringPropertyNames().stream()
+            .filter(name -> name.startsWith("loadtest."))
+            .forEach(name -> properties.setProperty(name, System.getProperty(name)));
+        return new LoadTestConfig(properties);
+    }
+
+    // 리포트에 함께 기록할 설정값
+    Map<String, Object> asMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("baseUrl", baseUrl);
+        map.put("inicisAuthUrl", inicisAuthUrl);
+        map.put("arrivalRate", arrivalRate);
+        map.put("poissonArrivals", poissonArrivals);
+        map.put("warmupSeconds", warmupSeconds);
+        map.put("durationSeconds", durationSeconds);
+        map.put("maxInFlight", maxInFlight);
+        map.put("requestTimeoutMs", requestTimeoutMs);
+        map.put("nicePayRatio", nicePayRatio);
+        map.put("refundRatio", refundRatio);
+        map.put("userIdFrom", userIdFrom);
+        map.put("userIdTo", userIdTo);
+        map.put("minAmount", minAmount);
+        map.put("maxAmount", maxAmount);
+        return map;
+    }
+
+    private static double number(Properties properties, String name, double defaultValue) {
+        String value = properties.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value.trim());
+    }
+
+    private static String trimSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+// 결제 시나리오 (한 번의 도착 = 한 명의 구매자)
+// - 이니시스: create-order -> response(authUrl/authToken) -> (일부) refund/order/{orderNo}
+// - NICE Pay: create-order -> nicepay/approve
+// 앞 단계가 실패하면 이후 단계는 진행하지 않는다.
+final class PaymentScenarios {
+
+    static final String CREATE_ORDER = "create_order";
+    static final String INICIS_RESPONSE = "inicis_response";
+    static final String REFUND = "refund";
+    static final String NICEPAY_APPROVE = "nicepay_approve";
+    static final String INICIS_CHECKOUT = "inicis_checkout";
+    static final String NICEPAY_CHECKOUT = "nicepay_checkout";
+
+    private final LoadTestConfig config;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, StepStats> steps = new LinkedHashMap<>();
+    private final Map<String, StepStats> scenarios = new LinkedHashMap<>();
+
+    PaymentScenarios(LoadTestConfig config, HttpClient httpClient) {
+        this.config = config;
+        this.httpClient = httpClient;
+        for (String step : new String[] { CREATE_ORDER, INICIS_RESPONSE, REFUND, NICEPAY_APPROVE }) {
+            steps.put(step, new StepStats(step));
+        }
+        for (String scenario : new String[] { INICIS_CHECKOUT, NICEPAY_CHECKOUT }) {
+            scenarios.put(scenario, new StepStats(scenario));
+        }
+    }
+
+    Map<String, StepStats> steps() {
+        return steps;
+    }
+
+    Map<String, StepStats> scenarios() {
+        return scenarios;
+    }
+
+    // intendedStartNanos: 스케줄상 도착 시각. 생성기 지연(coordinated omission)이 첫 단계/전체 지연에 포함되도록 기준으로 사용
+    void run(long intendedStartNanos, boolean measured) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        boolean nicePay = random.nextDouble() < config.nicePayRatio;
+        StepStats scenario = scenarios.get(nicePay ? NICEPAY_CHECKOUT : INICIS_CHECKOUT);
+
+        long userId = random.nextLong(config.userIdFrom, config.userIdTo + 1);
+        long amount = random.nextLong(config.minAmount / 100, config.maxAmount / 100 + 1) * 100;
+
+        Map<String, Object> orderRequest = new LinkedHashMap<>();
+        orderRequest.put("userId", userId);
+        orderRequest.put("totalAmount", amount);
+        orderRequest.put("pointsUsed", 0);
+        orderRequest.put("cardAmount", amount);
+        Map<String, Object> order = call(CREATE_ORDER, "/api/payment/create-order", orderRequest,
+            intendedStartNanos, measured, body -> body.get("orderNo") != null);
+        if (order == null) {
+            finish(scenario, intendedStartNanos, measured, CREATE_ORDER);
+            return;
+        }
+        String orderNo = order.get("orderNo").toString();
+
+        if (nicePay) {
+            Map<String, Object> authParams = new LinkedHashMap<>();
+            authParams.put("AuthResultCode", "0000");
+            authParams.put("AuthResultMsg", "인증 성공");
+            authParams.put("AuthToken", UUID.randomUUID().toString().replace("-", ""));
+            authParams.put("PayMethod", "CARD");
+            authParams.put("MID", "nicepay00m");
+            authParams.put("Moid", orderNo);
+            authParams.put("Amt", String.valueOf(amount));
+            authParams.put("TxTid", "nicepay00m01012" + System.currentTimeMillis());
+            authParams.put("NextAppURL", "https://webapi.nicepay.co.kr/webapi/pay_process.jsp");
+            authParams.put("NetCancelURL", "https://webapi.nicepay.co.kr/webapi/cancel_process.jsp");
+            authParams.put("Signature", UUID.randomUUID().toString().replace("-", ""));
+            boolean approved = call(NICEPAY_APPROVE, "/api/payment/nicepay/approve", authParams,
+                System.nanoTime(), measured, PaymentScenarios::isSuccess) != null;
+            finish(scenario, intendedStartNanos, measured, approved ? null : NICEPAY_APPROVE);
+            return;
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("resultCode", "0000");
+        response.put("resultMsg", "성공");
+        response.put("mid", "INIpayTest");
+        response.put("orderNumber", orderNo);
+        response.put("authToken", UUID.randomUUID().toString().replace("-", ""));
+        response.put("authUrl", config.inicisAuthUrl);
+        response.put("charset", "UTF-8");
+        if (call(INICIS_RESPONSE, "/api/payment/response", response,
+                 System.nanoTime(), measured, PaymentScenarios::isSuccess) == null) {
+            finish(scenario, intendedStartNanos, measured, INICIS_RESPONSE);
+            return;
+        }
+
+        if (random.nextDouble() < config.refundRatio) {
+            Map<String, Object> refund = Map.of("reason", "부하 테스트 취소", "clientIp", "127.0.0.1");
+            if (call(REFUND, "/api/payment/refund/order/" + orderNo, refund,
+                     System.nanoTime(), measured, PaymentScenarios::isSuccess) == null) {
+                finish(scenario, intendedStartNanos, measured, REFUND);
+                return;
+            }
+        }
+        finish(scenario, intendedStartNanos, measured, null);
+    }
+
+    // 단계 호출 (성공하면 응답 본문, 실패하면 null)
+    private Map<String, Object> call(String step, String path, Map<String, Object> body, long startNanos,
+                                     boolean measured, Predicate<Map<String, Object>> succeeded) {
+        StepStats stats = steps.get(step);
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(config.baseUrl + path))
+                .timeout(Duration.ofMillis(config.requestTimeoutMs))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            long latency = System.nanoTime() - startNanos;
+
+            if (response.statusCode() / 100 != 2) {
+                record(stats, measured, "HTTP_" + response.statusCode(), latency);
+                return null;
+            }
+            Map<String, Object> result = parse(response.body());
+            if (result == null || !succeeded.test(result)) {
+                record(stats, measured, "APP_FAILURE", latency);
+                return null;
+            }
+            record(stats, measured, null, latency);
+            return result;
+        } catch (HttpTimeoutException e) {
+            record(stats, measured, "TIMEOUT", System.nanoTime() - startNanos);
+        } catch (IOException e) {
+            record(stats, measured, "IO_ERROR", System.nanoTime() - startNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> parse(byte[] body) {
+        try {
+            return objectMapper.readValue(body, Map.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static boolean isSuccess(Map<String, Object> body) {
+        return Boolean.TRUE.equals(body.get("success"));
+    }
+
+    // 시나리오 전체 지연 (도착 예정 시각부터), 실패하면 실패한 단계 이름으로 집계
+    private void finish(StepStats scenario, long intendedStartNanos, boolean measured, String failedStep) {
+        record(scenario, measured, failedStep != null ? "FAILED_AT_" + failedStep.toUpperCase() : null,
+               System.nanoTime() - intendedStartNanos);
+    }
+
+    private static void record(StepStats stats, boolean measured, String error, long latencyNanos) {
+        if (!measured) {
+            return;
+        }
+        if (error == null) {
+            stats.recordSuccess(latencyNanos);
+        } else {
+            stats.recordError(error, latencyNanos);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 단계(step)별 처리량/오류/지연 집계
+// 지연은 마이크로초 단위 HdrHistogram 으로 기록 (최대 1시간, 유효숫자 3자리)
+final class StepStats {
+
+    private final String name;
+    private final Histogram latency = new ConcurrentHistogram(TimeUnit.HOURS.toMicros(1), 3);
+    private final LongAdder success = new LongAdder();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    StepStats(String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    void recordSuccess(long latencyNanos) {
+        success.increment();
+        recordLatency(latencyNanos);
+    }
+
+    // error: HTTP_<status>, APP_FAILURE, TIMEOUT, IO_ERROR
+    void recordError(String error, long latencyNanos) {
+        errors.computeIfAbsent(error, key -> new LongAdder()).increment();
+        recordLatency(latencyNanos);
+    }
+
+    private void recordLatency(long latencyNanos) {
+        long micros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+        latency.recordValue(Math.min(micros, latency.getHighestTrackableValue()));
+    }
+
+    Map<String, Object> report(double measuredSeconds) {
+        long succeeded = success.sum();
+        Map<String, Long> errorCounts = new TreeMap<>();
+        errors.forEach((error, counter) -> errorCounts.put(error, counter.sum()));
+        long failed = errorCounts.values().stream().mapToLong(Long::longValue).sum();
+        long total = succeeded + failed;
+
+        Map<String, Object> latencyMs = new LinkedHashMap<>();
+        latencyMs.put("p50", millis(latency.getValueAtPercentile(50.0)));
+        latencyMs.put("p95", millis(latency.getValueAtPercentile(95.0)));
+        latencyMs.put("p99", millis(latency.getValueAtPercentile(99.0)));
+        latencyMs.put("p99_9", millis(latency.getValueAtPercentile(99.9)));
+        latencyMs.put("max", millis(latency.getMaxValue()));
+        latencyMs.put("mean", total > 0 ? Math.round(latency.getMean()) / 1000.0 : 0.0);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("requests", total);
+        report.put("success", succeeded);
+        report.put("errors", errorCounts);
+        report.put("errorRate", total > 0 ? (double) failed / total : 0.0);
+        report.put("throughputPerSec", measuredSeconds > 0 ? total / measuredSeconds : 0.0);
+        report.put("successPerSec", measuredSeconds > 0 ? succeeded / measuredSeconds : 0.0);
+        report.put("latencyMs", latencyMs);
+        return report;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
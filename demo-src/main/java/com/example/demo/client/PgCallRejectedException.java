@@ -0,0 +1,31 @@
+package com.example.demo.client;
+
+import org.springframework.web.client.RestClientException;
+
+// PG 호출을 보내지 않고 거절한 경우 (circuit OPEN 또는 동시 호출 수 초과)
+// 호출부는 기존 통신 실패(RestClientException)와 같은 경로로 처리한다.
+public class PgCallRejectedException extends RestClientException {
+
+    public enum Reason {
+        CIRCUIT_OPEN, BULKHEAD_FULL
+    }
+
+    private static final long serialVersionUID = 1L;
+
+    private final PgOperation operation;
+    private final Reason reason;
+
+    public PgCallRejectedException(PgOperation operation, Reason reason) {
+        super("PG call rejected - operation: " + operation.getKey() + ", reason: " + reason);
+        this.operation = operation;
+        this.reason = reason;
+    }
+
+    public PgOperation getOperation() {
+        return operation;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+}
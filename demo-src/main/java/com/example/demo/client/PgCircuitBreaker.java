@@ -0,0 +1,150 @@
+package com.example.demo.client;
+
+// PG 기능별 circuit breaker (최근 N건 기준)
+// CLOSED: 최근 호출의 실패율/지연 호출 비율이 기준을 넘으면 OPEN
+// OPEN: openDuration 동안 호출하지 않고 바로 거절, 이후 HALF_OPEN
+// HALF_OPEN: 시험 호출 몇 건만 허용해 결과가 기준 이하면 CLOSED, 아니면 다시 OPEN
+// 상태가 바뀌기 전에 시작한 호출의 결과는 새 상태 판단에 섞이지 않도록 generation 으로 구분한다.
+final class PgCircuitBreaker {
+
+    enum State {
+        CLOSED(0), OPEN(1), HALF_OPEN(2);
+
+        // 메트릭 값 (pg.client.circuit.state)
+        final int code;
+
+        State(int code) {
+            this.code = code;
+        }
+    }
+
+    // 호출 거절 시 tryAcquire 반환값
+    static final long REJECTED = -1;
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int halfOpenCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+
+    // 최근 호출 결과 (ring buffer)
+    private final boolean[] failures;
+    private final boolean[] slowCalls;
+    private int next;
+    private int recorded;
+    private int failureCount;
+    private int slowCount;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAt;
+    private int halfOpenAdmitted;
+    private long openCount;
+
+    PgCircuitBreaker(int windowSize, int minimumCalls, int halfOpenCalls, double failureRateThreshold,
+                     double slowCallRateThreshold, long slowCallNanos, long openNanos) {
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.halfOpenCalls = Math.min(halfOpenCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallNanos = slowCallNanos;
+        this.openNanos = openNanos;
+        this.failures = new boolean[windowSize];
+        this.slowCalls = new boolean[windowSize];
+    }
+
+    // 호출 허용 여부 (허용하면 onResult 에 넘길 generation, 아니면 REJECTED)
+    synchronized long tryAcquire(long now) {
+        if (state == State.OPEN) {
+            if (now - openedAt < openNanos) {
+                return REJECTED;
+            }
+            transitionTo(State.HALF_OPEN, now);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenAdmitted >= halfOpenCalls) {
+                return REJECTED;
+            }
+            halfOpenAdmitted++;
+        }
+        return generation;
+    }
+
+    // 허용됐지만 호출하지 않은 경우 (bulkhead 초과 등) HALF_OPEN 시험 호출 자리 반환
+    synchronized void release(long permit) {
+        if (permit == generation && state == State.HALF_OPEN) {
+            halfOpenAdmitted--;
+        }
+    }
+
+    synchronized void onResult(long permit, boolean failed, long durationNanos, long now) {
+        if (permit != generation || state == State.OPEN) {
+            return;
+        }
+        record(failed, durationNanos >= slowCallNanos);
+
+        if (state == State.HALF_OPEN) {
+            if (recorded >= halfOpenCalls) {
+                transitionTo(exceedsThreshold() ? State.OPEN : State.CLOSED, now);
+            }
+        } else if (recorded >= minimumCalls && exceedsThreshold()) {
+            transitionTo(State.OPEN, now);
+        }
+    }
+
+    synchronized State getState() {
+        return state;
+    }
+
+    synchronized long getOpenCount() {
+        return openCount;
+    }
+
+    synchronized double getFailureRate() {
+        return recorded > 0 ? 100.0 * failureCount / recorded : 0.0;
+    }
+
+    synchronized double getSlowCallRate() {
+        return recorded > 0 ? 100.0 * slowCount / recorded : 0.0;
+    }
+
+    synchronized int getRecordedCalls() {
+        return recorded;
+    }
+
+    private boolean exceedsThreshold() {
+        return 100.0 * failureCount / recorded >= failureRateThreshold
+            || 100.0 * slowCount / recorded >= slowCallRateThreshold;
+    }
+
+    private void record(boolean failed, boolean slow) {
+        if (recorded == windowSize) {
+            if (failures[next]) failureCount--;
+            if (slowCalls[next]) slowCount--;
+        } else {
+            recorded++;
+        }
+        failures[next] = failed;
+        slowCalls[next] = slow;
+        if (failed) failureCount++;
+        if (slow) slowCount++;
+        next = (next + 1) % windowSize;
+    }
+
+    private void transitionTo(State newState, long now) {
+        state = newState;
+        generation++;
+        halfOpenAdmitted = 0;
+        next = 0;
+        recorded = 0;
+        failureCount = 0;
+        slowCount = 0;
+        if (newState == State.OPEN) {
+            openedAt = now;
+            openCount++;
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package com.example.demo.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// PG사(이니시스, NICE Pay) 호출 전용 HTTP 클라이언트
+// 호스트별 커넥션 풀 + keep-alive 로 PG 호출마다 TCP/TLS 핸드셰이크를 하지 않도록 한다.
+// 기능별 bulkhead(동시 호출 수 제한)와 circuit breaker 로 PG 한 곳이 느려져도
+// 요청 스레드가 모두 PG 응답 대기에 묶이지 않도록 한다.
+// DB 트랜잭션 안에서 호출되면 (PG 응답을 기다리는 동안 DB 커넥션을 잡고 있으므로) 경고 로그와 pg.client.in-transaction 메트릭을 남긴다.
+@Component
+public class PgHttpClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(PgHttpClient.class);
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PgWireTrace wireTrace;
+
+    @Value("${pg.http.max-total:200}")
+    private int maxTotal;
+
+    @Value("${pg.http.max-per-host:50}")
+    private int maxPerHost;
+
+    @Value("${pg.http.keep-alive-ms:30000}")
+    private long keepAliveMs;
+
+    @Value("${pg.http.idle-evict-ms:60000}")
+    private long idleEvictMs;
+
+    @Value("${pg.http.connection-ttl-ms:300000}")
+    private long connectionTtlMs;
+
+    @Value("${pg.http.connection-request-timeout-ms:1000}")
+    private long connectionRequestTimeoutMs;
+
+    @Value("${pg.http.connect-timeout-ms:3000}")
+    private long defaultConnectTimeoutMs;
+
+    @Value("${pg.http.read-timeout-ms:10000}")
+    private long defaultReadTimeoutMs;
+
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private final Map<PgOperation, RestTemplate> restTemplates = new EnumMap<>(PgOperation.class);
+    private final Map<PgOperation, Semaphore> bulkheads = new EnumMap<>(PgOperation.class);
+    private final Map<PgOperation, Long> bulkheadWaitMs = new EnumMap<>(PgOperation.class);
+    private final Map<PgOperation, Integer> bulkheadLimits = new EnumMap<>(PgOperation.class);
+    private final Map<PgOperation, PgCircuitBreaker> circuitBreakers = new EnumMap<>(PgOperation.class);
+    private final Map<PgOperation, AtomicLong> callsInTransaction = new EnumMap<>(PgOperation.class);
+
+    @PostConstruct
+    public void init() {
+        connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxTotal)
+            .setMaxConnPerRoute(maxPerHost)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(defaultConnectTimeoutMs))
+                .setTimeToLive(TimeValue.ofMilliseconds(connectionTtlMs))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build())
+            .build();
+
+        httpClient = HttpClients.custom()
+            .setConnectionManager(connectionManager)
+            // 서버가 Keep-Alive 헤더를 주지 않으면 이 시간 동안 커넥션 재사용
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionKeepAlive(TimeValue.ofMilliseconds(keepAliveMs))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(idleEvictMs))
+            .build();
+
+        // 기능별로 타임아웃이 다르므로 RestTemplate 을 나누되 커넥션 풀은 공유
+        for (PgOperation operation : PgOperation.values()) {
+            long connectTimeoutMs = timeoutProperty(operation, "connect-timeout-ms", defaultConnectTimeoutMs);
+            long readTimeoutMs = timeoutProperty(operation, "read-timeout-ms", defaultReadTimeoutMs);
+
+            HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(httpClient);
+            requestFactory.setConnectTimeout(Duration.ofMillis(connectTimeoutMs));
+            requestFactory.setConnectionRequestTimeout(Duration.ofMillis(connectionRequestTimeoutMs));
+            requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+            restTemplates.put(operation, new RestTemplate(requestFactory));
+            logger.info("PG HTTP client configured - operation: {}, connectTimeout: {}ms, readTimeout: {}ms",
+                       operation, connectTimeoutMs, readTimeoutMs);
+
+            initResilience(operation);
+        }
+
+        // 커넥션 풀 사용 현황 (풀 고갈로 인한 대기 확인용)
+        Gauge.builder("pg.client.pool.leased", connectionManager, manager -> manager.getTotalStats().getLeased())
+            .register(meterRegistry);
+        Gauge.builder("pg.client.pool.pending", connectionManager, manager -> manager.getTotalStats().getPending())
+            .register(meterRegistry);
+        Gauge.builder("pg.client.pool.available", connectionManager, manager -> manager.getTotalStats().getAvailable())
+            .register(meterRegistry);
+    }
+
+    // 기능별 bulkhead / circuit breaker 구성 (pg.resilience.<operation>.<name>, 없으면 pg.resilience.<name>)
+    private void initResilience(PgOperation operation) {
+        int maxConcurrentCalls = resilienceProperty(operation, "max-concurrent-calls", Integer.class, 20);
+        long maxWaitMs = resilienceProperty(operation, "max-wait-ms", Long.class, 100L);
+        Semaphore bulkhead = new Semaphore(maxConcurrentCalls);
+        bulkheads.put(operation, bulkhead);
+        bulkheadLimits.put(operation, maxConcurrentCalls);
+        bulkheadWaitMs.put(operation, maxWaitMs);
+
+        long slowCallMs = resilienceProperty(operation, "slow-call-duration-ms", Long.class, 5000L);
+        long openMs = resilienceProperty(operation, "open-duration-ms", Long.class, 30000L);
+        PgCircuitBreaker circuitBreaker = new PgCircuitBreaker(
+            resilienceProperty(operation, "sliding-window-size", Integer.class, 50),
+            resilienceProperty(operation, "minimum-calls", Integer.class, 20),
+            resilienceProperty(operation, "half-open-calls", Integer.class, 5),
+            resilienceProperty(operation, "failure-rate-threshold", Double.class, 50.0),
+            resilienceProperty(operation, "slow-call-rate-threshold", Double.class, 80.0),
+            TimeUnit.MILLISECONDS.toNanos(slowCallMs),
+            TimeUnit.MILLISECONDS.toNanos(openMs));
+        circuitBreakers.put(operation, circuitBreaker);
+        callsInTransaction.put(operation, new AtomicLong());
+
+        Gauge.builder("pg.client.bulkhead.in-use", bulkhead, semaphore -> maxConcurrentCalls - semaphore.availablePermits())
+            .description("PG 기능별 진행 중인 호출 수")
+            .tag("provider", operation.getProvider())
+            .tag("operation", operation.getKey())
+            .register(meterRegistry);
+        Gauge.builder("pg.client.circuit.state", circuitBreaker, breaker -> breaker.getState().code)
+            .description("PG circuit 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+            .tag("provider", operation.getProvider())
+            .tag("operation", operation.getKey())
+            .register(meterRegistry);
+
+        logger.info("PG resilience configured - operation: {}, maxConcurrentCalls: {}, maxWait: {}ms, slowCall: {}ms, open: {}ms",
+                   operation, maxConcurrentCalls, maxWaitMs, slowCallMs, openMs);
+    }
+
+    @PreDestroy
+    public void close() {
+        httpClient.close(CloseMode.GRACEFUL);
+    }
+
+    // PG사 API POST 호출 (PG사/기능/HTTP 상태별 소요 시간 기록: pg.client.requests)
+    // circuit 이 열려 있거나 동시 호출 수를 넘으면 호출하지 않고 PgCallRejectedException
+    public ResponseEntity<String> post(PgOperation operation, String url, HttpEntity<?> request) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            flagCallInTransaction(operation);
+        }
+        PgCircuitBreaker circuitBreaker = circuitBreakers.get(operation);
+        long permit = circuitBreaker.tryAcquire(System.nanoTime());
+        if (permit == PgCircuitBreaker.REJECTED) {
+            throw reject(operation, PgCallRejectedException.Reason.CIRCUIT_OPEN);
+        }
+        Semaphore bulkhead = bulkheads.get(operation);
+        if (!acquire(bulkhead, bulkheadWaitMs.get(operation))) {
+            circuitBreaker.release(permit);
+            throw reject(operation, PgCallRejectedException.Reason.BULKHEAD_FULL);
+        }
+
+        long start = System.nanoTime();
+        String status = "IO_ERROR";
+        int statusCode = 0;
+        String responseBody = null;
+        RuntimeException error = null;
+        // 통신 오류와 5xx 만 PG 장애로 보고 실패율에 포함 (4xx 는 요청 문제)
+        boolean failed = true;
+        try {
+            ResponseEntity<String> response = restTemplates.get(operation).postForEntity(url, request, String.class);
+            statusCode = response.getStatusCode().value();
+            responseBody = response.getBody();
+            status = String.valueOf(statusCode);
+            failed = response.getStatusCode().is5xxServerError();
+            return response;
+        } catch (RestClientResponseException e) {
+            statusCode = e.getStatusCode().value();
+            responseBody = e.getResponseBodyAsString();
+            status = String.valueOf(statusCode);
+            failed = e.getStatusCode().is5xxServerError();
+            error = e;
+            throw e;
+        } catch (RuntimeException e) {
+            error = e;
+            throw e;
+        } finally {
+            bulkhead.release();
+            long end = System.nanoTime();
+            circuitBreaker.onResult(permit, failed, end - start, end);
+            Timer.builder("pg.client.requests")
+                .description("PG사 API 호출 시간")
+                .tag("provider", operation.getProvider())
+                .tag("operation", operation.getKey())
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(end - start, TimeUnit.NANOSECONDS);
+            // 원문은 참조만 남기고 렌더링은 TRACE / 조회 시에만
+            wireTrace.record(operation, url, request.getBody(), statusCode, responseBody, end - start, error);
+        }
+    }
+
+    private boolean acquire(Semaphore bulkhead, long waitMs) {
+        try {
+            return waitMs > 0 ? bulkhead.tryAcquire(waitMs, TimeUnit.MILLISECONDS) : bulkhead.tryAcquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 트랜잭션 안의 PG 호출 감시 (호출은 그대로 진행)
+    private void flagCallInTransaction(PgOperation operation) {
+        callsInTransaction.get(operation).incrementAndGet();
+        Counter.builder("pg.client.in-transaction")
+            .description("DB 트랜잭션 안에서 보낸 PG 요청 수")
+            .tag("provider", operation.getProvider())
+            .tag("operation", operation.getKey())
+            .register(meterRegistry)
+            .increment();
+        logger.warn("PG call inside an open DB transaction - operation: {}, transaction: {}",
+                   operation, TransactionSynchronizationManager.getCurrentTransactionName());
+    }
+
+    private PgCallRejectedException reject(PgOperation operation, PgCallRejectedException.Reason reason) {
+        Counter.builder("pg.client.rejected")
+            .description("호출하지 않고 거절한 PG 요청 수")
+            .tag("provider", operation.getProvider())
+            .tag("operation", operation.getKey())
+            .tag("reason", reason.name())
+            .register(meterRegistry)
+            .increment();
+        logger.warn("PG call rejected - operation: {}, reason: {}", operation, reason);
+        return new PgCallRejectedException(operation, reason);
+    }
+
+    // 기능별 circuit 상태 / bulkhead 사용 현황 / 트랜잭션 안에서 보낸 호출 수
+    public Map<String, Object> getResilienceStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (PgOperation operation : PgOperation.values()) {
+            PgCircuitBreaker circuitBreaker = circuitBreakers.get(operation);
+            int limit = bulkheadLimits.get(operation);
+            Map<String, Object> operationStats = new LinkedHashMap<>();
+            operationStats.put("circuitState", circuitBreaker.getState().name());
+            operationStats.put("failureRate", circuitBreaker.getFailureRate());
+            operationStats.put("slowCallRate", circuitBreaker.getSlowCallRate());
+            operationStats.put("recordedCalls", circuitBreaker.getRecordedCalls());
+            operationStats.put("openCount", circuitBreaker.getOpenCount());
+            operationStats.put("inUse", limit - bulkheads.get(operation).availablePermits());
+            operationStats.put("maxConcurrentCalls", limit);
+            operationStats.put("callsInTransaction", callsInTransaction.get(operation).get());
+            stats.put(operation.getKey(), operationStats);
+        }
+        return stats;
+    }
+
+    // 커넥션 풀 사용 현황 (전체 + 호스트별)
+    public Map<String, Object> getPoolStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("total", toMap(connectionManager.getTotalStats()));
+
+        Map<String, Object> perHost = new LinkedHashMap<>();
+        for (HttpRoute route : connectionManager.getRoutes()) {
+            perHost.put(route.getTargetHost().toURI(), toMap(connectionManager.getStats(route)));
+        }
+        stats.put("hosts", perHost);
+        return stats;
+    }
+
+    public PoolStats getTotalPoolStats() {
+        return connectionManager.getTotalStats();
+    }
+
+    private Map<String, Object> toMap(PoolStats poolStats) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("leased", poolStats.getLeased());
+        map.put("available", poolStats.getAvailable());
+        map.put("pending", poolStats.getPending());
+        map.put("max", poolStats.getMax());
+        return map;
+    }
+
+    private long timeoutProperty(PgOperation operation, String name, long defaultValue) {
+        return environment.getProperty("pg.http." + operation.getKey() + "." + name, Long.class, defaultValue);
+    }
+
+    private <T> T resilienceProperty(PgOperation operation, String name, Class<T> type, T defaultValue) {
+        T value = environment.getProperty("pg.resilience." + operation.getKey() + "." + name, type);
+        return value != null ? value : environment.getProperty("pg.resilience." + name, type, defaultValue);
+    }
+}
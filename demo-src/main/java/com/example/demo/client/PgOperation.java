@@ -0,0 +1,26 @@
+package com.example.demo.client;
+
+// PG사 외부 호출 구분 (PG사별/기능별 타임아웃 설정 단위)
+public enum PgOperation {
+    INICIS_AUTH_APPROVAL("INICIS", "inicis-auth-approval"),
+    INICIS_APPROVAL("INICIS", "inicis-approval"),
+    INICIS_REFUND("INICIS", "inicis-refund"),
+    NICEPAY_CANCEL("NICEPAY", "nicepay-cancel");
+
+    private final String provider;
+    private final String key;
+
+    PgOperation(String provider, String key) {
+        this.provider = provider;
+        this.key = key;
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    // 설정 키 (pg.http.<key>.connect-timeout-ms 등)
+    public String getKey() {
+        return key;
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.demo.client;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+// PG사(이니시스, NICE Pay) 요청 서명/해시 생성
+// 콜백 하나에 해시를 여러 번 계산하므로 스레드별 MessageDigest 와 버퍼를 재사용하고,
+// 키에서 파생되는 고정 값(mKey, 고정 문자열 바이트)은 시작 시 한 번만 만든다.
+@Component
+public class PgSigner {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private static final byte[] OID = ascii("oid=");
+    private static final byte[] PRICE = ascii("&price=");
+    private static final byte[] TIMESTAMP = ascii("&timestamp=");
+    private static final byte[] AUTH_TOKEN = ascii("authToken=");
+
+    private static final ThreadLocal<DigestState> STATE = ThreadLocal.withInitial(DigestState::new);
+
+    @Value("${inicis.mid}")
+    private String inicisMid;
+
+    @Value("${inicis.sign-key}")
+    private String inicisSignKey;
+
+    @Value("${inicis.api-key}")
+    private String inicisApiKey;
+
+    private String mKey;
+    // "&signKey=" + signKey + "&timestamp="
+    private byte[] signKeyAndTimestamp;
+    // INIAPIKey + mid + "refund"
+    private byte[] refundHashPrefix;
+
+    @PostConstruct
+    public void init() {
+        mKey = sha256Hex(inicisSignKey);
+        signKeyAndTimestamp = ("&signKey=" + inicisSignKey + "&timestamp=").getBytes(StandardCharsets.UTF_8);
+        refundHashPrefix = (inicisApiKey + inicisMid + "refund").getBytes(StandardCharsets.UTF_8);
+    }
+
+    public String getInicisMid() {
+        return inicisMid;
+    }
+
+    // mKey (signKey 의 SHA256 해시)
+    public String getMKey() {
+        return mKey;
+    }
+
+    // 승인 요청 서명: SHA256(oid=..&price=..&timestamp=..)
+    public String inicisSignature(String oid, String price, String timestamp) {
+        DigestState state = STATE.get();
+        MessageDigest digest = state.sha256;
+        digest.update(OID);
+        state.update(digest, oid);
+        digest.update(PRICE);
+        state.update(digest, price);
+        digest.update(TIMESTAMP);
+        state.update(digest, timestamp);
+        return state.finish(digest);
+    }
+
+    // 승인 요청 검증 값: SHA256(oid=..&price=..&signKey=..&timestamp=..)
+    public String inicisVerification(String oid, String price, String timestamp) {
+        DigestState state = STATE.get();
+        MessageDigest digest = state.sha256;
+        digest.update(OID);
+        state.update(digest, oid);
+        digest.update(PRICE);
+        state.update(digest, price);
+        digest.update(signKeyAndTimestamp);
+        state.update(digest, timestamp);
+        return state.finish(digest);
+    }
+
+    // 인증 결과 승인 요청 서명 (NVP): SHA256(authToken=..&timestamp=..)
+    public String inicisAuthSignature(String authToken, String timestamp) {
+        DigestState state = STATE.get();
+        MessageDigest digest = state.sha256;
+        digest.update(AUTH_TOKEN);
+        state.update(digest, authToken);
+        digest.update(TIMESTAMP);
+        state.update(digest, timestamp);
+        return state.finish(digest);
+    }
+
+    // 인증 결과 승인 요청 검증 값 (NVP): SHA256(authToken=..&signKey=..&timestamp=..)
+    public String inicisAuthVerification(String authToken, String timestamp) {
+        DigestState state = STATE.get();
+        MessageDigest digest = state.sha256;
+        digest.update(AUTH_TOKEN);
+        state.update(digest, authToken);
+        digest.update(signKeyAndTimestamp);
+        state.update(digest, timestamp);
+        return state.finish(digest);
+    }
+
+    // 취소 API hashData: SHA512(INIAPIKey + mid + "refund" + timestamp + data JSON)
+    public String inicisRefundHash(String timestamp, String dataJson) {
+        DigestState state = STATE.get();
+        MessageDigest digest = state.sha512;
+        digest.update(refundHashPrefix);
+        state.update(digest, timestamp);
+        state.update(digest, dataJson);
+        return state.finish(digest);
+    }
+
+    // NICE Pay 서명: SHA256(AuthToken + MID + Amt + MerchantKey)
+    public String nicePaySignature(String authToken, String mid, String amt, String merchantKey) {
+        DigestState state = STATE.get();
+        MessageDigest digest = state.sha256;
+        state.update(digest, authToken);
+        state.update(digest, mid);
+        state.update(digest, amt);
+        state.update(digest, merchantKey);
+        return state.finish(digest);
+    }
+
+    public String sha256Hex(String input) {
+        DigestState state = STATE.get();
+        state.update(state.sha256, input);
+        return state.finish(state.sha256);
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    // 스레드별 digest 와 입력/출력 버퍼
+    private static class DigestState {
+        private final MessageDigest sha256;
+        private final MessageDigest sha512;
+        private final byte[] hash = new byte[64];
+        private final char[] hex = new char[128];
+        private byte[] input = new byte[256];
+
+        private DigestState() {
+            try {
+                sha256 = MessageDigest.getInstance("SHA-256");
+                sha512 = MessageDigest.getInstance("SHA-512");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        // 문자열을 UTF-8 로 digest 에 추가 (ASCII 는 버퍼에 직접 복사, 그 외 문자가 있으면 getBytes)
+        private void update(MessageDigest digest, String value) {
+            if (value == null) {
+                value = "null";
+            }
+            int length = value.length();
+            if (input.length < length) {
+                input = new byte[Math.max(length, input.length * 2)];
+            }
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c >= 0x80) {
+                    digest.update(input, 0, i);
+                    digest.update(value.substring(i).getBytes(StandardCharsets.UTF_8));
+                    return;
+                }
+                input[i] = (byte) c;
+            }
+            digest.update(input, 0, length);
+        }
+
+        // 해시를 계산하고 (digest 는 초기화됨) 소문자 hex 문자열로 반환
+        private String finish(MessageDigest digest) {
+            int length;
+            try {
+                length = digest.digest(hash, 0, hash.length);
+            } catch (DigestException e) {
+                throw new IllegalStateException(e);
+            }
+            for (int i = 0; i < length; i++) {
+                int b = hash[i] & 0xff;
+                hex[i * 2] = HEX[b >>> 4];
+                hex[i * 2 + 1] = HEX[b & 0x0f];
+            }
+            return new String(hex, 0, length * 2);
+        }
+    }
+}
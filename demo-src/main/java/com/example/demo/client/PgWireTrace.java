@@ -0,0 +1,209 @@
+package com.example.demo.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// PG 요청/응답 원문 추적 (wire trace)
+// 호출 시점에는 요청 객체와 응답 문자열 참조만 최근 N건 ring buffer 에 남기고,
+// JSON 변환/마스킹은 pg.wire 로거가 TRACE 일 때나 관리자 조회 시에만 한다.
+// PG사별 sample-rate 비율만큼만 기록 (pg.wire-trace.<provider>.sample-rate, 없으면 pg.wire-trace.sample-rate, 기본 0 - 기록 안 함)
+// 서명/비밀번호, 구매자 연락처, 카드번호는 가리고 TID 는 끝 4자리만 남긴다.
+@Component
+public class PgWireTrace {
+
+    private static final Logger wireLogger = LoggerFactory.getLogger("pg.wire");
+
+    // 원문에 남기지 않을 서명/비밀번호/개인정보/카드 필드 (소문자 비교)
+    private static final Set<String> MASKED_KEYS = Set.of(
+        "signature", "verification", "hashdata", "cancelpwd", "authtoken", "signkey", "signdata",
+        "buyername", "buyeremail", "buyertel", "buyerhp", "buyeraddr", "p_uname", "p_email", "p_mobile",
+        "card_num", "cardnum", "cardno", "card_no", "p_card_num", "p_card_no", "card_bincode", "p_card_bincode");
+    // 키 이름에 들어 있으면 가리는 개인정보/카드 필드 (PG사별 표기 차이 대응)
+    private static final List<String> MASKED_KEY_PARTS = List.of("email", "phone", "mobile", "cardnum", "card_num");
+    // 끝 4자리만 남기는 거래 식별자
+    private static final Set<String> PARTIAL_KEYS = Set.of("tid", "p_tid", "prtctid", "canceltid");
+    private static final int MAX_BODY_LENGTH = 4000;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${pg.wire-trace.buffer-size:200}")
+    private int bufferSize;
+
+    private AtomicReferenceArray<Exchange> buffer;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong logged = new AtomicLong();
+    private final Map<PgOperation, Double> sampleRates = new EnumMap<>(PgOperation.class);
+
+    // 기록한 PG 호출 1건 (렌더링 전 원본 참조)
+    record Exchange(long sequence, long timestamp, PgOperation operation, String url, Object request,
+                    int status, String response, long elapsedNanos, String error) {
+    }
+
+    @PostConstruct
+    public void init() {
+        buffer = new AtomicReferenceArray<>(Math.max(1, bufferSize));
+        double defaultRate = environment.getProperty("pg.wire-trace.sample-rate", Double.class, 0.0);
+        for (PgOperation operation : PgOperation.values()) {
+            String provider = operation.getProvider().toLowerCase(Locale.ROOT);
+            sampleRates.put(operation, environment.getProperty(
+                "pg.wire-trace." + provider + ".sample-rate", Double.class, defaultRate));
+        }
+    }
+
+    // PgHttpClient 호출 1건 기록 (status 는 응답이 없으면 0)
+    public void record(PgOperation operation, String url, Object request, int status, String response,
+                       long elapsedNanos, Throwable error) {
+        double rate = sampleRates.get(operation);
+        if (rate <= 0 || (rate < 1 && ThreadLocalRandom.current().nextDouble() >= rate)) {
+            skipped.incrementAndGet();
+            return;
+        }
+
+        long seq = sequence.incrementAndGet();
+        Exchange exchange = new Exchange(seq, System.currentTimeMillis(), operation, url, request, status, response,
+            elapsedNanos, error != null ? error.getClass().getSimpleName() + ": " + error.getMessage() : null);
+        buffer.set((int) (seq % buffer.length()), exchange);
+
+        if (wireLogger.isTraceEnabled()) {
+            logged.incrementAndGet();
+            wireLogger.trace("{} {} status={} {}ms{}\nrequest: {}\nresponse: {}",
+                operation.getKey(), url, status, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                exchange.error() != null ? " error=" + exchange.error() : "",
+                pretty(renderRequest(request)), pretty(renderResponse(response)));
+        }
+    }
+
+    // 최근 기록 (최신순, provider 로 PG사 필터)
+    public List<Map<String, Object>> recent(int limit, String provider) {
+        List<Map<String, Object>> exchanges = new ArrayList<>();
+        long last = sequence.get();
+        for (long seq = last; seq > 0 && seq > last - buffer.length() && exchanges.size() < limit; seq--) {
+            Exchange exchange = buffer.get((int) (seq % buffer.length()));
+            // 조회 중 덮어쓴 슬롯은 건너뜀
+            if (exchange == null || exchange.sequence() != seq) {
+                continue;
+            }
+            if (provider != null && !provider.equalsIgnoreCase(exchange.operation().getProvider())) {
+                continue;
+            }
+            exchanges.add(toMap(exchange));
+        }
+        return exchanges;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("bufferSize", buffer.length());
+        stats.put("recorded", sequence.get());
+        stats.put("skipped", skipped.get());
+        stats.put("logged", logged.get());
+        stats.put("traceEnabled", wireLogger.isTraceEnabled());
+        Map<String, Object> rates = new LinkedHashMap<>();
+        sampleRates.forEach((operation, rate) -> rates.put(operation.getKey(), rate));
+        stats.put("sampleRates", rates);
+        return stats;
+    }
+
+    private Map<String, Object> toMap(Exchange exchange) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("sequence", exchange.sequence());
+        map.put("timestamp", Instant.ofEpochMilli(exchange.timestamp()).toString());
+        map.put("provider", exchange.operation().getProvider());
+        map.put("operation", exchange.operation().getKey());
+        map.put("url", exchange.url());
+        map.put("status", exchange.status());
+        map.put("elapsedMs", TimeUnit.NANOSECONDS.toMillis(exchange.elapsedNanos()));
+        map.put("request", renderRequest(exchange.request()));
+        map.put("response", renderResponse(exchange.response()));
+        if (exchange.error() != null) {
+            map.put("error", exchange.error());
+        }
+        return map;
+    }
+
+    // 요청 본문 (form 은 단일 값이면 값만, JSON 은 Map 그대로) + 서명 필드 마스킹
+    private Object renderRequest(Object request) {
+        if (request instanceof MultiValueMap<?, ?> form) {
+            Map<String, Object> rendered = new LinkedHashMap<>();
+            form.forEach((key, values) -> rendered.put(String.valueOf(key),
+                mask(String.valueOf(key), values.size() == 1 ? values.get(0) : values)));
+            return rendered;
+        }
+        return mask(null, request);
+    }
+
+    // 응답 본문 (JSON 이면 파싱해서 마스킹, 아니면 앞부분만)
+    private Object renderResponse(String response) {
+        if (response == null || response.isBlank()) {
+            return response;
+        }
+        String trimmed = response.trim();
+        if (trimmed.startsWith("{") || trimmed.startsWith("[")) {
+            try {
+                return mask(null, objectMapper.readValue(trimmed, Object.class));
+            } catch (Exception e) {
+                // JSON 이 아니면 원문 그대로
+            }
+        }
+        return trimmed.length() > MAX_BODY_LENGTH ? trimmed.substring(0, MAX_BODY_LENGTH) + "..." : trimmed;
+    }
+
+    private Object mask(String key, Object value) {
+        if (key != null && value != null && !(value instanceof Map<?, ?>) && !(value instanceof Collection<?>)) {
+            String lowerKey = key.toLowerCase(Locale.ROOT);
+            if (MASKED_KEYS.contains(lowerKey) || MASKED_KEY_PARTS.stream().anyMatch(lowerKey::contains)) {
+                return "***";
+            }
+            if (PARTIAL_KEYS.contains(lowerKey)) {
+                String text = String.valueOf(value);
+                return text.length() <= 4 ? "***" : "***" + text.substring(text.length() - 4);
+            }
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> masked = new LinkedHashMap<>();
+            map.forEach((k, v) -> masked.put(String.valueOf(k), mask(String.valueOf(k), v)));
+            return masked;
+        }
+        if (value instanceof Collection<?> collection) {
+            List<Object> masked = new ArrayList<>(collection.size());
+            // 같은 키의 여러 값도 키 기준으로 마스킹
+            collection.forEach(item -> masked.add(mask(key, item)));
+            return masked;
+        }
+        return value;
+    }
+
+    private String pretty(Object value) {
+        try {
+            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(value);
+        } catch (Exception e) {
+            return String.valueOf(value);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.demo.config;
+
+import com.example.demo.util.JwtClaims;
+import com.example.demo.util.JwtUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+// Authorization: Bearer 토큰을 검증해 SecurityContext 를 채우는 필터
+// 토큰 클레임만으로 인증 정보를 만들고 사용자 테이블은 조회하지 않는다.
+// 토큰이 없거나 유효하지 않으면 인증 없이 다음 필터로 넘긴다 (접근 제어는 SecurityConfig 에서).
+// 운영자로 지정된 사용자(payment.operator-user-ids)에게는 ROLE_OPERATOR 권한을 준다.
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    static final String OPERATOR_ROLE = "OPERATOR";
+
+    private static final List<SimpleGrantedAuthority> OPERATOR_AUTHORITIES =
+        List.of(new SimpleGrantedAuthority("ROLE_" + OPERATOR_ROLE));
+
+    private final JwtUtil jwtUtil;
+    private final Set<Long> operatorUserIds;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, Set<Long> operatorUserIds) {
+        this.jwtUtil = jwtUtil;
+        this.operatorUserIds = operatorUserIds;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader != null && authHeader.startsWith(BEARER_PREFIX)) {
+            Optional<JwtClaims> claims = jwtUtil.verify(authHeader.substring(BEARER_PREFIX.length()));
+            if (claims.isPresent()) {
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                    claims.get(), null, operatorUserIds.contains(claims.get().getUserId()) ? OPERATOR_AUTHORITIES : List.of());
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
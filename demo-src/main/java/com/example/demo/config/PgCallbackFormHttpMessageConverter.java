@@ -0,0 +1,50 @@
+package com.example.demo.config;
+
+import com.example.demo.dto.InicisCallback;
+import com.example.demo.dto.NicePayCallback;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+// PG 가 form(application/x-www-form-urlencoded)으로 보내는 콜백을 @RequestBody 콜백 record 로 바로 바인딩
+// (JSON 본문은 각 record 의 Deserializer 가 처리)
+public class PgCallbackFormHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public PgCallbackFormHttpMessageConverter() {
+        super(StandardCharsets.UTF_8, MediaType.APPLICATION_FORM_URLENCODED);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == InicisCallback.class || clazz == NicePayCallback.class;
+    }
+
+    @Override
+    protected boolean canWrite(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        MediaType contentType = inputMessage.getHeaders().getContentType();
+        Charset charset = contentType != null && contentType.getCharset() != null
+            ? contentType.getCharset() : StandardCharsets.UTF_8;
+        String body = StreamUtils.copyToString(inputMessage.getBody(), charset);
+
+        if (clazz == InicisCallback.class) {
+            return InicisCallback.BINDING.readForm(body, charset);
+        }
+        return NicePayCallback.BINDING.readForm(body, charset);
+    }
+
+    @Override
+    protected void writeInternal(Object object, HttpOutputMessage outputMessage) {
+        throw new UnsupportedOperationException("PG callback form converter is read-only");
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+// 읽기 전용 복제본 사용 시 DataSource 구성 (payment.read-replica.enabled=true 일 때만, 아니면 기본 단일 DataSource)
+// primary 는 spring.datasource.*, replica 는 payment.read-replica.* 설정을 쓴다.
+@Configuration
+@ConditionalOnProperty(name = "payment.read-replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Value("${payment.read-replica.url}")
+    private String replicaUrl;
+
+    @Value("${payment.read-replica.username:${spring.datasource.username}}")
+    private String replicaUsername;
+
+    @Value("${payment.read-replica.password:${spring.datasource.password}}")
+    private String replicaPassword;
+
+    @Value("${payment.read-replica.max-pool-size:20}")
+    private int replicaMaxPoolSize;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(replicaUrl);
+        dataSource.setUsername(replicaUsername);
+        dataSource.setPassword(replicaPassword);
+        dataSource.setMaximumPoolSize(replicaMaxPoolSize);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             HikariDataSource replicaDataSource) {
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource);
+    }
+
+    // 트랜잭션 시작 시점에는 readOnly 여부가 아직 동기화되지 않으므로 실제 커넥션은 첫 쿼리 때 가져온다
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.demo.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+// 조회(GET) 요청만 replica 에서 읽도록 허용
+// 쓰기 요청을 보낸 클라이언트에는 read-your-writes-ms 동안 primary 에서 읽도록 쿠키를 남겨
+// 다른 인스턴스로 가더라도 자신이 방금 바꾼 주문/결제 내역을 replica 지연 없이 보게 한다.
+@Component
+public class ReadReplicaInterceptor implements AsyncHandlerInterceptor {
+
+    static final String PRIMARY_UNTIL_COOKIE = "PRIMARY_UNTIL";
+
+    @Value("${payment.read-replica.enabled:false}")
+    private boolean enabled;
+
+    @Value("${payment.read-replica.read-your-writes-ms:5000}")
+    private long readYourWritesMs;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!enabled) {
+            return true;
+        }
+        long now = System.currentTimeMillis();
+        if ("GET".equals(request.getMethod())) {
+            if (primaryUntil(request) <= now) {
+                ReplicaRoutingDataSource.allowReplicaReads();
+            }
+        } else if (readYourWritesMs > 0) {
+            Cookie cookie = new Cookie(PRIMARY_UNTIL_COOKIE, String.valueOf(now + readYourWritesMs));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, (readYourWritesMs + 999) / 1000));
+            response.addCookie(cookie);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReplicaRoutingDataSource.clearReplicaReads();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReplicaRoutingDataSource.clearReplicaReads();
+    }
+
+    private long primaryUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0L;
+        }
+        for (Cookie cookie : cookies) {
+            if (PRIMARY_UNTIL_COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0L;
+                }
+            }
+        }
+        return 0L;
+    }
+}
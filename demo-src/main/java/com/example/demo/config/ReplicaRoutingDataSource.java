@@ -0,0 +1,80 @@
+package com.example.demo.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// readOnly 트랜잭션을 replica 풀로 보내는 DataSource (LazyConnectionDataSourceProxy 로 감싸 첫 쿼리 시점에 커넥션을 고른다)
+// ReadReplicaInterceptor 가 허용한 조회 요청 스레드의 readOnly 트랜잭션만 replica 를 쓰고,
+// PG 콜백/쓰기 요청/백그라운드 작업은 readOnly 조회라도 primary 를 쓴다.
+public final class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private static final ThreadLocal<Boolean> REPLICA_READS_ALLOWED = new ThreadLocal<>();
+
+    private final AtomicLong replicaReads = new AtomicLong();
+    private final AtomicLong primaryReads = new AtomicLong();
+    // readOnly 가 아닌 트랜잭션 또는 트랜잭션 밖 쿼리
+    private final AtomicLong primaryReadWrite = new AtomicLong();
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    // 현재 스레드의 readOnly 트랜잭션이 replica 를 써도 되는 경우 (조회 요청 처리 중)
+    public static void allowReplicaReads() {
+        REPLICA_READS_ALLOWED.set(Boolean.TRUE);
+    }
+
+    public static void clearReplicaReads() {
+        REPLICA_READS_ALLOWED.remove();
+    }
+
+    public static boolean replicaReadsAllowed() {
+        return REPLICA_READS_ALLOWED.get() != null;
+    }
+
+    // 방금 바뀐 데이터를 읽어야 하는 조회는 replica 지연과 무관하게 primary 에서 실행
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = REPLICA_READS_ALLOWED.get();
+        REPLICA_READS_ALLOWED.remove();
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                REPLICA_READS_ALLOWED.set(previous);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            primaryReadWrite.incrementAndGet();
+            return PRIMARY;
+        }
+        if (replicaReadsAllowed()) {
+            replicaReads.incrementAndGet();
+            return REPLICA;
+        }
+        primaryReads.incrementAndGet();
+        return PRIMARY;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", true);
+        stats.put("replicaReads", replicaReads.get());
+        stats.put("primaryReads", primaryReads.get());
+        stats.put("primaryReadWrite", primaryReadWrite.get());
+        return stats;
+    }
+}
@@ -1,18 +1,27 @@
 package com.example.demo.config;
 
+import com.example.demo.util.JwtUtil;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtUtil jwtUtil,
+                                           @Value("${payment.operator-user-ids:}") String operatorUserIds) throws Exception {
         http
             .cors(cors -> cors.configurationSource(request -> {
                 var corsConfig = new org.springframework.web.cors.CorsConfiguration();
@@ -25,10 +34,30 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // 일괄 취소는 운영자 토큰으로만 (아래 /api/payment/** permitAll 보다 먼저 확인)
+                .requestMatchers("/api/payment/refund/batch").hasRole(JwtAuthenticationFilter.OPERATOR_ROLE)
+                // PG 요청/응답 원문 조회도 운영자만
+                .requestMatchers("/api/payment/debug/pg-wire").hasRole(JwtAuthenticationFilter.OPERATOR_ROLE)
+                // 취소 예약(REFUNDING)으로 남은 결제 조회/정리도 운영자만
+                .requestMatchers("/api/payment/refund/stale", "/api/payment/refund/stale/**")
+                    .hasRole(JwtAuthenticationFilter.OPERATOR_ROLE)
                 .requestMatchers("/api/auth/**", "/api/users", "/api/payment/**").permitAll()
+                // 메트릭 수집 (노출 엔드포인트는 management.endpoints.web.exposure.include 로 제한)
+                .requestMatchers("/actuator/health", "/actuator/metrics/**", "/actuator/prometheus").permitAll()
                 .anyRequest().authenticated()
-            );
+            )
+            // 토큰 클레임으로 인증 (요청마다 사용자 조회 없음)
+            .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, parseUserIds(operatorUserIds)),
+                UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
+
+    private static Set<Long> parseUserIds(String userIds) {
+        return Arrays.stream(StringUtils.commaDelimitedListToStringArray(userIds))
+            .map(String::trim)
+            .filter(id -> !id.isEmpty())
+            .map(Long::valueOf)
+            .collect(Collectors.toUnmodifiableSet());
+    }
 }
\ No newline at end of file
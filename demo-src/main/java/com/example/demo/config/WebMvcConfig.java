@@ -0,0 +1,28 @@
+package com.example.demo.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private ReadReplicaInterceptor readReplicaInterceptor;
+
+    // PG 콜백 form 본문 바인딩 (기본 form converter 보다 먼저 확인)
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new PgCallbackFormHttpMessageConverter());
+    }
+
+    // 결제/주문 조회 요청의 replica 사용 여부 (payment.read-replica.enabled=false 면 아무것도 하지 않음)
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(readReplicaInterceptor).addPathPatterns("/api/payment/**", "/order/**");
+    }
+}
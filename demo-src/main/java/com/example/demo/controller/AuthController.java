@@ -4,10 +4,12 @@ import com.example.demo.dto.LoginRequest;
 import com.example.demo.dto.LoginResponse;
 import com.example.demo.entity.User;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.util.JwtClaims;
 import com.example.demo.util.JwtUtil;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Optional;
@@ -31,7 +33,7 @@ public class AuthController {
         }
         
         User user = userOpt.get();
-        String token = jwtUtil.generateToken(user.getId(), user.getEmail());
+        String token = jwtUtil.generateToken(user);
         
         LoginResponse response = new LoginResponse(
             token, 
@@ -46,27 +48,40 @@ public class AuthController {
     }
     
     @GetMapping("/me")
-    public ResponseEntity<?> getUserInfo(@RequestHeader("Authorization") String authHeader) {
+    public ResponseEntity<?> getUserInfo(@AuthenticationPrincipal JwtClaims claims,
+                                         @RequestHeader(value = "Authorization", required = false) String authHeader) {
         try {
-            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-                return ResponseEntity.badRequest().body("토큰이 필요합니다.");
+            // JwtAuthenticationFilter 가 토큰을 검증해 claims 를 채움
+            if (claims == null) {
+                if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+                    return ResponseEntity.badRequest().body("토큰이 필요합니다.");
+                }
+                return ResponseEntity.badRequest().body("유효하지 않은 토큰입니다.");
             }
             
-            String token = authHeader.substring(7);
-            if (!jwtUtil.validateToken(token)) {
-                return ResponseEntity.badRequest().body("유효하지 않은 토큰입니다.");
+            // 토큰 발급 이후 적립금/사용자 정보 변경이 없으면(버전 일치) 사용자 전체를 읽지 않고 토큰 클레임으로 응답
+            Optional<Long> pointsVersion = userRepository.findPointsVersionById(claims.getUserId());
+            if (pointsVersion.isPresent() && pointsVersion.get().equals(claims.getPointsVersion())) {
+                return ResponseEntity.ok(new LoginResponse(
+                    null,
+                    claims.getUserId(),
+                    claims.getEmail(),
+                    claims.getName(),
+                    claims.getPhoneNumber(),
+                    claims.getPoints()
+                ));
             }
             
-            Long userId = jwtUtil.getUserIdFromToken(token);
-            Optional<User> userOpt = userRepository.findById(userId);
+            Optional<User> userOpt = userRepository.findById(claims.getUserId());
             
             if (userOpt.isEmpty()) {
                 return ResponseEntity.badRequest().body("사용자를 찾을 수 없습니다.");
             }
             
+            // 변경된 정보로 토큰 재발급 (클라이언트가 교체하면 이후 요청은 다시 DB 조회 없이 처리)
             User user = userOpt.get();
             LoginResponse response = new LoginResponse(
-                null, 
+                jwtUtil.generateToken(user), 
                 user.getId(), 
                 user.getEmail(), 
                 user.getName(), 
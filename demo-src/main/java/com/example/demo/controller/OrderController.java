@@ -1,7 +1,6 @@
 package com.example.demo.controller;
 
-import com.example.demo.entity.Payment;
-import com.example.demo.service.PaymentService;
+import com.example.demo.service.OrderStatusService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +10,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.Map;
 import java.util.Optional;
 
 @Controller
@@ -20,16 +20,16 @@ public class OrderController {
     private static final Logger logger = LoggerFactory.getLogger(OrderController.class);
     
     @Autowired
-    private PaymentService paymentService;
+    private OrderStatusService orderStatusService;
     
     @GetMapping("/complete")
     public String orderComplete(@RequestParam String orderNo, Model model) {
         logger.info("Order complete page requested for order: {}", orderNo);
         
         try {
-            Optional<Payment> payment = paymentService.getPaymentByOrderNo(orderNo);
+            Optional<Map<String, Object>> payment = orderStatusService.getLatestPayment(orderNo);
             
-            if (payment.isPresent() && "SUCCESS".equals(payment.get().getStatus())) {
+            if (payment.isPresent() && "SUCCESS".equals(payment.get().get("status"))) {
                 model.addAttribute("payment", payment.get());
                 model.addAttribute("orderNo", orderNo);
                 model.addAttribute("message", "주문이 성공적으로 완료되었습니다.");
@@ -68,16 +68,16 @@ public class OrderController {
         logger.info("Order status page requested for order: {}", orderNo);
         
         try {
-            Optional<Payment> payment = paymentService.getPaymentByOrderNo(orderNo);
+            Optional<Map<String, Object>> payment = orderStatusService.getLatestPayment(orderNo);
             
             if (payment.isPresent()) {
                 model.addAttribute("payment", payment.get());
                 model.addAttribute("orderNo", orderNo);
                 
-                if ("SUCCESS".equals(payment.get().getStatus())) {
+                if ("SUCCESS".equals(payment.get().get("status"))) {
                     return "order/complete";
                 } else {
-                    model.addAttribute("message", payment.get().getResultMsg());
+                    model.addAttribute("message", payment.get().get("resultMsg"));
                     return "order/failed";
                 }
             } else {
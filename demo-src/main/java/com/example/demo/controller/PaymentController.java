@@ -1,18 +1,41 @@
 package com.example.demo.controller;
 
+import com.example.demo.client.PgHttpClient;
+import com.example.demo.client.PgWireTrace;
+import com.example.demo.config.ReplicaRoutingDataSource;
+import com.example.demo.dto.InicisCallback;
+import com.example.demo.dto.NicePayCallback;
 import com.example.demo.dto.PaymentResultDto;
 import com.example.demo.entity.Order;
-import com.example.demo.entity.PaymentLog;
 import com.example.demo.repository.OrderRepository;
 import com.example.demo.repository.PaymentLogRepository;
+import com.example.demo.service.BatchRefundService;
+import com.example.demo.service.BonusPointOutbox;
+import com.example.demo.service.IfInisisLogWriter;
+import com.example.demo.service.OrderApprovalReservation;
+import com.example.demo.service.OrderCallbackSerializer;
+import com.example.demo.service.OrderReadRouting;
+import com.example.demo.service.OrderStatusCache;
+import com.example.demo.service.OrderStatusService;
+import com.example.demo.service.PaymentMetrics;
 import com.example.demo.service.PaymentService;
+import com.example.demo.service.PgCallbackIdempotencyService;
+import com.example.demo.service.PgCallbackIdempotencyService.CallbackType;
+import com.example.demo.service.StaleRefundMonitor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.io.IOException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -22,6 +45,8 @@ import java.util.Optional;
 @CrossOrigin(origins = {"http://localhost:3000", "http://127.0.0.1:3000"}, allowCredentials = "true")
 public class PaymentController {
     
+    private static final Logger logger = LoggerFactory.getLogger(PaymentController.class);
+    
     @Autowired
     private PaymentService paymentService;
     
@@ -31,6 +56,53 @@ public class PaymentController {
     @Autowired
     private PaymentLogRepository paymentLogRepository;
     
+    @Autowired
+    private IfInisisLogWriter ifInisisLogWriter;
+    
+    @Autowired
+    private PgHttpClient pgHttpClient;
+    
+    @Autowired
+    private PgWireTrace pgWireTrace;
+    
+    @Autowired
+    private PgCallbackIdempotencyService callbackIdempotencyService;
+    
+    @Autowired
+    private OrderCallbackSerializer orderCallbackSerializer;
+    
+    @Autowired
+    private OrderStatusService orderStatusService;
+    
+    @Autowired
+    private OrderStatusCache orderStatusCache;
+    
+    @Autowired
+    private PaymentMetrics paymentMetrics;
+    
+    @Autowired
+    private BonusPointOutbox bonusPointOutbox;
+    
+    @Autowired
+    private BatchRefundService batchRefundService;
+    
+    @Autowired
+    private OrderApprovalReservation orderApprovalReservation;
+    
+    // payment.read-replica.enabled=true 일 때만 등록
+    @Autowired(required = false)
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private OrderReadRouting orderReadRouting;
+
+    @Autowired
+    private StaleRefundMonitor staleRefundMonitor;
+    
+    // 일괄 취소 응답 스트림 제한 시간 (지나도 취소 처리는 끝까지 진행)
+    @Value("${payment.batch-refund.timeout-ms:600000}")
+    private long batchRefundTimeoutMs;
+    
     @PostMapping("/create-order")
     public ResponseEntity<?> createOrder(@RequestBody Map<String, Object> request) {
         try {
@@ -39,7 +111,8 @@ public class PaymentController {
             Integer pointsUsed = Integer.valueOf(request.get("pointsUsed").toString());
             Long cardAmount = Long.valueOf(request.get("cardAmount").toString());
             
-            Map<String, Object> result = paymentService.createOrder(userId, totalAmount, pointsUsed, cardAmount);
+            Map<String, Object> result = paymentMetrics.record(PaymentMetrics.Flow.CREATE_ORDER,
+                () -> paymentService.createOrder(userId, totalAmount, pointsUsed, cardAmount));
             return ResponseEntity.ok(result);
             
         } catch (IllegalArgumentException e) {
@@ -50,9 +123,19 @@ public class PaymentController {
     }
     
     @PostMapping("/notify") 
-    public ResponseEntity<String> handlePaymentNotify(@RequestBody Map<String, Object> params) {
-        System.out.println("Payment Notify Params: " + params);
-        String result = paymentService.processPaymentNotify(params);
+    public ResponseEntity<String> handlePaymentNotify(@RequestBody InicisCallback callback) {
+        logger.debug("Inicis notify - params: {}", callback.params());
+        // 같은 주문의 콜백은 하나씩 처리, 같은 notify 재전송은 저장된 결과 반환 (처리 성공한 OK 만 저장)
+        String result = paymentMetrics.recordCallback(CallbackType.INICIS_NOTIFY,
+            callback.resultCode(),
+            () -> orderCallbackSerializer.runSerially(
+                callback.orderNo(),
+                () -> callbackIdempotencyService.execute(
+                    callbackIdempotencyService.inicisKey(CallbackType.INICIS_NOTIFY, callback),
+                    String.class,
+                    () -> paymentService.processPaymentNotify(callback),
+                    "OK"::equals),
+                () -> "FAIL"));
         return ResponseEntity.ok(result);
     }
 
@@ -74,22 +157,22 @@ public class PaymentController {
     }
 
     @PostMapping("/response")
-    public ResponseEntity<?> handlePaymentResponse(@RequestBody Map<String, Object> params) {
-        System.out.println("=== /response 엔드포인트 호출됨 ===");
-        System.out.println("호출 시간: " + java.time.LocalDateTime.now());
-        System.out.println("요청 파라미터: " + params);
-        System.out.println("파라미터 키들: " + params.keySet());
-        System.out.println("파라미터 개수: " + params.size());
-        
-        // Stack trace로 호출 경로 확인
-        StackTraceElement[] stackTrace = Thread.currentThread().getStackTrace();
-        System.out.println("호출 스택:");
-        for (int i = 0; i < Math.min(5, stackTrace.length); i++) {
-            System.out.println("  " + stackTrace[i]);
-        }
+    public ResponseEntity<?> handlePaymentResponse(@RequestBody InicisCallback callback) {
+        logger.debug("Inicis response - params: {}", callback.params());
         
-        Map<String, Object> result = paymentService.processPaymentResponse(params);
-        System.out.println("결과: " + result);
+        // 같은 주문의 콜백은 하나씩 처리, 같은 response 재전송은 저장된 결과 반환
+        // (주문까지 처리된 결과만 저장, 주문 없음/오류는 재처리)
+        Map<?, ?> result = paymentMetrics.recordCallback(CallbackType.INICIS_RESPONSE,
+            callback.resultCode(),
+            () -> orderCallbackSerializer.runSerially(
+                callback.orderNo(),
+                () -> callbackIdempotencyService.execute(
+                    callbackIdempotencyService.inicisKey(CallbackType.INICIS_RESPONSE, callback),
+                    Map.class,
+                    () -> paymentService.processPaymentResponse(callback),
+                    response -> response.containsKey("orderId")),
+                () -> Map.of("success", false, "message", "같은 주문의 결제 처리가 진행 중입니다. 잠시 후 다시 시도해 주세요.")));
+        logger.debug("Inicis response - orderNo: {}, result: {}", callback.orderNo(), result);
         return ResponseEntity.ok(result);
     }
     
@@ -103,6 +186,11 @@ public class PaymentController {
             
             Order order = orderOpt.get();
             
+            // 결제 응답 처리가 PG 승인 API 를 호출 중인 주문은 수동 승인 불가
+            if (orderApprovalReservation.isInFlight(order)) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).body("PG 승인 처리 중인 주문입니다. 잠시 후 다시 확인해 주세요.");
+            }
+            
             if (order.getStatus() != Order.OrderStatus.PENDING_APPROVAL) {
                 return ResponseEntity.badRequest().body("승인 대기 상태가 아닙니다. 현재 상태: " + order.getStatus());
             }
@@ -154,23 +242,13 @@ public class PaymentController {
     @GetMapping("/status/{orderId}")
     public ResponseEntity<?> getPaymentStatus(@PathVariable Long orderId) {
         try {
-            Optional<Order> orderOpt = orderRepository.findById(orderId);
-            if (orderOpt.isEmpty()) {
+            // 결제 진행 중 polling 요청은 캐시에서 응답 (주문 변경 시 무효화)
+            Optional<Map<String, Object>> status = orderStatusService.getOrderStatus(orderId);
+            if (status.isEmpty()) {
                 return ResponseEntity.badRequest().body("주문을 찾을 수 없습니다.");
             }
             
-            Order order = orderOpt.get();
-            
-            return ResponseEntity.ok(Map.of(
-                "orderId", order.getId(),
-                "orderNo", order.getOrderNo(),
-                "status", order.getStatus().toString(),
-                "totalAmount", order.getTotalAmount(),
-                "cardAmount", order.getCardAmount(),
-                "pointsUsed", order.getPointsUsed(),
-                "createdAt", order.getCreatedAt(),
-                "updatedAt", order.getUpdatedAt()
-            ));
+            return ResponseEntity.ok(status.get());
             
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("주문 상태 조회 중 오류가 발생했습니다: " + e.getMessage());
@@ -180,38 +258,21 @@ public class PaymentController {
     @GetMapping("/status/order/{orderNo}")
     public ResponseEntity<?> getPaymentStatusByOrderNo(@PathVariable String orderNo) {
         try {
-            Optional<Order> orderOpt = orderRepository.findByOrderNo(orderNo);
-            if (orderOpt.isEmpty()) {
+            // 결제 진행 중 polling 요청은 캐시에서 응답 (주문/PaymentLog 변경 시 무효화)
+            Optional<Map<String, Object>> status = orderStatusService.getOrderStatusByOrderNo(orderNo);
+            if (status.isEmpty()) {
                 return ResponseEntity.badRequest().body(Map.of(
                     "success", false,
                     "message", "주문을 찾을 수 없습니다: " + orderNo
                 ));
             }
             
-            Order order = orderOpt.get();
+            Map<String, Object> result = new HashMap<>(status.get());
+            result.put("success", true);
+            result.put("statusMessage", getStatusMessage(Order.OrderStatus.valueOf((String) result.get("status"))));
             
             // PaymentLog 정보도 함께 조회
-            Optional<PaymentLog> paymentLogOpt = paymentLogRepository.findTopByOrderIdOrderByCreatedAtDesc(order.getId());
-            
-            Map<String, Object> result = new HashMap<>();
-            result.put("success", true);
-            result.put("orderId", order.getId());
-            result.put("orderNo", order.getOrderNo());
-            result.put("status", order.getStatus().toString());
-            result.put("statusMessage", getStatusMessage(order.getStatus()));
-            result.put("totalAmount", order.getTotalAmount());
-            result.put("cardAmount", order.getCardAmount());
-            result.put("pointsUsed", order.getPointsUsed());
-            result.put("createdAt", order.getCreatedAt());
-            result.put("updatedAt", order.getUpdatedAt());
-            result.put("paymentInfo", paymentLogOpt.map(log -> {
-                Map<String, Object> paymentInfo = new HashMap<>();
-                paymentInfo.put("tid", log.getTransactionId() != null ? log.getTransactionId() : "");
-                paymentInfo.put("resultCode", log.getResultCode() != null ? log.getResultCode() : "");
-                paymentInfo.put("resultMessage", log.getResultMessage() != null ? log.getResultMessage() : "");
-                paymentInfo.put("approvedAt", log.getApprovedAt() != null ? log.getApprovedAt() : null);
-                return paymentInfo;
-            }).orElse(new HashMap<>()));
+            result.put("paymentInfo", orderStatusService.getLatestPaymentInfo((Long) result.get("orderId")));
             
             return ResponseEntity.ok(result);
             
@@ -224,9 +285,11 @@ public class PaymentController {
     }
     
     @GetMapping("/history/{userId}")
-    public ResponseEntity<?> getPaymentHistory(@PathVariable Long userId) {
+    public ResponseEntity<?> getPaymentHistory(@PathVariable Long userId,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(required = false) Integer size) {
         try {
-            Map<String, Object> result = paymentService.getUserPaymentHistory(userId);
+            Map<String, Object> result = paymentService.getUserPaymentHistory(userId, cursor, size);
             return ResponseEntity.ok(result);
             
         } catch (Exception e) {
@@ -238,9 +301,11 @@ public class PaymentController {
     }
     
     @GetMapping("/orders/{userId}")
-    public ResponseEntity<?> getUserOrders(@PathVariable Long userId) {
+    public ResponseEntity<?> getUserOrders(@PathVariable Long userId,
+                                           @RequestParam(required = false) String cursor,
+                                           @RequestParam(required = false) Integer size) {
         try {
-            Map<String, Object> result = paymentService.getUserOrdersWithPayments(userId);
+            Map<String, Object> result = paymentService.getUserOrdersWithPayments(userId, cursor, size);
             return ResponseEntity.ok(result);
 
         } catch (Exception e) {
@@ -254,7 +319,9 @@ public class PaymentController {
     @GetMapping("/order-detail/{orderNo}")
     public ResponseEntity<?> getOrderDetail(@PathVariable String orderNo) {
         try {
-            Map<String, Object> result = paymentService.getOrderDetailWithPayments(orderNo);
+            // 결제 결과 반영 직후 상세 조회(/order/success)는 replica 지연 없이 primary 에서
+            Map<String, Object> result = orderReadRouting.byOrderNo(orderNo,
+                () -> paymentService.getOrderDetailWithPayments(orderNo));
             return ResponseEntity.ok(result);
 
         } catch (Exception e) {
@@ -323,6 +390,77 @@ public class PaymentController {
         }
     }
     
+    // 일괄 결제 취소 (orderNos / tids 목록, 건별 결과를 처리되는 대로 NDJSON 한 줄씩 응답하고 마지막 줄은 요약)
+    @PostMapping("/refund/batch")
+    public ResponseEntity<?> refundPayments(@RequestBody Map<String, Object> request) {
+        BatchRefundService.Batch batch;
+        try {
+            batch = batchRefundService.prepare(
+                (Collection<?>) request.get("orderNos"),
+                (Collection<?>) request.get("tids"),
+                (String) request.get("reason"),
+                (String) request.get("clientIp"));
+        } catch (IllegalArgumentException | ClassCastException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "일괄 취소 요청이 올바르지 않습니다: " + e.getMessage()
+            ));
+        }
+
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(batchRefundTimeoutMs);
+        Thread.ofVirtual().name("batch-refund").start(() -> {
+            boolean[] connected = { true };
+            try {
+                batchRefundService.execute(batch, line -> {
+                    if (!connected[0]) {
+                        return;
+                    }
+                    try {
+                        emitter.send(line, MediaType.APPLICATION_JSON);
+                        emitter.send("\n", MediaType.TEXT_PLAIN);
+                    } catch (IOException | IllegalStateException e) {
+                        // 클라이언트가 끊어도 예약된 취소는 끝까지 처리하고 결과는 로그/결제 내역으로 확인
+                        connected[0] = false;
+                        logger.warn("Batch refund client disconnected - continuing without streaming: {}", e.getMessage());
+                    }
+                });
+                emitter.complete();
+            } catch (RuntimeException e) {
+                logger.error("Batch refund failed", e);
+                emitter.completeWithError(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+    }
+    
+    // 취소 결과를 반영하지 못하고 취소 예약(REFUNDING)으로 남은 결제 목록 (운영자용)
+    @GetMapping("/refund/stale")
+    public ResponseEntity<?> getStaleRefunds(@RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "payments", staleRefundMonitor.list(limit)
+        ));
+    }
+    
+    // 남은 취소 예약 정리 - PG 에서 확인한 취소 여부(pgCancelled)를 반영 (운영자용)
+    @PostMapping("/refund/stale/{paymentId}/resolve")
+    public ResponseEntity<?> resolveStaleRefund(@PathVariable Long paymentId, @RequestBody Map<String, Object> request) {
+        Object pgCancelled = request.get("pgCancelled");
+        if (!(pgCancelled instanceof Boolean)) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "PG 취소 여부(pgCancelled: true/false)가 필요합니다."
+            ));
+        }
+        
+        String refundReason = (String) request.get("reason");
+        if (refundReason == null || refundReason.trim().isEmpty()) {
+            refundReason = "취소 예약 정리";
+        }
+        
+        return ResponseEntity.ok(staleRefundMonitor.resolve(paymentId, (Boolean) pgCancelled, refundReason));
+    }
+    
     @GetMapping("/debug/counts")
     public ResponseEntity<?> getDebugCounts() {
         try {
@@ -353,6 +491,45 @@ public class PaymentController {
                     "status", log.getStatus().toString()
                 ))
                 .toList());
+
+            // 이니시스 로그 비동기 저장 현황
+            counts.put("inicisLogWriter", ifInisisLogWriter.getStats());
+
+            // PG HTTP 커넥션 풀 사용 현황
+            counts.put("pgConnectionPool", pgHttpClient.getPoolStats());
+
+            // PG 기능별 circuit breaker / bulkhead 현황
+            counts.put("pgResilience", pgHttpClient.getResilienceStats());
+
+            // PG 요청/응답 원문 추적 현황
+            counts.put("pgWireTrace", pgWireTrace.getStats());
+
+            // PG 콜백 멱등성 처리 현황
+            counts.put("pgCallbackIdempotency", callbackIdempotencyService.getStats());
+
+            // 주문별 콜백 직렬 처리 현황 (stripe 별 대기 수)
+            counts.put("orderCallbackLocks", orderCallbackSerializer.getStats());
+
+            // 주문 상태 조회 캐시 현황
+            counts.put("orderStatusCache", orderStatusCache.getStats());
+
+            // 보너스 적립금 outbox 처리 현황
+            counts.put("bonusPointOutbox", bonusPointOutbox.getStats());
+
+            // 일괄 결제 취소 현황 (PG사별 동시 호출 제한, 결과 저장 묶음)
+            counts.put("batchRefund", batchRefundService.getStats());
+
+            // 결제 응답 승인 API 호출 중 표시 (예약/거절/되돌림/정리 건수)
+            counts.put("approvalReservation", orderApprovalReservation.getStats());
+
+            // 읽기 전용 복제본 라우팅 현황 (커넥션을 가져온 횟수 기준)
+            counts.put("readReplica", replicaRoutingDataSource != null
+                ? replicaRoutingDataSource.getStats() : Map.of("enabled", false));
+            // 최근 변경된 주문 조회의 primary 라우팅 (orders.updated_at 확인 횟수/primary 조회 건수)
+            counts.put("orderReadRouting", orderReadRouting.getStats());
+
+            // 취소 예약(REFUNDING)으로 남은 결제 확인/정리 현황
+            counts.put("staleRefunds", staleRefundMonitor.getStats());
                 
             return ResponseEntity.ok(counts);
             
@@ -361,6 +538,16 @@ public class PaymentController {
         }
     }
 
+    // 최근 PG 요청/응답 원문 (최신순, provider: INICIS / NICEPAY, 서명 필드는 마스킹)
+    @GetMapping("/debug/pg-wire")
+    public ResponseEntity<?> getPgWireTrace(@RequestParam(defaultValue = "20") int limit,
+                                            @RequestParam(required = false) String provider) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("exchanges", pgWireTrace.recent(limit, provider));
+        result.put("stats", pgWireTrace.getStats());
+        return ResponseEntity.ok(result);
+    }
+
     @PostMapping("/refund/points/{orderNo}")
     public ResponseEntity<?> refundPointsByOrder(@PathVariable String orderNo, @RequestBody Map<String, Object> request) {
         try {
@@ -483,35 +670,50 @@ public class PaymentController {
     // NICE Pay Return URL (현재는 프론트엔드에서 처리하므로 사용하지 않음)
     // 혹시 필요할 경우를 대비해 간단한 로깅만 유지
     @PostMapping("/nicepay/return")
-    public ResponseEntity<String> handleNicePayReturn(@RequestBody(required = false) Map<String, Object> params) {
-        System.out.println("=== NICE Pay Return (사용하지 않음) ===");
-        System.out.println("Params: " + params);
+    public ResponseEntity<String> handleNicePayReturn(@RequestBody(required = false) NicePayCallback callback) {
+        logger.debug("NICE Pay return (사용하지 않음) - params: {}", callback != null ? callback.params() : null);
         return ResponseEntity.ok("NICE Pay return은 프론트엔드에서 처리됩니다.");
     }
 
     @GetMapping("/nicepay/return")
     public ResponseEntity<String> handleNicePayReturnGet(@RequestParam(required = false) Map<String, Object> params) {
-        System.out.println("=== NICE Pay Return GET (사용하지 않음) ===");
-        System.out.println("Params: " + params);
+        logger.debug("NICE Pay return GET (사용하지 않음) - params: {}", params);
         return ResponseEntity.ok("NICE Pay return은 프론트엔드에서 처리됩니다.");
     }
 
     @PostMapping("/nicepay/notify")
-    public ResponseEntity<?> handleNicePayNotify(@RequestBody Map<String, Object> params) {
-        System.out.println("=== NICE Pay Notify (프론트엔드에서 호출) ===");
-        System.out.println("Params: " + params);
+    public ResponseEntity<?> handleNicePayNotify(@RequestBody NicePayCallback callback) {
+        logger.debug("NICE Pay notify - params: {}", callback.params());
 
         try {
-            PaymentResultDto result = paymentService.handleNicePayResponse(params);
-
-            System.out.println("Processing result - Success: " + result.isSuccess() + ", OrderNo: " + result.getOrderNo());
+            // 같은 주문의 콜백은 하나씩 처리, 같은 notify 재전송은 저장된 결과 반환
+            // (결제 저장 완료 또는 PG 실패 응답만 저장)
+            PaymentResultDto result = paymentMetrics.recordCallback(CallbackType.NICEPAY_NOTIFY,
+                callback.resultCode(),
+                () -> orderCallbackSerializer.runSerially(
+                    callback.orderNo(),
+                    () -> callbackIdempotencyService.execute(
+                        callbackIdempotencyService.nicePayKey(callback),
+                        PaymentResultDto.class,
+                        () -> paymentService.handleNicePayResponse(callback),
+                        response -> response.getTid() != null
+                            || (!response.isSuccess() && response.getResultCode() != null
+                                && !paymentService.isNicePaySuccess(response.getResultCode()))),
+                    () -> {
+                        PaymentResultDto busyResult = new PaymentResultDto();
+                        busyResult.setSuccess(false);
+                        busyResult.setOrderNo(callback.orderNo());
+                        busyResult.setResultMessage("같은 주문의 결제 처리가 진행 중입니다. 잠시 후 다시 시도해 주세요.");
+                        return busyResult;
+                    }));
+
+            logger.debug("NICE Pay notify - orderNo: {}, success: {}", result.getOrderNo(), result.isSuccess());
 
             // Inicis와 동일한 JSON 응답 형태로 반환
             return ResponseEntity.ok(result);
 
         } catch (Exception e) {
-            System.err.println("NICE Pay Notify Error: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("NICE Pay notify error - orderNo: {}", callback.orderNo(), e);
 
             // 에러 시에도 JSON 형태로 응답
             PaymentResultDto errorResult = new PaymentResultDto();
@@ -523,31 +725,29 @@ public class PaymentController {
 
     @PostMapping("/nicepay/close")
     public ResponseEntity<String> handleNicePayClose(@RequestBody Map<String, Object> params) {
-        System.out.println("NICE Pay Close Params: " + params);
+        logger.debug("NICE Pay close - params: {}", params);
         // 결제창 닫기 처리 (필요시 추가 로직 구현)
         return ResponseEntity.ok("OK");
     }
 
     @PostMapping("/nicepay/cancel")
     public ResponseEntity<String> handleNicePayCancel(@RequestBody Map<String, Object> params) {
-        System.out.println("NICE Pay Cancel Params: " + params);
+        logger.debug("NICE Pay cancel - params: {}", params);
         // 결제 취소 처리 (필요시 추가 로직 구현)
         return ResponseEntity.ok("OK");
     }
 
     @PostMapping("/nicepay/approve")
-    public ResponseEntity<?> approveNicePayPayment(@RequestBody Map<String, Object> params) {
-        System.out.println("=== NICE Pay 승인 API 호출 ===");
-        System.out.println("인증 응답 파라미터: " + params);
+    public ResponseEntity<?> approveNicePayPayment(@RequestBody NicePayCallback callback) {
+        logger.debug("NICE Pay approve - params: {}", callback.params());
 
         try {
-            Map<String, Object> result = paymentService.approveNicePayPayment(params);
-            System.out.println("승인 처리 결과: " + result);
+            Map<String, Object> result = paymentService.approveNicePayPayment(callback);
+            logger.debug("NICE Pay approve - orderNo: {}, result: {}", callback.orderNo(), result);
             return ResponseEntity.ok(result);
 
         } catch (Exception e) {
-            System.err.println("NICE Pay 승인 처리 오류: " + e.getMessage());
-            e.printStackTrace();
+            logger.error("NICE Pay approve error - orderNo: {}", callback.orderNo(), e);
 
             return ResponseEntity.ok(Map.of(
                 "success", false,
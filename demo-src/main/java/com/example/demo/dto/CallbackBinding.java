@@ -0,0 +1,123 @@
+package com.example.demo.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+// PG 콜백 파라미터 -> 콜백 record 바인딩
+// 필드마다 PG/결제수단별 별칭 목록(우선순위 순)을 두고, 파라미터를 한 번만 훑으면서 별칭 표로 필드를 채운다.
+// 같은 필드의 별칭이 여러 개 오면 앞쪽 별칭 값을 쓰고, 빈 값은 없는 것으로 본다.
+// 받은 파라미터 전체는 params 에 순서대로 남겨 PG 로그(IfInisisLog)에 그대로 저장한다.
+public final class CallbackBinding<T> {
+
+    // 별칭 -> (필드 번호 << 8 | 우선순위) 목록 (한 별칭이 여러 필드에 쓰일 수 있음)
+    private final Map<String, int[]> slots = new HashMap<>();
+    private final int fieldCount;
+    private final Function<Values, T> factory;
+
+    public CallbackBinding(Function<Values, T> factory, String[]... aliases) {
+        this.factory = factory;
+        this.fieldCount = aliases.length;
+        for (int field = 0; field < aliases.length; field++) {
+            for (int priority = 0; priority < aliases[field].length; priority++) {
+                int slot = field << 8 | priority;
+                slots.merge(aliases[field][priority], new int[] { slot }, (existing, added) -> {
+                    int[] merged = Arrays.copyOf(existing, existing.length + 1);
+                    merged[existing.length] = slot;
+                    return merged;
+                });
+            }
+        }
+    }
+
+    // 이미 Map 으로 받은 파라미터 (GET 쿼리 파라미터, 테스트 등)
+    public T bind(Map<String, ?> params) {
+        Values values = new Values();
+        if (params != null) {
+            params.forEach((name, value) -> values.put(name, value != null ? value.toString() : null));
+        }
+        return factory.apply(values);
+    }
+
+    // JSON 객체 본문 (중첩 객체/배열은 JSON 문자열로 보관)
+    public T read(JsonParser parser) throws IOException {
+        Values values = new Values();
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+        for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+            String name = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+            if (valueToken == JsonToken.START_OBJECT || valueToken == JsonToken.START_ARRAY) {
+                values.put(name, parser.readValueAsTree().toString());
+            } else if (valueToken != JsonToken.VALUE_NULL) {
+                values.put(name, parser.getText());
+            }
+        }
+        return factory.apply(values);
+    }
+
+    // application/x-www-form-urlencoded 본문 (PG 가 실제로 보내는 형식)
+    public T readForm(String body, Charset charset) {
+        Values values = new Values();
+        int length = body.length();
+        int start = 0;
+        while (start < length) {
+            int end = body.indexOf('&', start);
+            if (end < 0) {
+                end = length;
+            }
+            int separator = body.indexOf('=', start);
+            if (separator > start && separator < end) {
+                values.put(URLDecoder.decode(body.substring(start, separator), charset),
+                           URLDecoder.decode(body.substring(separator + 1, end), charset));
+            } else if (end > start) {
+                values.put(URLDecoder.decode(body.substring(start, end), charset), "");
+            }
+            start = end + 1;
+        }
+        return factory.apply(values);
+    }
+
+    // 바인딩 중인 값
+    public final class Values {
+
+        private final String[] fields = new String[fieldCount];
+        private final int[] priorities = new int[fieldCount];
+        private final Map<String, String> params = new LinkedHashMap<>();
+
+        private void put(String name, String value) {
+            params.put(name, value);
+            int[] fieldSlots = slots.get(name);
+            if (fieldSlots == null || value == null || value.isBlank()) {
+                return;
+            }
+            for (int slot : fieldSlots) {
+                int field = slot >>> 8;
+                int priority = slot & 0xFF;
+                if (fields[field] == null || priority < priorities[field]) {
+                    fields[field] = value;
+                    priorities[field] = priority;
+                }
+            }
+        }
+
+        public String get(int field) {
+            return fields[field];
+        }
+
+        public Map<String, String> params() {
+            return Collections.unmodifiableMap(params);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.demo.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import java.io.IOException;
+import java.util.Map;
+
+// 이니시스 콜백 (notify / response)
+// 표준결제(orderNumber, resultCode)와 모바일(P_OID, P_STATUS ...) 파라미터를 같은 필드로 받는다.
+@JsonDeserialize(using = InicisCallback.Deserializer.class)
+public record InicisCallback(
+    String orderNo,
+    String resultCode,
+    String resultMsg,
+    String tid,
+    String authUrl,
+    String authToken,
+    Map<String, String> params
+) {
+
+    public static final CallbackBinding<InicisCallback> BINDING = new CallbackBinding<>(
+        values -> new InicisCallback(values.get(0), values.get(1), values.get(2), values.get(3),
+                                     values.get(4), values.get(5), values.params()),
+        new String[] { "orderNumber", "oid", "P_OID", "MOID" },
+        new String[] { "resultCode", "P_STATUS" },
+        new String[] { "resultMsg", "P_RMESG1" },
+        new String[] { "tid", "P_TID", "TID", "transactionId" },
+        new String[] { "authUrl" },
+        new String[] { "authToken" });
+
+    public static InicisCallback of(Map<String, ?> params) {
+        return BINDING.bind(params);
+    }
+
+    public boolean isSuccess() {
+        return "0000".equals(resultCode);
+    }
+
+    public static class Deserializer extends JsonDeserializer<InicisCallback> {
+        @Override
+        public InicisCallback deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return BINDING.read(parser);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.demo.dto;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+
+import java.io.IOException;
+import java.util.Map;
+
+// NICE Pay 콜백 (인증 결과 / 결제 결과 notify)
+// resultCode/resultMsg 는 결제 결과(ResultCode)가 없으면 인증 결과(AuthResultCode)를 사용한다.
+@JsonDeserialize(using = NicePayCallback.Deserializer.class)
+public record NicePayCallback(
+    String orderNo,
+    String resultCode,
+    String resultMsg,
+    String tid,
+    String amount,
+    String authResultCode,
+    String authResultMsg,
+    String authToken,
+    String txTid,
+    String nextAppUrl,
+    String netCancelUrl,
+    String signature,
+    String cardName,
+    String cardCode,
+    String authCode,
+    String authDate,
+    Map<String, String> params
+) {
+
+    public static final CallbackBinding<NicePayCallback> BINDING = new CallbackBinding<>(
+        values -> new NicePayCallback(values.get(0), values.get(1), values.get(2), values.get(3),
+                                      values.get(4), values.get(5), values.get(6), values.get(7),
+                                      values.get(8), values.get(9), values.get(10), values.get(11),
+                                      values.get(12), values.get(13), values.get(14), values.get(15),
+                                      values.params()),
+        new String[] { "Moid", "MOID", "moid" },
+        new String[] { "ResultCode", "AuthResultCode", "resultCode" },
+        new String[] { "ResultMsg", "AuthResultMsg", "resultMsg" },
+        new String[] { "TID", "tid", "Tid" },
+        new String[] { "Amt", "amt", "Amount" },
+        new String[] { "AuthResultCode" },
+        new String[] { "AuthResultMsg" },
+        new String[] { "AuthToken" },
+        new String[] { "TxTid" },
+        new String[] { "NextAppURL" },
+        new String[] { "NetCancelURL" },
+        new String[] { "Signature" },
+        new String[] { "CardName" },
+        new String[] { "CardCode" },
+        new String[] { "AuthCode" },
+        new String[] { "AuthDate" });
+
+    public static NicePayCallback of(Map<String, ?> params) {
+        return BINDING.bind(params);
+    }
+
+    public static class Deserializer extends JsonDeserializer<NicePayCallback> {
+        @Override
+        public NicePayCallback deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return BINDING.read(parser);
+        }
+    }
+}
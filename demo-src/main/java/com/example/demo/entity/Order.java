@@ -1,10 +1,12 @@
 package com.example.demo.entity;
 
+import com.example.demo.service.OrderStatusCacheInvalidator;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "orders")
+@EntityListeners(OrderStatusCacheInvalidator.class)
 public class Order {
     
     @Id
@@ -26,11 +28,24 @@ public class Order {
     @Column(name = "card_amount", nullable = false)
     private Long cardAmount;
     
+    // 결제 누계 (OrderRepository.addPaymentTotals 로만 변경, 엔티티 저장 시에는 쓰지 않음)
+    @Column(name = "captured_card_amount", nullable = false, insertable = false, updatable = false)
+    private Long capturedCardAmount = 0L;
+    
+    @Column(name = "captured_points", nullable = false, insertable = false, updatable = false)
+    private Long capturedPoints = 0L;
+    
+    @Column(name = "refunded_card_amount", nullable = false, insertable = false, updatable = false)
+    private Long refundedCardAmount = 0L;
+    
+    @Column(name = "refunded_points", nullable = false, insertable = false, updatable = false)
+    private Long refundedPoints = 0L;
+    
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private OrderStatus status;
     
-    @Column(name = "created_at")
+    @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
     
     @Column(name = "updated_at")
@@ -81,6 +96,11 @@ public class Order {
     public Long getCardAmount() { return cardAmount; }
     public void setCardAmount(Long cardAmount) { this.cardAmount = cardAmount; }
     
+    public Long getCapturedCardAmount() { return capturedCardAmount; }
+    public Long getCapturedPoints() { return capturedPoints; }
+    public Long getRefundedCardAmount() { return refundedCardAmount; }
+    public Long getRefundedPoints() { return refundedPoints; }
+    
     public OrderStatus getStatus() { return status; }
     public void setStatus(OrderStatus status) { this.status = status; }
     
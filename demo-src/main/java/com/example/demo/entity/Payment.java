@@ -1,10 +1,12 @@
 package com.example.demo.entity;
 
+import com.example.demo.service.OrderStatusCacheInvalidator;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "payments")
+@EntityListeners(OrderStatusCacheInvalidator.class)
 public class Payment {
     
     @Id
@@ -29,7 +31,8 @@ public class Payment {
     @Column(name = "result_msg")
     private String resultMsg;
     
-    @Column(name = "payment_date")
+    // 결제 내역 페이지네이션 정렬 기준이므로 항상 채움 (없으면 저장 시각)
+    @Column(name = "payment_date", nullable = false)
     private LocalDateTime paymentDate;
     
     @Column(name = "card_name")
@@ -79,6 +82,9 @@ public class Payment {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        if (paymentDate == null) {
+            paymentDate = createdAt;
+        }
     }
     
     @PreUpdate
@@ -1,10 +1,12 @@
 package com.example.demo.entity;
 
+import com.example.demo.service.OrderStatusCacheInvalidator;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "payment_logs")
+@EntityListeners(OrderStatusCacheInvalidator.class)
 public class PaymentLog {
     
     @Id
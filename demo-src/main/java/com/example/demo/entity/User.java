@@ -27,6 +27,16 @@ public class User {
     @Column(name = "phone_number")
     private String phoneNumber;
     
+    // 적립금이 바뀔 때마다 1 씩 증가 (JWT 의 적립금 클레임 최신 여부 판단)
+    // 이름/이메일 등 다른 클레임이 바뀌는 엔티티 수정에서도 증가시켜 기존 토큰을 최신이 아닌 것으로 본다
+    @Column(name = "points_version", nullable = false)
+    private Long pointsVersion = 0L;
+    
+    @PreUpdate
+    protected void onUpdate() {
+        pointsVersion = pointsVersion + 1;
+    }
+    
     public User() {}
     
     public User(String name, String email) {
@@ -81,4 +91,12 @@ public class User {
     public void setPhoneNumber(String phoneNumber) {
         this.phoneNumber = phoneNumber;
     }
+    
+    public Long getPointsVersion() {
+        return pointsVersion;
+    }
+    
+    public void setPointsVersion(Long pointsVersion) {
+        this.pointsVersion = pointsVersion;
+    }
 }
\ No newline at end of file
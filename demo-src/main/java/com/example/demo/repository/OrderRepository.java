@@ -1,9 +1,16 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.Order;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +19,86 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     Optional<Order> findByOrderNo(String orderNo);
     List<Order> findByUserIdOrderByCreatedAtDesc(Long userId);
     boolean existsByOrderNo(String orderNo);
+
+    // 주문 행 잠금 조회 (적립금 취소 시 취소 누계 확인 후 반영)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.orderNo = :orderNo")
+    Optional<Order> findByOrderNoForUpdate(@Param("orderNo") String orderNo);
+
+    // 주문 ID 만 조회 (엔티티 로딩 없이)
+    @Query("SELECT o.id FROM Order o WHERE o.orderNo = :orderNo")
+    Optional<Long> findIdByOrderNo(@Param("orderNo") String orderNo);
+
+    // 주문 최종 변경 시각만 조회 (read replica 사용 시 primary 에서 최근 변경 여부 확인용)
+    @Query("SELECT o.updatedAt FROM Order o WHERE o.orderNo = :orderNo")
+    Optional<LocalDateTime> findUpdatedAtByOrderNo(@Param("orderNo") String orderNo);
+
+    @Query("SELECT o.updatedAt FROM Order o WHERE o.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    // 결제 누계 증가 (결제 내역 저장과 같은 트랜잭션, 반영된 행 수 반환 - 0 이면 주문 없음)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Order o SET o.capturedCardAmount = o.capturedCardAmount + :capturedCard, " +
+           "o.capturedPoints = o.capturedPoints + :capturedPoints, " +
+           "o.refundedCardAmount = o.refundedCardAmount + :refundedCard, " +
+           "o.refundedPoints = o.refundedPoints + :refundedPoints, o.updatedAt = :now " +
+           "WHERE o.orderNo = :orderNo")
+    int addPaymentTotals(@Param("orderNo") String orderNo,
+                         @Param("capturedCard") long capturedCard,
+                         @Param("capturedPoints") long capturedPoints,
+                         @Param("refundedCard") long refundedCard,
+                         @Param("refundedPoints") long refundedPoints,
+                         @Param("now") LocalDateTime now);
+
+    // 취소되지 않은 결제가 없고 취소 내역이 있는 주문을 CANCELLED 로 변경 (변경된 행 수 반환)
+    // 결제 내역을 읽어 와 판단하던 기존 기준과 같음 - 활성 결제: REFUNDED 가 아니고 *_REFUND 가 아닌 양수 금액,
+    // 취소 내역: REFUNDED 이거나 *_REFUND 이거나 음수 금액
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Order o SET o.status = com.example.demo.entity.Order.OrderStatus.CANCELLED, o.updatedAt = :now " +
+           "WHERE o.orderNo = :orderNo AND o.status <> com.example.demo.entity.Order.OrderStatus.CANCELLED " +
+           "AND NOT EXISTS (SELECT p.id FROM Payment p WHERE p.orderNo = o.orderNo " +
+           "AND (p.status IS NULL OR p.status <> 'REFUNDED') AND p.paymentType NOT LIKE '%\\_REFUND' ESCAPE '\\' " +
+           "AND p.amount > 0) " +
+           "AND EXISTS (SELECT p.id FROM Payment p WHERE p.orderNo = o.orderNo AND p.amount <> 0 " +
+           "AND (p.status = 'REFUNDED' OR p.paymentType LIKE '%\\_REFUND' ESCAPE '\\' OR p.amount < 0))")
+    int cancelIfFullyRefunded(@Param("orderNo") String orderNo, @Param("now") LocalDateTime now);
+
+    // 주문 상태가 from 일 때만 to 로 변경 (변경된 행 수 반환 - 0 이면 이미 다른 상태)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :to, o.updatedAt = :now WHERE o.id = :id AND o.status = :from")
+    int updateStatusIf(@Param("id") Long id,
+                       @Param("from") Order.OrderStatus from,
+                       @Param("to") Order.OrderStatus to,
+                       @Param("now") LocalDateTime now);
+
+    // updatedBefore 이전부터 승인 대기(PENDING_APPROVAL)로 남아 있는 주문 (결제 응답 처리 중단 등)
+    @Query("SELECT o FROM Order o WHERE o.status = com.example.demo.entity.Order.OrderStatus.PENDING_APPROVAL " +
+           "AND o.updatedAt < :updatedBefore ORDER BY o.updatedAt")
+    List<Order> findStaleApprovalReservations(@Param("updatedBefore") LocalDateTime updatedBefore, Pageable pageable);
+
+    // 오래된 승인 대기 표시를 PENDING 으로 되돌림 (그 사이 처리가 끝났으면 변경하지 않음)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Order o SET o.status = com.example.demo.entity.Order.OrderStatus.PENDING, o.updatedAt = :now " +
+           "WHERE o.id = :id AND o.status = com.example.demo.entity.Order.OrderStatus.PENDING_APPROVAL " +
+           "AND o.updatedAt < :updatedBefore")
+    int releaseStaleApprovalReservation(@Param("id") Long id,
+                                        @Param("updatedBefore") LocalDateTime updatedBefore,
+                                        @Param("now") LocalDateTime now);
+
+    // 아직 취소되지 않은 카드 결제 금액
+    @Query("SELECT o.capturedCardAmount - o.refundedCardAmount FROM Order o WHERE o.orderNo = :orderNo")
+    Optional<Long> findRefundableCardAmount(@Param("orderNo") String orderNo);
+
+    // 사용자별 주문 첫 페이지 (keyset 페이지네이션, created_at 은 NOT NULL - V9)
+    @Query("SELECT o FROM Order o WHERE o.userId = :userId ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 사용자별 주문 다음 페이지 (커서의 createdAt, id 이후)
+    @Query("SELECT o FROM Order o WHERE o.userId = :userId " +
+           "AND (o.createdAt < :cursorCreatedAt OR (o.createdAt = :cursorCreatedAt AND o.id < :cursorId)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findPageByUserIdAfter(@Param("userId") Long userId,
+                                      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                      @Param("cursorId") Long cursorId,
+                                      Pageable pageable);
 }
\ No newline at end of file
@@ -1,9 +1,14 @@
 package com.example.demo.repository;
 
 import com.example.demo.entity.Payment;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.Query;
@@ -19,6 +24,28 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
            "ORDER BY p.paymentDate DESC, p.id DESC")
     List<Payment> findByOrderNoOrderByPaymentDateDesc(@Param("orderNo") String orderNo);
 
+    // 여러 주문번호의 결제 내역을 한 번에 조회 (주문별 최신순)
+    @Query("SELECT p FROM Payment p WHERE p.orderNo IN :orderNos " +
+           "ORDER BY p.orderNo, p.paymentDate DESC, p.id DESC")
+    List<Payment> findByOrderNoInOrderByPaymentDateDesc(@Param("orderNos") Collection<String> orderNos);
+
+    // 주문 상세/주문 내역 화면에 표시할 결제 내역 (주문별 최신순)
+    // 같은 TID 는 가장 최신 1건만 남기고 (TID 없는 적립금 내역 등은 모두), 카드/적립금 취소가 있는 주문은 원본 CARD/POINT 결제를 숨긴다.
+    @Query(value = "SELECT d.* FROM (" +
+           "SELECT DISTINCT ON (p.order_no, NULLIF(BTRIM(p.tid), ''), " +
+           "CASE WHEN NULLIF(BTRIM(p.tid), '') IS NULL THEN p.id END) p.* " +
+           "FROM payments p WHERE p.order_no IN (:orderNos) " +
+           "ORDER BY p.order_no, NULLIF(BTRIM(p.tid), ''), " +
+           "CASE WHEN NULLIF(BTRIM(p.tid), '') IS NULL THEN p.id END, p.payment_date DESC, p.id DESC" +
+           ") d " +
+           "WHERE NOT (d.payment_type = 'CARD' AND EXISTS (SELECT 1 FROM payments r " +
+           "WHERE r.order_no = d.order_no AND r.payment_type = 'CARD_REFUND')) " +
+           "AND NOT (d.payment_type = 'POINT' AND EXISTS (SELECT 1 FROM payments r " +
+           "WHERE r.order_no = d.order_no AND r.payment_type = 'POINT_REFUND')) " +
+           "ORDER BY d.order_no, d.payment_date DESC, d.id DESC",
+           nativeQuery = true)
+    List<Payment> findDisplayPaymentsByOrderNoIn(@Param("orderNos") Collection<String> orderNos);
+
     // 주문번호로 완료된 결제만 조회
     @Query("SELECT p FROM Payment p WHERE p.orderNo = :orderNo AND p.status = 'COMPLETED' " +
            "ORDER BY p.paymentDate DESC")
@@ -43,6 +70,24 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
            "WHERE o.userId = :userId " +
            "ORDER BY p.paymentDate DESC")
     List<Payment> findByUserIdOrderByPaymentDateDesc(@Param("userId") Long userId);
+
+    // 사용자별 결제 내역 첫 페이지 (keyset 페이지네이션, payment_date 는 NOT NULL - V9)
+    @Query("SELECT p FROM Payment p " +
+           "JOIN Order o ON p.orderNo = o.orderNo " +
+           "WHERE o.userId = :userId " +
+           "ORDER BY p.paymentDate DESC, p.id DESC")
+    List<Payment> findPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 사용자별 결제 내역 다음 페이지 (커서의 paymentDate, id 이후)
+    @Query("SELECT p FROM Payment p " +
+           "JOIN Order o ON p.orderNo = o.orderNo " +
+           "WHERE o.userId = :userId " +
+           "AND (p.paymentDate < :cursorDate OR (p.paymentDate = :cursorDate AND p.id < :cursorId)) " +
+           "ORDER BY p.paymentDate DESC, p.id DESC")
+    List<Payment> findPageByUserIdAfter(@Param("userId") Long userId,
+                                        @Param("cursorDate") LocalDateTime cursorDate,
+                                        @Param("cursorId") Long cursorId,
+                                        Pageable pageable);
     
     // TID와 상태로 가장 최신 결제 내역 조회 (취소용)
     @Query("SELECT p FROM Payment p WHERE p.tid = :tid AND p.status = :status " +
@@ -56,6 +101,25 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
         return payments.isEmpty() ? Optional.empty() : Optional.of(payments.get(0));
     }
 
+    // 여러 TID 의 결제 내역을 상태로 한 번에 조회 (TID별 최신순, 일괄 취소용)
+    @Query("SELECT p FROM Payment p WHERE p.tid IN :tids AND p.status = :status " +
+           "ORDER BY p.tid, p.paymentDate DESC, p.id DESC")
+    List<Payment> findByTidInAndStatusOrderByPaymentDateDesc(@Param("tids") Collection<String> tids,
+                                                             @Param("status") String status);
+
+    // 결제 행 잠금 조회 (취소 예약 시 상태 확인 후 변경)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.id = :id")
+    Optional<Payment> findByIdForUpdate(@Param("id") Long id);
+
+    // updatedBefore 이전부터 취소 예약(REFUNDING)으로 남아 있는 결제 (취소 결과 저장 실패, 프로세스 중단 등)
+    @Query("SELECT p FROM Payment p WHERE p.status = 'REFUNDING' AND p.updatedAt < :updatedBefore " +
+           "ORDER BY p.updatedAt, p.id")
+    List<Payment> findStaleRefunding(@Param("updatedBefore") LocalDateTime updatedBefore, Pageable pageable);
+
+    @Query("SELECT COUNT(p) FROM Payment p WHERE p.status = 'REFUNDING' AND p.updatedAt < :updatedBefore")
+    long countStaleRefunding(@Param("updatedBefore") LocalDateTime updatedBefore);
+
     // 주문번호와 TID로 결제 내역 조회 (중복 결제 확인용)
     @Query("SELECT p FROM Payment p WHERE p.orderNo = :orderNo AND p.tid = :tid " +
            "ORDER BY p.paymentDate DESC, p.id DESC")
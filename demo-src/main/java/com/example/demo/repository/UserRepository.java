@@ -2,6 +2,9 @@ package com.example.demo.repository;
 
 import com.example.demo.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,4 +13,22 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    // 적립금 차감 (잔액이 충분할 때만 반영, 반영된 행 수 반환 - 0 이면 잔액 부족 또는 사용자 없음)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.points = u.points - :amount, u.pointsVersion = u.pointsVersion + 1 WHERE u.id = :userId AND u.points >= :amount")
+    int deductPoints(@Param("userId") Long userId, @Param("amount") int amount);
+
+    // 적립금 적립/복구 (반영된 행 수 반환 - 0 이면 사용자 없음)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.points = u.points + :amount, u.pointsVersion = u.pointsVersion + 1 WHERE u.id = :userId")
+    int creditPoints(@Param("userId") Long userId, @Param("amount") int amount);
+
+    // 현재 적립금만 조회 (엔티티 로딩 없이)
+    @Query("SELECT u.points FROM User u WHERE u.id = :userId")
+    Optional<Integer> findPointsById(@Param("userId") Long userId);
+
+    // 적립금 버전만 조회 (JWT 클레임이 최신인지 확인용)
+    @Query("SELECT u.pointsVersion FROM User u WHERE u.id = :userId")
+    Optional<Long> findPointsVersionById(@Param("userId") Long userId);
+}
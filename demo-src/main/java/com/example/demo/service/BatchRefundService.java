@@ -0,0 +1,467 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Payment;
+import com.example.demo.repository.PaymentRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// 일괄 결제 취소 (주문번호 / TID 목록)
+// 1. 취소 대상 결제를 한 번에 조회하고, UPDATE ... RETURNING 한 번으로 COMPLETED -> REFUNDING 예약
+//    (주문 결제 누계에 취소할 카드 금액이 남아 있는 결제만)
+// 2. 예약된 건마다 가상 스레드에서 PG 취소 API 호출 (PG사별 동시 호출 수 제한, 트랜잭션 밖)
+// 3. 결과를 write-batch-size 건 또는 linger-ms 마다 모아 한 트랜잭션에서 취소 레코드 저장 + 주문 누계 반영 + 예약 해제 + 주문 상태 갱신
+// 저장이 끝난 건부터 건별 결과를 sink 로 내보내고, 마지막에 요약 한 줄을 내보낸다.
+// 동시 호출 제한은 인스턴스 전체 일괄 취소 공유 - PG bulkhead(pg.resilience.max-concurrent-calls)보다 작게 두어 실시간 취소 여유를 남긴다.
+@Service
+public class BatchRefundService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchRefundService.class);
+
+    private static final String INICIS = "INICIS";
+    private static final String NICEPAY = "NICEPAY";
+
+    private static final String INSERT_REFUND_SQL =
+        "INSERT INTO payments (order_no, tid, amount, status, payment_type, result_code, result_msg, payment_date, " +
+        "card_name, card_code, created_at, updated_at) VALUES (?, ?, ?, 'REFUNDED', 'CARD_REFUND', ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String RELEASE_SQL =
+        "UPDATE payments SET status = 'COMPLETED', updated_at = ? WHERE id = ? AND status = '" +
+        PaymentService.REFUNDING_STATUS + "'";
+
+    private static final String ADD_REFUNDED_CARD_SQL =
+        "UPDATE orders SET refunded_card_amount = refunded_card_amount + ?, updated_at = ? WHERE order_no = ?";
+
+    // IN 조회 한 번에 넣는 최대 값 수
+    private static final int QUERY_CHUNK_SIZE = 1000;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OrderStatusCache orderStatusCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${payment.batch-refund.max-items:1000}")
+    private int maxItems;
+
+    @Value("${payment.batch-refund.inicis-concurrency:10}")
+    private int inicisConcurrency;
+
+    @Value("${payment.batch-refund.nicepay-concurrency:10}")
+    private int nicePayConcurrency;
+
+    @Value("${payment.batch-refund.write-batch-size:100}")
+    private int writeBatchSize;
+
+    // 첫 결과 후 저장을 미루고 기다리는 최대 시간 (결과를 모아 한 번에 저장)
+    @Value("${payment.batch-refund.linger-ms:200}")
+    private long lingerMs;
+
+    private TransactionTemplate transactionTemplate;
+    private final Map<String, Semaphore> permits = new LinkedHashMap<>();
+
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicLong notFound = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong notReserved = new AtomicLong();
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong flushFailures = new AtomicLong();
+
+    // 검증/정리된 일괄 취소 요청
+    public record Batch(List<String> orderNos, List<String> tids, String reason, String clientIp) {
+        public int size() {
+            return orderNos.size() + tids.size();
+        }
+    }
+
+    // 취소 대상 1건 (요청 키 -> 결제)
+    record Target(String keyType, String key, Payment payment, String provider) {
+    }
+
+    // PG 취소 결과 1건
+    record Outcome(Target target, boolean success, String resultCode, String message) {
+    }
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        permits.put(INICIS, new Semaphore(Math.max(1, inicisConcurrency)));
+        permits.put(NICEPAY, new Semaphore(Math.max(1, nicePayConcurrency)));
+    }
+
+    // 요청 검증 (빈 값/중복 제거, 건수 제한 초과 시 IllegalArgumentException)
+    public Batch prepare(Collection<?> orderNos, Collection<?> tids, String reason, String clientIp) {
+        List<String> normalizedOrderNos = normalize(orderNos);
+        List<String> normalizedTids = normalize(tids);
+        int size = normalizedOrderNos.size() + normalizedTids.size();
+        if (size == 0) {
+            throw new IllegalArgumentException("취소할 주문번호(orderNos) 또는 거래 ID(tids)가 필요합니다.");
+        }
+        if (size > maxItems) {
+            throw new IllegalArgumentException("한 번에 취소할 수 있는 건수는 최대 " + maxItems + "건입니다. (요청: " + size + "건)");
+        }
+        return new Batch(normalizedOrderNos, normalizedTids,
+            reason == null || reason.isBlank() ? "고객 요청" : reason.trim(),
+            clientIp == null || clientIp.isBlank() ? "127.0.0.1" : clientIp.trim());
+    }
+
+    // 일괄 취소 실행 (건별 결과와 요약을 sink 로 전달, 호출 스레드에서 결과 저장)
+    public void execute(Batch batch, Consumer<Map<String, Object>> sink) {
+        long startNanos = System.nanoTime();
+        batches.incrementAndGet();
+        requested.addAndGet(batch.size());
+        int[] counts = new int[2]; // 성공, 실패
+
+        Consumer<Map<String, Object>> counting = line -> {
+            counts[Boolean.TRUE.equals(line.get("success")) ? 0 : 1]++;
+            sink.accept(line);
+        };
+
+        List<Target> targets = resolve(batch, counting);
+        List<Target> reserved = reserve(targets, counting);
+        logger.info("Batch refund started - requested: {}, resolved: {}, reserved: {}",
+                   batch.size(), targets.size(), reserved.size());
+
+        if (!reserved.isEmpty()) {
+            refund(reserved, batch, counting);
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("type", "summary");
+        summary.put("requested", batch.size());
+        summary.put("succeeded", counts[0]);
+        summary.put("failed", counts[1]);
+        summary.put("elapsedMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        logger.info("Batch refund finished - {}", summary);
+        sink.accept(summary);
+    }
+
+    // 요청 키별 취소 대상 결제 조회 (주문번호는 주문의 최신 카드 결제, TID 는 해당 TID 의 최신 완료 결제)
+    private List<Target> resolve(Batch batch, Consumer<Map<String, Object>> sink) {
+        Map<String, Payment> byOrderNo = new LinkedHashMap<>();
+        for (List<String> chunk : chunks(batch.orderNos())) {
+            for (Payment payment : paymentRepository.findByOrderNoInOrderByPaymentDateDesc(chunk)) {
+                if (isRefundable(payment)) {
+                    byOrderNo.putIfAbsent(payment.getOrderNo(), payment);
+                }
+            }
+        }
+        Map<String, Payment> byTid = new LinkedHashMap<>();
+        for (List<String> chunk : chunks(batch.tids())) {
+            for (Payment payment : paymentRepository.findByTidInAndStatusOrderByPaymentDateDesc(chunk, "COMPLETED")) {
+                if (isRefundable(payment)) {
+                    byTid.putIfAbsent(payment.getTid(), payment);
+                }
+            }
+        }
+
+        // 같은 결제를 주문번호와 TID 로 함께 요청한 경우 한 번만 취소
+        Set<Long> paymentIds = new HashSet<>();
+        List<Target> targets = new ArrayList<>();
+        addTargets("orderNo", batch.orderNos(), byOrderNo, paymentIds, targets, sink);
+        addTargets("tid", batch.tids(), byTid, paymentIds, targets, sink);
+        return targets;
+    }
+
+    private void addTargets(String keyType, List<String> keys, Map<String, Payment> payments, Set<Long> paymentIds,
+                            List<Target> targets, Consumer<Map<String, Object>> sink) {
+        for (String key : keys) {
+            Payment payment = payments.get(key);
+            if (payment == null) {
+                notFound.incrementAndGet();
+                sink.accept(line(keyType, key, null, false, null, "취소 가능한 결제 내역을 찾을 수 없습니다."));
+            } else if (!paymentIds.add(payment.getId())) {
+                duplicates.incrementAndGet();
+                sink.accept(line(keyType, key, null, false, null, "같은 결제가 이미 요청에 포함되어 있습니다. (paymentId: " + payment.getId() + ")"));
+            } else {
+                targets.add(new Target(keyType, key, payment, providerOf(payment)));
+            }
+        }
+    }
+
+    // 취소 가능한 카드 결제 (적립금 결제는 주문 단위 적립금 취소로 따로 처리)
+    private boolean isRefundable(Payment payment) {
+        return "COMPLETED".equals(payment.getStatus()) && payment.getAmount() != null && payment.getAmount() > 0
+            && payment.getTid() != null && !payment.getTid().isBlank()
+            && !Payment.PaymentType.POINT.name().equals(payment.getPaymentType())
+            && !payment.getPaymentType().endsWith("_REFUND");
+    }
+
+    // 결제 수단으로 PG사 판단 (NICE Pay 승인 건은 NICEPAY_CARD, 나머지는 이니시스)
+    private String providerOf(Payment payment) {
+        return payment.getPaymentType().startsWith(NICEPAY) ? NICEPAY : INICIS;
+    }
+
+    // COMPLETED -> REFUNDING 일괄 예약 (이미 취소 중이거나 취소된 건, 상태가 바뀐 건은 제외)
+    private List<Target> reserve(List<Target> targets, Consumer<Map<String, Object>> sink) {
+        Set<Long> reservedIds = new HashSet<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (List<Target> chunk : chunks(targets)) {
+            String sql = "UPDATE payments SET status = '" + PaymentService.REFUNDING_STATUS + "', updated_at = ? " +
+                "WHERE status = 'COMPLETED' AND id IN (" + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ") " +
+                "AND EXISTS (SELECT 1 FROM orders o WHERE o.order_no = payments.order_no " +
+                "AND o.captured_card_amount - o.refunded_card_amount >= payments.amount) " +
+                "RETURNING id";
+            List<Object> params = new ArrayList<>(chunk.size() + 1);
+            params.add(now);
+            chunk.forEach(target -> params.add(target.payment().getId()));
+            reservedIds.addAll(jdbcTemplate.queryForList(sql, Long.class, params.toArray()));
+        }
+
+        // JDBC 로 바꾼 상태는 entity listener 를 거치지 않으므로 직접 무효화
+        evictPayments(targets);
+
+        List<Target> reserved = new ArrayList<>(reservedIds.size());
+        for (Target target : targets) {
+            if (reservedIds.contains(target.payment().getId())) {
+                reserved.add(target);
+            } else {
+                notReserved.incrementAndGet();
+                sink.accept(line(target, false, null, "이미 취소가 진행 중이거나 취소된 결제입니다."));
+            }
+        }
+        return reserved;
+    }
+
+    // PG 취소 호출은 가상 스레드로 동시에, 결과 저장은 호출 스레드에서 모아서
+    private void refund(List<Target> reserved, Batch batch, Consumer<Map<String, Object>> sink) {
+        BlockingQueue<Outcome> outcomes = new LinkedBlockingQueue<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Target target : reserved) {
+                executor.execute(() -> outcomes.add(callPg(target, batch)));
+            }
+
+            int remaining = reserved.size();
+            List<Outcome> pending = new ArrayList<>();
+            long flushAt = 0;
+            boolean interrupted = false;
+            while (remaining > 0) {
+                Outcome outcome;
+                try {
+                    outcome = pending.isEmpty()
+                        ? outcomes.take()
+                        : outcomes.poll(flushAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    // 이미 PG 로 보낸 취소 결과는 끝까지 받아 저장해야 하므로 중단하지 않고 끝난 뒤 인터럽트 상태를 복원
+                    interrupted = true;
+                    outcome = null;
+                }
+                if (outcome != null) {
+                    if (pending.isEmpty()) {
+                        flushAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMs);
+                    }
+                    pending.add(outcome);
+                    remaining--;
+                }
+                if (!pending.isEmpty() && (outcome == null || pending.size() >= writeBatchSize
+                        || remaining == 0 || System.nanoTime() >= flushAt)) {
+                    flush(pending, batch.reason(), sink);
+                    pending = new ArrayList<>();
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // PG사별 동시 호출 수 안에서 취소 API 호출 (예외 없이 항상 결과 반환)
+    private Outcome callPg(Target target, Batch batch) {
+        Semaphore semaphore = permits.get(target.provider());
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Outcome(target, false, null, "취소 요청이 중단되었습니다.");
+        }
+        try {
+            Payment payment = target.payment();
+            if (NICEPAY.equals(target.provider())) {
+                Map<String, Object> result = paymentService.callNicePayCancelAPI(payment.getTid(), payment.getAmount(), batch.reason());
+                boolean success = Boolean.TRUE.equals(result.get("success"));
+                return new Outcome(target, success, success ? "00" : "99",
+                    success ? "취소 완료" : "취소 API 호출 실패: " + result.get("error"));
+            }
+            Map<String, Object> result = paymentService.callInicisRefundAPI(payment.getTid(), batch.reason(), batch.clientIp());
+            String resultCode = (String) result.get("resultCode");
+            return new Outcome(target, "00".equals(resultCode), resultCode, String.valueOf(result.get("resultMsg")));
+        } catch (RuntimeException e) {
+            logger.error("Batch refund PG call failed - paymentId: {}", target.payment().getId(), e);
+            return new Outcome(target, false, null, "취소 API 호출 실패: " + e.getMessage());
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    // 결과 묶음 저장: 성공 건 취소 레코드 일괄 INSERT + 주문 취소 누계 증가, 전체 예약 해제, 주문 상태 갱신 (한 트랜잭션)
+    private void flush(List<Outcome> outcomes, String reason, Consumer<Map<String, Object>> sink) {
+        List<Outcome> refunded = outcomes.stream().filter(Outcome::success).toList();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        boolean saved;
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!refunded.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_REFUND_SQL, refunded, refunded.size(), (ps, outcome) -> {
+                        Payment payment = outcome.target().payment();
+                        ps.setString(1, payment.getOrderNo());
+                        ps.setString(2, payment.getTid());
+                        ps.setLong(3, -payment.getAmount()); // 음수로 저장하여 취소 표시
+                        ps.setString(4, outcome.resultCode());
+                        ps.setString(5, "취소: " + reason);
+                        ps.setTimestamp(6, now);
+                        ps.setString(7, payment.getCardName());
+                        ps.setString(8, payment.getCardCode());
+                        ps.setTimestamp(9, now);
+                        ps.setTimestamp(10, now);
+                    });
+                    jdbcTemplate.batchUpdate(ADD_REFUNDED_CARD_SQL, refunded, refunded.size(), (ps, outcome) -> {
+                        ps.setLong(1, outcome.target().payment().getAmount());
+                        ps.setTimestamp(2, now);
+                        ps.setString(3, outcome.target().payment().getOrderNo());
+                    });
+                }
+                jdbcTemplate.batchUpdate(RELEASE_SQL, outcomes, outcomes.size(), (ps, outcome) -> {
+                    ps.setTimestamp(1, now);
+                    ps.setLong(2, outcome.target().payment().getId());
+                });
+                refunded.stream()
+                    .map(outcome -> outcome.target().payment().getOrderNo())
+                    .distinct()
+                    .forEach(paymentService::updateOrderStatusBasedOnPayments);
+            });
+            saved = true;
+            flushes.incrementAndGet();
+        } catch (RuntimeException e) {
+            // PG 취소 결과를 DB 에 반영하지 못함 - 결제는 REFUNDING 으로 남아 추가 취소를 막는다
+            saved = false;
+            flushFailures.incrementAndGet();
+            logger.error("Failed to record batch refund results - paymentIds: {}",
+                        outcomes.stream().map(outcome -> outcome.target().payment().getId()).toList(), e);
+        } finally {
+            evictPayments(outcomes.stream().map(Outcome::target).toList());
+        }
+
+        for (Outcome outcome : outcomes) {
+            if (saved) {
+                (outcome.success() ? succeeded : failed).incrementAndGet();
+                sink.accept(line(outcome.target(), outcome.success(), outcome.resultCode(), outcome.message()));
+            } else {
+                failed.incrementAndGet();
+                Map<String, Object> line = line(outcome.target(), false, outcome.resultCode(),
+                    "취소 결과 저장에 실패했습니다. 결제 상태 확인이 필요합니다.");
+                line.put("pgCancelled", outcome.success());
+                sink.accept(line);
+            }
+        }
+    }
+
+    private void evictPayments(List<Target> targets) {
+        targets.stream().map(target -> target.payment().getOrderNo()).distinct().forEach(orderStatusCache::evictPayment);
+    }
+
+    private Map<String, Object> line(Target target, boolean success, String resultCode, String message) {
+        Map<String, Object> line = line(target.keyType(), target.key(), target.payment(), success, resultCode, message);
+        line.put("provider", target.provider());
+        return line;
+    }
+
+    private Map<String, Object> line(String keyType, String key, Payment payment, boolean success,
+                                     String resultCode, String message) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("type", "item");
+        line.put(keyType, key);
+        if (payment != null) {
+            line.put("paymentId", payment.getId());
+            line.put("orderNo", payment.getOrderNo());
+            line.put("tid", payment.getTid());
+            line.put("amount", payment.getAmount());
+        }
+        line.put("success", success);
+        if (resultCode != null) {
+            line.put("resultCode", resultCode);
+        }
+        line.put("message", message);
+        return line;
+    }
+
+    private static List<String> normalize(Collection<?> values) {
+        if (values == null) {
+            return List.of();
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        for (Object value : values) {
+            if (value != null && !value.toString().isBlank()) {
+                normalized.add(value.toString().trim());
+            }
+        }
+        return List.copyOf(normalized);
+    }
+
+    private static <T> List<List<T>> chunks(List<T> values) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int start = 0; start < values.size(); start += QUERY_CHUNK_SIZE) {
+            chunks.add(values.subList(start, Math.min(values.size(), start + QUERY_CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("maxItems", maxItems);
+        stats.put("writeBatchSize", writeBatchSize);
+        stats.put("lingerMs", lingerMs);
+        Map<String, Object> concurrency = new LinkedHashMap<>();
+        permits.forEach((provider, semaphore) -> concurrency.put(provider,
+            Map.of("limit", INICIS.equals(provider) ? inicisConcurrency : nicePayConcurrency,
+                   "available", semaphore.availablePermits())));
+        stats.put("concurrency", concurrency);
+        stats.put("batches", batches.get());
+        stats.put("requested", requested.get());
+        stats.put("notFound", notFound.get());
+        stats.put("duplicates", duplicates.get());
+        stats.put("notReserved", notReserved.get());
+        stats.put("succeeded", succeeded.get());
+        stats.put("failed", failed.get());
+        stats.put("flushes", flushes.get());
+        stats.put("flushFailures", flushFailures.get());
+        return stats;
+    }
+}
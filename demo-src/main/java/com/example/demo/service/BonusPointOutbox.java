@@ -0,0 +1,218 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 결제 완료 보너스 적립금 outbox
+// 결제 처리 트랜잭션에서는 bonus_point_outbox 에 적립 요청만 기록하고 (users 조회/갱신 없음),
+// 백그라운드 스레드가 미처리 건을 사용자별로 합산해 한 번씩 적립한다.
+// 여러 인스턴스가 동시에 처리해도 FOR UPDATE SKIP LOCKED 로 같은 건을 중복 적립하지 않는다.
+@Component
+public class BonusPointOutbox {
+
+    private static final Logger logger = LoggerFactory.getLogger(BonusPointOutbox.class);
+
+    private static final String INSERT_SQL =
+        "INSERT INTO bonus_point_outbox (user_id, order_no, points, created_at) VALUES (?, ?, ?, ?) " +
+        "ON CONFLICT (order_no) DO NOTHING";
+
+    private static final String SELECT_PENDING_SQL =
+        "SELECT id, user_id, points FROM bonus_point_outbox WHERE processed_at IS NULL " +
+        "ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String MARK_PROCESSED_SQL =
+        "UPDATE bonus_point_outbox SET processed_at = ? WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${payment.bonus-points.batch-size:500}")
+    private int batchSize;
+
+    // 적립 요청 후 바로 처리하지 않고 기다리는 시간 (같은 사용자 적립을 모으기 위함)
+    @Value("${payment.bonus-points.linger-ms:200}")
+    private long lingerMs;
+
+    // 다른 인스턴스에서 기록된 건이나 실패 건을 확인하는 주기
+    @Value("${payment.bonus-points.poll-interval-ms:5000}")
+    private long pollIntervalMs;
+
+    private TransactionTemplate transactionTemplate;
+    private final Object signal = new Object();
+    private boolean signaled;
+    private Thread dispatcherThread;
+    private volatile boolean running;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong userUpdates = new AtomicLong();
+    private final AtomicLong missingUsers = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        running = true;
+        dispatcherThread = new Thread(this::runDispatcher, "bonus-point-dispatcher");
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+        logger.info("Bonus point dispatcher started - batchSize: {}, lingerMs: {}, pollIntervalMs: {}",
+                   batchSize, lingerMs, pollIntervalMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        dispatcherThread.interrupt();
+        try {
+            dispatcherThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        logger.info("Bonus point dispatcher stopped - stats: {}", getStats());
+    }
+
+    // 적립 요청 기록 (호출한 트랜잭션에 포함, 커밋 후 dispatcher 를 깨움)
+    public void enqueue(Long userId, String orderNo, int points) {
+        int inserted = jdbcTemplate.update(INSERT_SQL, userId, orderNo, points, Timestamp.valueOf(LocalDateTime.now()));
+        if (inserted == 0) {
+            duplicates.incrementAndGet();
+            logger.info("Bonus points already recorded for order: {}", orderNo);
+            return;
+        }
+        enqueued.incrementAndGet();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp();
+                }
+            });
+        } else {
+            wakeUp();
+        }
+    }
+
+    private void wakeUp() {
+        synchronized (signal) {
+            signaled = true;
+            signal.notifyAll();
+        }
+    }
+
+    private void runDispatcher() {
+        while (running) {
+            try {
+                synchronized (signal) {
+                    if (!signaled) {
+                        signal.wait(pollIntervalMs);
+                    }
+                    signaled = false;
+                }
+                // 짧은 시간 동안 들어오는 적립 요청을 모아서 처리
+                Thread.sleep(lingerMs);
+
+                // 배치가 가득 차면 남은 건이 있을 수 있으므로 이어서 처리
+                int count;
+                do {
+                    count = dispatchBatch();
+                } while (running && count >= batchSize);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return;
+                }
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                logger.error("Error dispatching bonus points: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    // 미처리 적립 요청을 한 트랜잭션에서 사용자별로 합산 적립 (처리한 건수 반환)
+    int dispatchBatch() {
+        Integer processed = transactionTemplate.execute(status -> {
+            List<long[]> rows = jdbcTemplate.query(SELECT_PENDING_SQL,
+                (rs, rowNum) -> new long[] { rs.getLong("id"), rs.getLong("user_id"), rs.getInt("points") },
+                batchSize);
+            if (rows.isEmpty()) {
+                return 0;
+            }
+
+            // 사용자 id 순으로 갱신해 인스턴스 간 lock 순서를 맞춤
+            Map<Long, Long> pointsByUser = new TreeMap<>();
+            List<Object[]> processedIds = new ArrayList<>(rows.size());
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            for (long[] row : rows) {
+                pointsByUser.merge(row[1], row[2], Long::sum);
+                processedIds.add(new Object[] { now, row[0] });
+            }
+
+            for (Map.Entry<Long, Long> entry : pointsByUser.entrySet()) {
+                Long userId = entry.getKey();
+                int points = (int) Math.min(Integer.MAX_VALUE, entry.getValue());
+                if (userRepository.creditPoints(userId, points) > 0) {
+                    userUpdates.incrementAndGet();
+                    logger.info("Earned points added - User: {}, Points: {}", userId, points);
+                } else {
+                    // 탈퇴 등으로 사용자가 없으면 처리된 것으로 보고 넘어감
+                    missingUsers.incrementAndGet();
+                    logger.warn("Bonus points skipped - user not found: {}, points: {}", userId, points);
+                }
+            }
+
+            jdbcTemplate.batchUpdate(MARK_PROCESSED_SQL, processedIds);
+            return rows.size();
+        });
+
+        int count = processed != null ? processed : 0;
+        if (count > 0) {
+            dispatched.addAndGet(count);
+            batches.incrementAndGet();
+        }
+        return count;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("batchSize", batchSize);
+        stats.put("lingerMs", lingerMs);
+        stats.put("enqueued", enqueued.get());
+        stats.put("duplicates", duplicates.get());
+        stats.put("dispatched", dispatched.get());
+        stats.put("userUpdates", userUpdates.get());
+        stats.put("missingUsers", missingUsers.get());
+        stats.put("batches", batches.get());
+        stats.put("failed", failed.get());
+        return stats;
+    }
+}
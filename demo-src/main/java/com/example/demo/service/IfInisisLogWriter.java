@@ -0,0 +1,261 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.IfInisisLog;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// IfInisisLog 비동기 배치 저장 (write-behind)
+// 콜백 처리 스레드는 큐에 넣기만 하고, 백그라운드 스레드가 JDBC 배치로 INSERT 한다.
+// 배치가 실패하면(잘못된 행 1건 등) 배치 전체를 롤백하고 행 단위로 다시 저장해 나머지 로그는 남긴다.
+@Component
+public class IfInisisLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(IfInisisLogWriter.class);
+
+    private static final String INSERT_SQL =
+        "INSERT INTO if_inisis_log (order_no, request_type, payment_provider, request_url, request_data, " +
+        "response_data, http_status, is_success, error_message, transaction_id, created_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 큐가 가득 찼을 때의 처리 정책
+    public enum OverflowPolicy {
+        DROP,         // 로그를 버리고 dropped 카운트 증가
+        CALLER_RUNS   // 호출 스레드에서 직접 저장 (spill)
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${payment.audit-log.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${payment.audit-log.batch-size:200}")
+    private int batchSize;
+
+    @Value("${payment.audit-log.linger-ms:50}")
+    private long lingerMs;
+
+    @Value("${payment.audit-log.offer-timeout-ms:5}")
+    private long offerTimeoutMs;
+
+    @Value("${payment.audit-log.overflow-policy:CALLER_RUNS}")
+    private OverflowPolicy overflowPolicy;
+
+    private BlockingQueue<IfInisisLog> queue;
+    private TransactionTemplate transactionTemplate;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong backpressureWaits = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong spilled = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rowFallbacks = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        running = true;
+        writerThread = new Thread(this::runWriter, "if-inisis-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        logger.info("IfInisisLog writer started - capacity: {}, batchSize: {}, lingerMs: {}, policy: {}",
+                   queueCapacity, batchSize, lingerMs, overflowPolicy);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        writerThread.interrupt();
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 종료 시 남은 로그 저장
+        List<IfInisisLog> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        while (!remaining.isEmpty()) {
+            List<IfInisisLog> chunk = remaining.subList(0, Math.min(batchSize, remaining.size()));
+            writeBatch(new ArrayList<>(chunk));
+            chunk.clear();
+        }
+        logger.info("IfInisisLog writer stopped - stats: {}", getStats());
+    }
+
+    // 로그 저장 요청 (호출 스레드는 DB 저장을 기다리지 않음)
+    public void submit(IfInisisLog log) {
+        if (log == null) {
+            return;
+        }
+        if (log.getCreatedAt() == null) {
+            log.setCreatedAt(LocalDateTime.now());
+        }
+
+        if (queue.offer(log)) {
+            enqueued.incrementAndGet();
+            return;
+        }
+
+        // 큐가 가득 찬 경우 잠시 대기 (backpressure)
+        backpressureWaits.incrementAndGet();
+        try {
+            if (queue.offer(log, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                enqueued.incrementAndGet();
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            spilled.incrementAndGet();
+            writeBatch(List.of(log));
+        } else {
+            dropped.incrementAndGet();
+            logger.warn("IfInisisLog queue full, dropped log: orderNo={}, requestType={}",
+                       log.getOrderNo(), log.getRequestType());
+        }
+    }
+
+    private void runWriter() {
+        List<IfInisisLog> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                IfInisisLog first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                // linger 시간 동안 배치를 채움
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remainingNanos = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remainingNanos <= 0) {
+                        break;
+                    }
+                    IfInisisLog next = queue.poll(remainingNanos, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                writeBatch(batch);
+                batch.clear();
+
+            } catch (InterruptedException e) {
+                if (!batch.isEmpty()) {
+                    writeBatch(batch);
+                    batch.clear();
+                }
+                if (!running) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void writeBatch(List<IfInisisLog> logs) {
+        try {
+            // 한 트랜잭션으로 저장 (실패 시 일부 행만 남지 않아 행 단위 재시도가 중복 저장하지 않음)
+            transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, logs, logs.size(), IfInisisLogWriter::bind));
+            written.addAndGet(logs.size());
+            batches.incrementAndGet();
+        } catch (Exception e) {
+            if (logs.size() == 1) {
+                failed.incrementAndGet();
+                logger.error("Error writing IfInisisLog: orderNo={}, requestType={}: {}",
+                            logs.get(0).getOrderNo(), logs.get(0).getRequestType(), e.getMessage(), e);
+                return;
+            }
+            rowFallbacks.incrementAndGet();
+            logger.warn("IfInisisLog batch failed (size: {}), retrying row by row: {}", logs.size(), e.getMessage());
+            writeRows(logs);
+        }
+    }
+
+    // 배치 실패 시 행 단위 저장 (실패한 행만 failed 로 집계)
+    private void writeRows(List<IfInisisLog> logs) {
+        for (IfInisisLog log : logs) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, log));
+                written.incrementAndGet();
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                logger.error("Error writing IfInisisLog: orderNo={}, requestType={}: {}",
+                            log.getOrderNo(), log.getRequestType(), e.getMessage(), e);
+            }
+        }
+    }
+
+    private static void bind(PreparedStatement ps, IfInisisLog log) throws SQLException {
+        ps.setString(1, log.getOrderNo());
+        ps.setString(2, log.getRequestType());
+        ps.setString(3, log.getPaymentProvider());
+        ps.setString(4, log.getRequestUrl());
+        ps.setString(5, log.getRequestData());
+        ps.setString(6, log.getResponseData());
+        if (log.getHttpStatus() != null) {
+            ps.setInt(7, log.getHttpStatus());
+        } else {
+            ps.setNull(7, Types.INTEGER);
+        }
+        ps.setBoolean(8, Boolean.TRUE.equals(log.getIsSuccess()));
+        ps.setString(9, log.getErrorMessage());
+        ps.setString(10, log.getTransactionId());
+        ps.setTimestamp(11, Timestamp.valueOf(log.getCreatedAt()));
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queueSize", queue.size());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("overflowPolicy", overflowPolicy.name());
+        stats.put("enqueued", enqueued.get());
+        stats.put("written", written.get());
+        stats.put("batches", batches.get());
+        stats.put("backpressureWaits", backpressureWaits.get());
+        stats.put("dropped", dropped.get());
+        stats.put("spilled", spilled.get());
+        stats.put("failed", failed.get());
+        stats.put("rowFallbacks", rowFallbacks.get());
+        return stats;
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Order;
+import com.example.demo.repository.OrderRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 결제 응답의 승인 API(authUrl) 호출 중 표시 (PENDING -> PENDING_APPROVAL 조건부 변경)
+// 승인 API 를 트랜잭션 밖에서 호출하는 동안 같은 주문의 중복 승인 호출과 /approve 수동 승인을 막는다.
+// 결과 반영에 실패하면 PENDING 으로 되돌리고, 프로세스 중단 등으로 남은 표시는 reservation-timeout-ms 후 정리한다.
+@Service
+public class OrderApprovalReservation {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderApprovalReservation.class);
+
+    // 한 번에 정리할 최대 주문 수
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderStatusCacheInvalidator orderStatusCacheInvalidator;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // 승인 API 읽기 제한 시간보다 충분히 길게
+    @Value("${payment.approval.reservation-timeout-ms:120000}")
+    private long reservationTimeoutMs;
+
+    @Value("${payment.approval.sweep-interval-ms:30000}")
+    private long sweepIntervalMs;
+
+    private TransactionTemplate transactionTemplate;
+    private Thread sweeperThread;
+    private volatile boolean running;
+
+    private final AtomicLong reserved = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong released = new AtomicLong();
+    private final AtomicLong swept = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        running = true;
+        sweeperThread = new Thread(this::runSweeper, "approval-reservation-sweeper");
+        sweeperThread.setDaemon(true);
+        sweeperThread.start();
+        logger.info("Approval reservation sweeper started - timeoutMs: {}, intervalMs: {}",
+                   reservationTimeoutMs, sweepIntervalMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        sweeperThread.interrupt();
+    }
+
+    // PENDING 인 주문만 승인 대기로 변경 (이미 승인 대기/완료/실패 등이면 false - 승인 API 를 호출하지 않는다)
+    public boolean reserve(Order order) {
+        boolean changed = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (orderRepository.updateStatusIf(order.getId(), Order.OrderStatus.PENDING,
+                    Order.OrderStatus.PENDING_APPROVAL, LocalDateTime.now()) == 0) {
+                return false;
+            }
+            // JPQL 로 바꾼 상태는 entity listener 를 거치지 않으므로 직접 캐시 무효화
+            orderStatusCacheInvalidator.orderChanged(order.getId(), order.getOrderNo());
+            return true;
+        }));
+        (changed ? reserved : rejected).incrementAndGet();
+        return changed;
+    }
+
+    // 결과 반영에 실패한 경우 승인 대기 표시를 PENDING 으로 되돌림 (notify 또는 재시도로 다시 처리)
+    // 되돌리기도 실패하면 sweeper 가 reservation-timeout-ms 후 정리한다.
+    public void release(Order order) {
+        try {
+            Boolean changed = transactionTemplate.execute(status -> {
+                if (orderRepository.updateStatusIf(order.getId(), Order.OrderStatus.PENDING_APPROVAL,
+                        Order.OrderStatus.PENDING, LocalDateTime.now()) == 0) {
+                    return false;
+                }
+                orderStatusCacheInvalidator.orderChanged(order.getId(), order.getOrderNo());
+                return true;
+            });
+            if (Boolean.TRUE.equals(changed)) {
+                released.incrementAndGet();
+                logger.warn("Approval reservation released - order {} back to PENDING", order.getOrderNo());
+            }
+        } catch (Exception e) {
+            logger.error("Failed to release approval reservation for order {} - sweeper will retry",
+                        order.getOrderNo(), e);
+        }
+    }
+
+    // 승인 API 호출이 진행 중인 주문 (reservation-timeout-ms 안의 승인 대기 표시)
+    public boolean isInFlight(Order order) {
+        return order.getStatus() == Order.OrderStatus.PENDING_APPROVAL
+            && order.getUpdatedAt() != null
+            && order.getUpdatedAt().isAfter(staleBefore());
+    }
+
+    // reservation-timeout-ms 가 지나도 남아 있는 승인 대기 표시를 PENDING 으로 되돌림 (정리한 건수 반환)
+    int sweep() {
+        LocalDateTime staleBefore = staleBefore();
+        List<Order> stale = orderRepository.findStaleApprovalReservations(staleBefore, PageRequest.of(0, SWEEP_BATCH_SIZE));
+        int count = 0;
+        for (Order order : stale) {
+            Boolean changed = transactionTemplate.execute(status -> {
+                if (orderRepository.releaseStaleApprovalReservation(order.getId(), staleBefore, LocalDateTime.now()) == 0) {
+                    return false;
+                }
+                orderStatusCacheInvalidator.orderChanged(order.getId(), order.getOrderNo());
+                return true;
+            });
+            if (Boolean.TRUE.equals(changed)) {
+                count++;
+                logger.warn("Stale approval reservation released - order {} (reserved at {}) back to PENDING",
+                           order.getOrderNo(), order.getUpdatedAt());
+            }
+        }
+        swept.addAndGet(count);
+        return count;
+    }
+
+    private LocalDateTime staleBefore() {
+        return LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(reservationTimeoutMs));
+    }
+
+    private void runSweeper() {
+        while (running) {
+            try {
+                Thread.sleep(sweepIntervalMs);
+                sweep();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("Approval reservation sweep failed", e);
+            }
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("reservationTimeoutMs", reservationTimeoutMs);
+        stats.put("reserved", reserved.get());
+        stats.put("rejected", rejected.get());
+        stats.put("released", released.get());
+        stats.put("swept", swept.get());
+        return stats;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.demo.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// 주문번호 단위 PG 콜백 직렬 실행
+// 같은 주문의 notify/response 콜백은 순서대로 하나씩 처리하고, 다른 주문은 서로 막지 않도록
+// 주문번호 해시로 나눈 lock stripe 를 사용한다.
+@Component
+public class OrderCallbackSerializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderCallbackSerializer.class);
+
+    @Value("${payment.callback.lock-stripes:256}")
+    private int stripeCount;
+
+    @Value("${payment.callback.lock-timeout-ms:10000}")
+    private long lockTimeoutMs;
+
+    private ReentrantLock[] stripes;
+
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong contended = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        // stripe 수는 2의 거듭제곱으로 맞춰 비트 연산으로 인덱스 계산
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            // 먼저 도착한 콜백이 먼저 처리되도록 fair lock
+            stripes[i] = new ReentrantLock(true);
+        }
+        logger.info("Order callback serializer started - stripes: {}, lockTimeout: {}ms", size, lockTimeoutMs);
+    }
+
+    // orderNo 가 같은 작업끼리 직렬 실행. lock 대기가 제한 시간을 넘으면 onTimeout 결과 반환
+    public <T> T runSerially(String orderNo, Supplier<T> task, Supplier<T> onTimeout) {
+        if (orderNo == null) {
+            return task.get();
+        }
+
+        ReentrantLock lock = stripeFor(orderNo);
+        long waitStart = System.nanoTime();
+        boolean acquired = lock.tryLock();
+        if (!acquired) {
+            contended.incrementAndGet();
+            try {
+                acquired = lock.tryLock(lockTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        recordWait(System.nanoTime() - waitStart);
+
+        if (!acquired) {
+            timeouts.incrementAndGet();
+            logger.warn("Timed out waiting for order callback lock - orderNo: {}, waiting: {}",
+                       orderNo, lock.getQueueLength());
+            return onTimeout.get();
+        }
+
+        try {
+            executed.incrementAndGet();
+            return task.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock stripeFor(String orderNo) {
+        int hash = orderNo.hashCode();
+        hash ^= (hash >>> 16);
+        return stripes[hash & (stripes.length - 1)];
+    }
+
+    private void recordWait(long waitNanos) {
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("stripes", stripes.length);
+        stats.put("executed", executed.get());
+        stats.put("contended", contended.get());
+        stats.put("timeouts", timeouts.get());
+        long count = executed.get() + timeouts.get();
+        stats.put("avgWaitMs", count == 0 ? 0.0 : TimeUnit.NANOSECONDS.toMicros(totalWaitNanos.get()) / 1000.0 / count);
+        stats.put("maxWaitMs", TimeUnit.NANOSECONDS.toMicros(maxWaitNanos.get()) / 1000.0);
+
+        // 대기 중인 콜백이 있는 stripe 만 (stripe 번호 -> 대기 스레드 수)
+        int totalWaiting = 0;
+        Map<Integer, Integer> waitingByStripe = new LinkedHashMap<>();
+        for (int i = 0; i < stripes.length; i++) {
+            int queueLength = stripes[i].getQueueLength();
+            if (queueLength > 0) {
+                waitingByStripe.put(i, queueLength);
+                totalWaiting += queueLength;
+            }
+        }
+        stats.put("waiting", totalWaiting);
+        stats.put("waitingByStripe", waitingByStripe);
+        return stats;
+    }
+}
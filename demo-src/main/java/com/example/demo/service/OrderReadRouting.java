@@ -0,0 +1,66 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ReplicaRoutingDataSource;
+import com.example.demo.repository.OrderRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 주문 단위 조회의 read-your-writes (read replica 사용 시)
+// PG 결제 결과처럼 서버 간 호출로 바뀐 주문은 브라우저에 PRIMARY_UNTIL 쿠키가 남지 않으므로,
+// 모든 인스턴스가 같이 보는 primary 의 orders.updated_at 으로 최근 변경 여부를 판단한다.
+// read-your-writes-ms 안에 바뀐 주문은 primary 에서, 아니면 replica 에서 조회한다.
+@Component
+public class OrderReadRouting {
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Value("${payment.read-replica.read-your-writes-ms:5000}")
+    private long readYourWritesMs;
+
+    private final AtomicLong checks = new AtomicLong();
+    private final AtomicLong primaryReads = new AtomicLong();
+
+    public <T> T byOrderNo(String orderNo, Supplier<T> read) {
+        return route(() -> orderRepository.findUpdatedAtByOrderNo(orderNo), read);
+    }
+
+    public <T> T byOrderId(Long orderId, Supplier<T> read) {
+        return route(() -> orderRepository.findUpdatedAtById(orderId), read);
+    }
+
+    private <T> T route(Supplier<Optional<LocalDateTime>> updatedAt, Supplier<T> read) {
+        // replica 를 쓰지 않는 요청(쓰기/콜백/백그라운드, replica 미사용)은 이미 primary 이므로 확인하지 않음
+        if (!ReplicaRoutingDataSource.replicaReadsAllowed() || readYourWritesMs <= 0) {
+            return read.get();
+        }
+        checks.incrementAndGet();
+        // 트랜잭션 밖 조회는 primary 로 간다 (ReplicaRoutingDataSource)
+        LocalDateTime changedAfter = LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(readYourWritesMs));
+        boolean recentlyChanged = ReplicaRoutingDataSource.onPrimary(updatedAt)
+            .map(changed -> changed.isAfter(changedAfter))
+            .orElse(false);
+        if (recentlyChanged) {
+            primaryReads.incrementAndGet();
+            return ReplicaRoutingDataSource.onPrimary(read);
+        }
+        return read.get();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("readYourWritesMs", readYourWritesMs);
+        stats.put("checks", checks.get());
+        stats.put("primaryReads", primaryReads.get());
+        return stats;
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.demo.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 주문 상태 조회 결과 캐시 (건수 제한 LRU + TTL)
+// 결제 진행 중 프론트엔드 polling 이 매번 orders/payment_logs/payments 를 조회하지 않도록 한다.
+// 주문/결제 변경 시 OrderStatusCacheInvalidator 가 커밋 후 해당 항목을 지운다.
+@Component
+public class OrderStatusCache {
+
+    private static final String ORDER_BY_ID = "order:id:";
+    private static final String ORDER_BY_NO = "order:no:";
+    private static final String PAYMENT_LOG = "log:";
+    private static final String PAYMENT = "payment:";
+
+    @Value("${payment.status-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${payment.status-cache.ttl-ms:10000}")
+    private long ttlMs;
+
+    private Map<String, Entry> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    // 조회 도중 무효화가 일어났는지 판단하기 위한 세대 번호
+    private final AtomicLong evictionEpoch = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public <T> T getOrderById(Long orderId, Supplier<T> loader) {
+        return get(ORDER_BY_ID + orderId, loader);
+    }
+
+    public <T> T getOrderByOrderNo(String orderNo, Supplier<T> loader) {
+        return get(ORDER_BY_NO + orderNo, loader);
+    }
+
+    public <T> T getPaymentLog(Long orderId, Supplier<T> loader) {
+        return get(PAYMENT_LOG + orderId, loader);
+    }
+
+    public <T> T getPayment(String orderNo, Supplier<T> loader) {
+        return get(PAYMENT + orderNo, loader);
+    }
+
+    public void evictOrder(Long orderId, String orderNo) {
+        remove(ORDER_BY_ID + orderId);
+        remove(ORDER_BY_NO + orderNo);
+    }
+
+    public void evictPaymentLog(Long orderId) {
+        remove(PAYMENT_LOG + orderId);
+    }
+
+    public void evictPayment(String orderNo) {
+        remove(PAYMENT + orderNo);
+    }
+
+    // 캐시에 없거나 만료되었으면 loader 로 조회 후 저장 (loader 결과가 null 이면 저장하지 않음)
+    @SuppressWarnings("unchecked")
+    private <T> T get(String key, Supplier<T> loader) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt - now > 0) {
+                    hits.incrementAndGet();
+                    return (T) entry.value;
+                }
+                entries.remove(key);
+                expirations.incrementAndGet();
+            }
+        }
+
+        misses.incrementAndGet();
+        long epoch = evictionEpoch.get();
+        T value = loader.get();
+        // 조회 도중 무효화가 있었다면 이전 값일 수 있으므로 저장하지 않음
+        if (value != null && evictionEpoch.get() == epoch) {
+            synchronized (entries) {
+                entries.put(key, new Entry(value, now + TimeUnit.MILLISECONDS.toNanos(ttlMs)));
+            }
+        }
+        return value;
+    }
+
+    private void remove(String key) {
+        evictionEpoch.incrementAndGet();
+        synchronized (entries) {
+            if (entries.remove(key) != null) {
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (entries) {
+            stats.put("size", entries.size());
+        }
+        stats.put("maxSize", maxSize);
+        stats.put("ttlMs", ttlMs);
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        stats.put("expirations", expirations.get());
+        stats.put("invalidations", invalidations.get());
+        return stats;
+    }
+
+    private static class Entry {
+        private final Object value;
+        private final long expiresAt;
+
+        private Entry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
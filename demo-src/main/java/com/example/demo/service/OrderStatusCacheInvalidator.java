@@ -0,0 +1,55 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Order;
+import com.example.demo.entity.Payment;
+import com.example.demo.entity.PaymentLog;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Order / Payment / PaymentLog 변경 시 OrderStatusCache 무효화 (JPA entity listener)
+// 커밋 전에 지우면 다른 요청이 아직 커밋되지 않은 이전 값을 다시 캐시할 수 있으므로 커밋 후에도 한 번 더 지운다.
+@Component
+public class OrderStatusCacheInvalidator {
+
+    @Autowired
+    private OrderStatusCache orderStatusCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Runnable eviction;
+        if (entity instanceof Order order) {
+            eviction = () -> orderStatusCache.evictOrder(order.getId(), order.getOrderNo());
+        } else if (entity instanceof Payment payment) {
+            eviction = () -> orderStatusCache.evictPayment(payment.getOrderNo());
+        } else if (entity instanceof PaymentLog paymentLog) {
+            eviction = () -> orderStatusCache.evictPaymentLog(paymentLog.getOrderId());
+        } else {
+            return;
+        }
+        evict(eviction);
+    }
+
+    // JPQL bulk update 처럼 entity listener 를 거치지 않고 주문을 바꾼 경우 직접 호출
+    public void orderChanged(Long orderId, String orderNo) {
+        evict(() -> orderStatusCache.evictOrder(orderId, orderNo));
+    }
+
+    private void evict(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    eviction.run();
+                }
+            });
+        }
+    }
+}
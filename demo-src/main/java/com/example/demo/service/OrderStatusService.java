@@ -0,0 +1,121 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Order;
+import com.example.demo.entity.Payment;
+import com.example.demo.entity.PaymentLog;
+import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.PaymentLogRepository;
+import com.example.demo.repository.PaymentRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 주문 상태 polling 전용 조회 서비스 (OrderStatusCache 경유)
+// 캐시 적중 시 트랜잭션/커넥션을 열지 않도록 클래스 레벨 @Transactional 을 두지 않고,
+// 캐시에 없을 때만 readOnly 트랜잭션으로 조회한다 (read replica 사용 시 replica 에서 조회, 최근 바뀐 주문은 primary).
+@Service
+public class OrderStatusService {
+
+    @Autowired
+    private OrderStatusCache orderStatusCache;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentLogRepository paymentLogRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private OrderReadRouting orderReadRouting;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    public void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    // 주문 ID 로 상태 조회 (주문이 없으면 empty, 캐시하지 않음)
+    public Optional<Map<String, Object>> getOrderStatus(Long orderId) {
+        return Optional.ofNullable(orderStatusCache.getOrderById(orderId,
+            () -> orderReadRouting.byOrderId(orderId, () -> readOnlyTransaction.execute(status ->
+                orderRepository.findById(orderId).map(this::toStatusSnapshot).orElse(null)))));
+    }
+
+    // 주문번호로 상태 조회 (주문이 없으면 empty, 캐시하지 않음)
+    public Optional<Map<String, Object>> getOrderStatusByOrderNo(String orderNo) {
+        return Optional.ofNullable(orderStatusCache.getOrderByOrderNo(orderNo,
+            () -> orderReadRouting.byOrderNo(orderNo, () -> readOnlyTransaction.execute(status ->
+                orderRepository.findByOrderNo(orderNo).map(this::toStatusSnapshot).orElse(null)))));
+    }
+
+    // 주문의 최신 PaymentLog 요약 (없으면 빈 Map)
+    public Map<String, Object> getLatestPaymentInfo(Long orderId) {
+        return orderStatusCache.getPaymentLog(orderId,
+            () -> orderReadRouting.byOrderId(orderId, () -> readOnlyTransaction.execute(status ->
+                paymentLogRepository.findTopByOrderIdOrderByCreatedAtDesc(orderId)
+                    .map(this::toPaymentInfo)
+                    .orElse(Collections.emptyMap()))));
+    }
+
+    // 주문번호의 최신 결제 내역 요약 (PaymentService.getPaymentByOrderNo 와 동일한 조회)
+    // 여러 요청이 같은 캐시 값을 공유하므로 엔티티가 아닌 변경 불가능한 Map 으로 저장
+    public Optional<Map<String, Object>> getLatestPayment(String orderNo) {
+        return orderStatusCache.getPayment(orderNo, () -> orderReadRouting.byOrderNo(orderNo,
+            () -> readOnlyTransaction.execute(status -> {
+                List<Payment> payments = paymentRepository.findByOrderNoOrderByPaymentDateDesc(orderNo);
+                return payments.isEmpty() ? Optional.<Map<String, Object>>empty() : Optional.of(toPaymentSnapshot(payments.get(0)));
+            })));
+    }
+
+    private Map<String, Object> toStatusSnapshot(Order order) {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("orderId", order.getId());
+        snapshot.put("orderNo", order.getOrderNo());
+        snapshot.put("status", order.getStatus().toString());
+        snapshot.put("totalAmount", order.getTotalAmount());
+        snapshot.put("cardAmount", order.getCardAmount());
+        snapshot.put("pointsUsed", order.getPointsUsed());
+        snapshot.put("createdAt", order.getCreatedAt());
+        snapshot.put("updatedAt", order.getUpdatedAt());
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    // order/complete 화면과 OrderController 에서 쓰는 값만 (null 값도 키는 유지)
+    private Map<String, Object> toPaymentSnapshot(Payment payment) {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("orderNo", payment.getOrderNo());
+        snapshot.put("tid", payment.getTid());
+        snapshot.put("amount", payment.getAmount());
+        snapshot.put("status", payment.getStatus());
+        snapshot.put("resultMsg", payment.getResultMsg());
+        snapshot.put("cardName", payment.getCardName());
+        snapshot.put("applNum", payment.getApplNum());
+        snapshot.put("paymentDate", payment.getPaymentDate());
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    private Map<String, Object> toPaymentInfo(PaymentLog log) {
+        Map<String, Object> paymentInfo = new LinkedHashMap<>();
+        paymentInfo.put("tid", log.getTransactionId() != null ? log.getTransactionId() : "");
+        paymentInfo.put("resultCode", log.getResultCode() != null ? log.getResultCode() : "");
+        paymentInfo.put("resultMessage", log.getResultMessage() != null ? log.getResultMessage() : "");
+        paymentInfo.put("approvedAt", log.getApprovedAt());
+        return Collections.unmodifiableMap(paymentInfo);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.demo.service;
+
+import com.example.demo.service.PgCallbackIdempotencyService.CallbackType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 결제 흐름 메트릭 (/actuator/prometheus, /actuator/metrics)
+// - payment.flow.duration : 주문 생성/PG 콜백 처리 전체 소요 시간 (lock 대기, 멱등성 확인 포함, histogram)
+// - payment.flow.in-flight : 처리 중인 요청 수
+// - payment.pg.callbacks : PG사/콜백 종류/결과코드별 콜백 수
+@Component
+public class PaymentMetrics {
+
+    // 측정 단위 (tag 값)
+    public enum Flow {
+        CREATE_ORDER("create_order"),
+        INICIS_NOTIFY("inicis_notify"),
+        INICIS_RESPONSE("inicis_response"),
+        NICEPAY_NOTIFY("nicepay_notify");
+
+        private final String tag;
+
+        Flow(String tag) {
+            this.tag = tag;
+        }
+
+        public String getTag() { return tag; }
+
+        static Flow of(CallbackType type) {
+            return switch (type) {
+                case INICIS_NOTIFY -> INICIS_NOTIFY;
+                case INICIS_RESPONSE -> INICIS_RESPONSE;
+                case NICEPAY_NOTIFY -> NICEPAY_NOTIFY;
+            };
+        }
+    }
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<Flow, AtomicInteger> inFlight = new EnumMap<>(Flow.class);
+
+    @PostConstruct
+    public void init() {
+        for (Flow flow : Flow.values()) {
+            AtomicInteger count = new AtomicInteger();
+            inFlight.put(flow, count);
+            Gauge.builder("payment.flow.in-flight", count, AtomicInteger::get)
+                .description("처리 중인 주문 생성/PG 콜백 수")
+                .tag("flow", flow.getTag())
+                .register(meterRegistry);
+        }
+    }
+
+    // PG 콜백 처리: 결과코드별 수 + 처리 시간/처리 중 수
+    public <T> T recordCallback(CallbackType type, String resultCode, Supplier<T> handler) {
+        Counter.builder("payment.pg.callbacks")
+            .description("PG 콜백 수 (PG사/콜백 종류/결과코드별)")
+            .tag("provider", type.getProvider())
+            .tag("callback", Flow.of(type).getTag())
+            .tag("resultCode", resultCode != null ? resultCode : "NONE")
+            .register(meterRegistry)
+            .increment();
+        return record(Flow.of(type), handler);
+    }
+
+    // 처리 시간(성공/예외 구분)과 처리 중 수 기록
+    public <T> T record(Flow flow, Supplier<T> handler) {
+        AtomicInteger count = inFlight.get(flow);
+        count.incrementAndGet();
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            T result = handler.get();
+            outcome = "success";
+            return result;
+        } finally {
+            count.decrementAndGet();
+            Timer.builder("payment.flow.duration")
+                .description("주문 생성/PG 콜백 처리 시간")
+                .tag("flow", flow.getTag())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
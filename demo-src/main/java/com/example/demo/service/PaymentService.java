@@ -1,25 +1,32 @@
 package com.example.demo.service;
 
+import com.example.demo.client.PgHttpClient;
+import com.example.demo.client.PgOperation;
+import com.example.demo.client.PgSigner;
+import com.example.demo.dto.InicisCallback;
 import com.example.demo.dto.InicisResponseDto;
+import com.example.demo.dto.NicePayCallback;
 import com.example.demo.dto.PaymentResultDto;
 import com.example.demo.entity.Order;
 import com.example.demo.entity.Payment;
 import com.example.demo.entity.PaymentLog;
-import com.example.demo.entity.User;
 import com.example.demo.mapper.PaymentMapper;
 import com.example.demo.repository.OrderRepository;
 import com.example.demo.repository.PaymentLogRepository;
 import com.example.demo.repository.PaymentRepository;
 import com.example.demo.repository.UserRepository;
+import com.example.demo.util.KeysetCursor;
 import com.example.demo.entity.IfInisisLog;
-import com.example.demo.repository.IfInisisLogRepository;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -27,23 +34,22 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.LinkedMultiValueMap;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
-import java.security.MessageDigest;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.nio.charset.StandardCharsets;
 
+// PG 호출이 있는 흐름(결제 응답/notify, 이니시스 취소, NICE Pay 취소)은 클래스 레벨 @Transactional 없이
+// 예약(짧은 트랜잭션) → PG 호출(트랜잭션 밖) → 결과 반영(짧은 트랜잭션)으로 나눠 PG 응답을 기다리는 동안 DB 커넥션을 잡지 않는다.
 @Service
-@Transactional
 public class PaymentService {
     
     private static final Logger logger = LoggerFactory.getLogger(PaymentService.class);
@@ -64,26 +70,54 @@ public class PaymentService {
     private UserRepository userRepository;
     
     @Autowired
-    private IfInisisLogRepository ifInisisLogRepository;
+    private BonusPointOutbox bonusPointOutbox;
+    
+    @Autowired
+    private IfInisisLogWriter ifInisisLogWriter;
+    
+    @Autowired
+    private PgHttpClient pgHttpClient;
+    
+    @Autowired
+    private PgSigner pgSigner;
+    
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    
+    @Autowired
+    private OrderStatusCacheInvalidator orderStatusCacheInvalidator;
+    
+    @Autowired
+    private OrderApprovalReservation orderApprovalReservation;
+    
+    private TransactionTemplate transactionTemplate;
     
-    private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    // 감사 로그(if_inisis_log) 저장용 - 들여쓰기 없이 직렬화
+    private final ObjectWriter auditJsonWriter;
 
     public PaymentService() {
         this.objectMapper = new ObjectMapper();
         // JSON 출력 형식 설정
         this.objectMapper.configure(SerializationFeature.INDENT_OUTPUT, true);
+        this.auditJsonWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
     }
-    
-    // RestTemplate 타임아웃 설정
-    {
-        restTemplate = new RestTemplate();
-        restTemplate.getRequestFactory();
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
     }
     
-    // 이니시스 설정
-    private static final String INICIS_API_URL = "https://stgstdpay.inicis.com/api/v1/formpay";
-    private static final String INICIS_REFUND_URL = "https://iniapi.inicis.com/v2/pg/refund";
+    // 이니시스 설정 (부하 테스트 시 pgstub 프로파일로 로컬 stub 서버 사용)
+    @Value("${inicis.approval.url}")
+    private String inicisApprovalUrl;
+
+    @Value("${inicis.refund.url}")
+    private String inicisRefundUrl;
+
+    // 설정하면 콜백으로 받은 authUrl 대신 사용 (비어 있으면 콜백 값 그대로)
+    @Value("${inicis.auth.url:}")
+    private String inicisAuthUrlOverride;
 
     // NICE Pay 설정
     @Value("${nicepay.merchant.id}")
@@ -97,11 +131,25 @@ public class PaymentService {
 
     @Value("${nicepay.cancel.pwd}")
     private String nicePayCancelPwd;
-    private static final String MID = "INIpayTest";
-    private static final String SIGN_KEY = "SU5JTElURV9UUklQTEVERVNfS0VZU1RS";
-    private static final String INI_API_KEY = "ItEQKi3rY7uvDS8l";
+
+    // 결제/주문 내역 페이지 크기
+    @Value("${payment.history.page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${payment.history.max-page-size:200}")
+    private int maxPageSize;
+
+    // 주문번호 IN 조회 시 한 번에 넘길 최대 개수
+    private static final int ORDER_NO_IN_BATCH_SIZE = 1000;
+
+    // 이니시스 취소 API 호출 중인 결제 상태 (취소 결과 반영 시 COMPLETED 로 복구)
+    static final String REFUNDING_STATUS = "REFUNDING";
+
+    // 새로 저장하는 결제의 수정 전 누계
+    private static final long[] NO_PAYMENT_TOTALS = new long[4];
     
     
+    @Transactional
     public PaymentResultDto processInicisCallback(InicisResponseDto inicisResponse) {
         logger.info("Processing Inicis callback for order: {}", inicisResponse.getOid());
         
@@ -117,9 +165,11 @@ public class PaymentService {
             Optional<Payment> existingPayment = existingPayments.isEmpty() ? Optional.empty() : Optional.of(existingPayments.get(0));
             
             Payment payment;
+            long[] totalsBefore = NO_PAYMENT_TOTALS;
             if (existingPayment.isPresent()) {
                 // 기존 결제 정보 업데이트
                 payment = existingPayment.get();
+                totalsBefore = paymentTotals(payment);
                 updatePaymentFromInicisResponse(payment, inicisResponse);
                 logger.info("Updated existing payment for order: {}", inicisResponse.getOid());
             } else {
@@ -128,7 +178,7 @@ public class PaymentService {
                 logger.info("Created new payment for order: {}", inicisResponse.getOid());
             }
             
-            Payment savedPayment = paymentRepository.save(payment);
+            Payment savedPayment = savePayment(payment, totalsBefore);
             PaymentResultDto result = paymentMapper.toPaymentResultDto(inicisResponse);
             
             logger.info("Payment processing completed for order: {} with status: {}", 
@@ -142,11 +192,13 @@ public class PaymentService {
         }
     }
     
+    @Transactional(readOnly = true)
     public Optional<Payment> getPaymentByOrderNo(String orderNo) {
         List<Payment> payments = paymentRepository.findByOrderNoOrderByPaymentDateDesc(orderNo);
         return payments.isEmpty() ? Optional.empty() : Optional.of(payments.get(0));
     }
     
+    @Transactional(readOnly = true)
     public boolean isPaymentCompleted(String orderNo) {
         List<Payment> payments = paymentRepository.findByOrderNoAndStatusCompleted(orderNo);
         return !payments.isEmpty();
@@ -166,27 +218,32 @@ public class PaymentService {
     }
     
     // 주문 생성
+    @Transactional
     public Map<String, Object> createOrder(Long userId, Long totalAmount, Integer pointsUsed, Long cardAmount) {
         logger.info("Creating order - userId: {}, totalAmount: {}, pointsUsed: {}, cardAmount: {}", 
                    userId, totalAmount, pointsUsed, cardAmount);
         
-        Optional<User> userOpt = userRepository.findById(userId);
-        if (userOpt.isEmpty()) {
-            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        if (pointsUsed < 0) {
+            throw new IllegalArgumentException("사용 적립금이 올바르지 않습니다.");
         }
-        
-        User user = userOpt.get();
-        if (user.getPoints() < pointsUsed) {
-            throw new IllegalArgumentException("적립금이 부족합니다.");
+
+        // 잔액 확인과 차감을 한 번의 UPDATE 로 처리 (동시 주문 시 이중 사용 방지)
+        if (pointsUsed > 0) {
+            int updated = userRepository.deductPoints(userId, pointsUsed);
+            if (updated == 0) {
+                if (!userRepository.existsById(userId)) {
+                    throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+                }
+                throw new IllegalArgumentException("적립금이 부족합니다.");
+            }
+        } else if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
         }
         
         String orderNo = "ORD" + System.currentTimeMillis() + UUID.randomUUID().toString().substring(0, 8);
         
         Order order = new Order(orderNo, userId, totalAmount, pointsUsed, cardAmount, Order.OrderStatus.PENDING);
         orderRepository.save(order);
-        
-        user.setPoints(user.getPoints() - pointsUsed);
-        userRepository.save(user);
 
         // 적립금 사용 내역을 Payment 테이블에 기록
         if (pointsUsed > 0) {
@@ -201,7 +258,7 @@ public class PaymentService {
             pointPayment.setPaymentDate(LocalDateTime.now());
             pointPayment.setCardName("적립금");
 
-            paymentRepository.save(pointPayment);
+            savePayment(pointPayment);
             logger.info("Point usage recorded - OrderNo: {}, Points: {}", orderNo, pointsUsed);
         }
 
@@ -250,14 +307,15 @@ public class PaymentService {
     }
     
     // 결제 알림 처리 (notify)
-    public String processPaymentNotify(Map<String, Object> params) {
+    // 주문 조회 → 이니시스 승인 확인(트랜잭션 밖) → 결과 반영(트랜잭션)
+    public String processPaymentNotify(InicisCallback callback) {
         try {
-            logger.info("Processing payment notify with params: {}", params);
+            logger.info("Processing payment notify with params: {}", callback.params());
             
-            String orderNo = extractOrderNumber(params);
-            String resultCode = extractResultCode(params);
-            String resultMsg = extractResultMessage(params);
-            String tid = extractTransactionId(params);
+            String orderNo = callback.orderNo();
+            String resultCode = callback.resultCode();
+            String resultMsg = callback.resultMsg();
+            String tid = transactionIdOrTemp(callback.tid());
             
             logger.info("Notify - orderNo: {}, resultCode: {}, resultMsg: {}", orderNo, resultCode, resultMsg);
             
@@ -267,21 +325,31 @@ public class PaymentService {
                 return "FAIL";
             }
             
-            Order order = orderOpt.get();
-            logger.info("Notify: Found order with current status: {}", order.getStatus());
-            
-            // PaymentLog 처리
-            PaymentLog paymentLog = createOrUpdatePaymentLog(order, tid, resultCode, resultMsg);
+            Order found = orderOpt.get();
+            logger.info("Notify: Found order with current status: {}", found.getStatus());
             
-            if ("0000".equals(resultCode)) {
-                processSuccessfulPayment(order, paymentLog);
-            } else {
-                processFailedPayment(order, paymentLog, resultCode, resultMsg);
-            }
+            boolean success = "0000".equals(resultCode);
+            boolean approved = success && processInicisApproval(tid, orderNo, found.getCardAmount());
             
-            // 저장 및 검증
-            savePaymentLogWithVerification(paymentLog);
-            orderRepository.save(order);
+            transactionTemplate.executeWithoutResult(status -> {
+                Order order = orderRepository.findById(found.getId()).orElseThrow();
+                if (!claimCallbackResult(order, approved)) {
+                    return;
+                }
+                
+                // PaymentLog 처리
+                PaymentLog paymentLog = createOrUpdatePaymentLog(order, tid, resultCode, resultMsg);
+                
+                if (success) {
+                    processSuccessfulPayment(order, paymentLog, approved);
+                } else {
+                    processFailedPayment(order, paymentLog, resultCode, resultMsg);
+                }
+                
+                // 저장 및 검증
+                savePaymentLogWithVerification(paymentLog);
+                orderRepository.save(order);
+            });
             
             return "OK";
             
@@ -292,77 +360,114 @@ public class PaymentService {
     }
     
     // 결제 응답 처리 (response)
-    public Map<String, Object> processPaymentResponse(Map<String, Object> params) {
+    // PENDING 주문을 승인 대기(PENDING_APPROVAL)로 예약 → authUrl 승인 API 호출(트랜잭션 밖) → 결과 반영(트랜잭션)
+    // 예약할 수 없는 주문(이미 승인 대기/완료/실패)은 승인 API 를 호출하지 않고, 결과 반영에 실패하면 예약을 되돌린다.
+    public Map<String, Object> processPaymentResponse(InicisCallback callback) {
         String orderNo = null;
         IfInisisLog inicisLog = null;
 
         try {
-            logger.info("Processing payment response with params: {}", params);
+            logger.info("Processing payment response with params: {}", callback.params());
 
-            orderNo = extractOrderNumber(params);
-            String resultCode = extractResultCode(params);
-            String resultMsg = extractResultMessage(params);
-            String tid = extractTransactionId(params);
-            String authUrl = (String) params.get("authUrl");
-            String authToken = (String) params.get("authToken");
+            orderNo = callback.orderNo();
+            String resultCode = callback.resultCode();
+            String resultMsg = callback.resultMsg();
+            String tid = transactionIdOrTemp(callback.tid());
+            String authUrl = callback.authUrl();
+            if (!inicisAuthUrlOverride.isEmpty() && authUrl != null) {
+                authUrl = inicisAuthUrlOverride;
+            }
+            String authToken = callback.authToken();
+            boolean authRequired = authUrl != null && authToken != null && !authUrl.trim().isEmpty() && !authToken.trim().isEmpty();
 
-            // 이니시스 로그 생성 및 요청 데이터 저장
-            inicisLog = createInicisLog(orderNo, "PAYMENT_RESPONSE", null, params);
+            // 이니시스 로그 생성 (응답 데이터와 함께 비동기 저장)
+            inicisLog = buildInicisLog(orderNo, "PAYMENT_RESPONSE", null, callback.params(), tid);
 
             logger.info("Response - orderNo: {}, resultCode: {}, resultMsg: {}, tid: {}", orderNo, resultCode, resultMsg, tid);
             
             Optional<Order> orderOpt = orderRepository.findByOrderNo(orderNo);
             if (orderOpt.isEmpty()) {
-                return Map.of("success", false, "message", "주문을 찾을 수 없습니다: " + orderNo);
+                Map<String, Object> notFoundResponse = Map.of("success", false, "message", "주문을 찾을 수 없습니다: " + orderNo);
+                updateInicisLogResponse(inicisLog, notFoundResponse, 404, false, "Order not found");
+                return notFoundResponse;
             }
-            
-            Order order = orderOpt.get();
-            PaymentLog paymentLog = createOrUpdatePaymentLog(order, tid, resultCode, resultMsg);
-            
-            // authUrl과 authToken이 있으면 추가 인증 API 호출
-            if (authUrl != null && authToken != null && !authUrl.trim().isEmpty() && !authToken.trim().isEmpty()) {
-                logger.info("Processing auth API call for orderNo: {}, authUrl: {}", orderNo, authUrl);
-                Map<String, Object> authResult = processAuthUrlRequest(authUrl, authToken, order);
-                
-                // 인증 결과에 따라 처리
-                String authResultCode = (String) authResult.get("code");
-                if ("0000".equals(authResultCode)) {
-                    processSuccessfulPayment(order, paymentLog, authResult);
-                } else {
-                    processFailedPayment(order, paymentLog, authResultCode, (String) authResult.get("message"));
-                }
-            } else {
-                // 기존 로직
-                if ("0000".equals(resultCode)) {
-                    processSuccessfulPayment(order, paymentLog);
-                } else {
-                    processFailedPayment(order, paymentLog, resultCode, resultMsg);
-                }
+            Order reserved = orderOpt.get();
+            if (authRequired && !orderApprovalReservation.reserve(reserved)) {
+                logger.warn("Response: order {} is not PENDING (status: {}) - auth API not called", orderNo, reserved.getStatus());
+                Map<String, Object> rejectedResponse = Map.of("success", false, "message", "이미 처리 중이거나 처리된 주문입니다: " + orderNo);
+                updateInicisLogResponse(inicisLog, rejectedResponse, 409, false, "Order not pending: " + reserved.getStatus());
+                return rejectedResponse;
             }
             
-            savePaymentLogWithVerification(paymentLog);
-            orderRepository.save(order);
+            boolean reservationHeld = authRequired;
+            try {
+                // authUrl과 authToken이 있으면 추가 인증 API 호출, 없으면 기존 로직 (TID 기준 승인 확인)
+                Map<String, Object> authResult = null;
+                boolean approved = false;
+                if (authRequired) {
+                    logger.info("Processing auth API call for orderNo: {}, authUrl: {}", orderNo, authUrl);
+                    authResult = processAuthUrlRequest(authUrl, authToken, reserved);
+                } else if ("0000".equals(resultCode)) {
+                    approved = processInicisApproval(tid, orderNo, reserved.getCardAmount());
+                }
             
-            String message = "0000".equals(resultCode) ? "결제가 완료되었습니다." : "결제가 실패했습니다: " + resultMsg;
-            boolean success = "0000".equals(resultCode);
+                Map<String, Object> finalAuthResult = authResult;
+                boolean finalApproved = approved;
+                Order order = transactionTemplate.execute(status -> {
+                    Order current = orderRepository.findById(reserved.getId()).orElseThrow();
+                    boolean completed = finalAuthResult != null
+                        ? "0000".equals(finalAuthResult.get("code"))
+                        : "0000".equals(resultCode) && finalApproved;
+                    if (!claimCallbackResult(current, completed)) {
+                        return current;
+                    }
+                    PaymentLog paymentLog = createOrUpdatePaymentLog(current, tid, resultCode, resultMsg);
+                
+                    if (finalAuthResult != null) {
+                        // 인증 결과에 따라 처리
+                        String authResultCode = (String) finalAuthResult.get("code");
+                        if ("0000".equals(authResultCode)) {
+                            processSuccessfulPayment(current, paymentLog, finalAuthResult);
+                        } else {
+                            processFailedPayment(current, paymentLog, authResultCode, (String) finalAuthResult.get("message"));
+                        }
+                    } else if ("0000".equals(resultCode)) {
+                        processSuccessfulPayment(current, paymentLog, finalApproved);
+                    } else {
+                        processFailedPayment(current, paymentLog, resultCode, resultMsg);
+                    }
+                
+                    savePaymentLogWithVerification(paymentLog);
+                    return orderRepository.save(current);
+                });
+                // 결과가 반영되어 승인 대기 표시가 COMPLETED / FAILED 로 바뀜
+                reservationHeld = false;
+            
+                String message = "0000".equals(resultCode) ? "결제가 완료되었습니다." : "결제가 실패했습니다: " + resultMsg;
+                boolean success = "0000".equals(resultCode);
+
+                Map<String, Object> responseMap = Map.of(
+                    "success", success,
+                    "message", message,
+                    "orderNo", order.getOrderNo(),
+                    "orderId", order.getId(),
+                    "amount", order.getCardAmount(),
+                    "resultCode", resultCode != null ? resultCode : "",
+                    "resultMsg", resultMsg != null ? resultMsg : ""
+                );
 
-            Map<String, Object> responseMap = Map.of(
-                "success", success,
-                "message", message,
-                "orderNo", order.getOrderNo(),
-                "orderId", order.getId(),
-                "amount", order.getCardAmount(),
-                "resultCode", resultCode != null ? resultCode : "",
-                "resultMsg", resultMsg != null ? resultMsg : ""
-            );
+                // 이니시스 로그 응답 데이터 저장
+                if (inicisLog != null) {
+                    updateInicisLogResponse(inicisLog, responseMap, 200, success, null);
+                }
 
-            // 이니시스 로그 응답 데이터 저장
-            if (inicisLog != null) {
-                updateInicisLogResponse(inicisLog, responseMap, 200, success, null);
+                return responseMap;
+            } finally {
+                if (reservationHeld) {
+                    orderApprovalReservation.release(reserved);
+                }
             }
 
-            return responseMap;
-
         } catch (Exception e) {
             logger.error("Response processing error: {}", e.getMessage(), e);
 
@@ -376,41 +481,26 @@ public class PaymentService {
         }
     }
     
-    // 파라미터 추출 메서드들
-    private String extractOrderNumber(Map<String, Object> params) {
-        String orderNo = (String) params.get("orderNumber");
-        if (orderNo == null) orderNo = (String) params.get("oid");
-        if (orderNo == null) orderNo = (String) params.get("P_OID");
-        if (orderNo == null) orderNo = (String) params.get("MOID");
-        return orderNo;
-    }
-    
-    private String extractResultCode(Map<String, Object> params) {
-        String resultCode = (String) params.get("resultCode");
-        if (resultCode == null) resultCode = (String) params.get("P_STATUS");
-        return resultCode;
+    // 콜백 결과 반영 선점 - PENDING / PENDING_APPROVAL 인 주문만 COMPLETED 또는 FAILED 로 조건부 변경
+    // 변경된 행이 없으면 다른 콜백(다른 인스턴스 포함)이 이미 결과를 반영한 주문이므로
+    // 결제 내역 저장, 적립금 복구, PaymentLog 갱신을 다시 하지 않는다.
+    private boolean claimCallbackResult(Order order, boolean completed) {
+        Order.OrderStatus from = order.getStatus();
+        Order.OrderStatus to = completed ? Order.OrderStatus.COMPLETED : Order.OrderStatus.FAILED;
+        if ((from == Order.OrderStatus.PENDING || from == Order.OrderStatus.PENDING_APPROVAL)
+                && orderRepository.updateStatusIf(order.getId(), from, to, LocalDateTime.now()) > 0) {
+            return true;
+        }
+        logger.warn("Callback result already applied - order {} is {}, skipping", order.getOrderNo(), from);
+        return false;
     }
     
-    private String extractResultMessage(Map<String, Object> params) {
-        String resultMsg = (String) params.get("resultMsg");
-        if (resultMsg == null) resultMsg = (String) params.get("P_RMESG1");
-        return resultMsg;
-    }
-    
-    private String extractTransactionId(Map<String, Object> params) {
-        String tid = (String) params.get("tid");
-        if (tid == null) tid = (String) params.get("P_TID");
-        if (tid == null) tid = (String) params.get("TID");
-        if (tid == null) tid = (String) params.get("transactionId");
-        
-        logger.info("Extracted TID from params: {} (available keys: {})", tid, params.keySet());
-        
-        // TID가 없는 경우 임시 TID 생성 (테스트용)
-        if (tid == null || tid.trim().isEmpty()) {
+    // TID 가 없는 경우 임시 TID 생성 (테스트용)
+    private String transactionIdOrTemp(String tid) {
+        if (tid == null) {
             tid = "TEMP_TID_" + System.currentTimeMillis();
-            logger.warn("No TID found in params, generated temporary TID: {}", tid);
+            logger.warn("No TID found in callback, generated temporary TID: {}", tid);
         }
-        
         return tid;
     }
     
@@ -446,11 +536,11 @@ public class PaymentService {
         return paymentLog;
     }
     
-    // 성공한 결제 처리 (기존)
-    private void processSuccessfulPayment(Order order, PaymentLog paymentLog) {
+    // 성공한 결제 처리 (기존, approved 는 트랜잭션 밖에서 확인한 이니시스 승인 결과)
+    private void processSuccessfulPayment(Order order, PaymentLog paymentLog, boolean approved) {
         logger.info("Processing successful payment for order: {}", order.getOrderNo());
         
-        if (processInicisApproval(paymentLog.getTransactionId(), order.getOrderNo(), order.getCardAmount())) {
+        if (approved) {
             paymentLog.setApprovedAt(LocalDateTime.now());
             order.setStatus(Order.OrderStatus.APPROVED);
             order.setStatus(Order.OrderStatus.COMPLETED);
@@ -518,7 +608,7 @@ public class PaymentService {
             payment.setCardName("결제실패");
             payment.setCanRefund(false);
             
-            Payment savedPayment = paymentRepository.save(payment);
+            Payment savedPayment = savePayment(payment);
             logger.info("Failed payment record created: ID={}, OrderNo={}, TID={}", 
                        savedPayment.getId(), savedPayment.getOrderNo(), savedPayment.getTid());
             
@@ -556,14 +646,14 @@ public class PaymentService {
             String timestamp = String.valueOf(System.currentTimeMillis());
             
             // 서명 생성
-            String signature = generateSignature(orderNo, amount.toString(), timestamp);
-            String verification = generateVerification(orderNo, amount.toString(), timestamp);
-            String mKey = generateMKey();
+            String signature = pgSigner.inicisSignature(orderNo, amount.toString(), timestamp);
+            String verification = pgSigner.inicisVerification(orderNo, amount.toString(), timestamp);
+            String mKey = pgSigner.getMKey();
             
             // API 요청 데이터 준비
             Map<String, String> requestData = new HashMap<>();
             requestData.put("version", "1.0");
-            requestData.put("mid", MID);
+            requestData.put("mid", pgSigner.getInicisMid());
             requestData.put("oid", orderNo);
             requestData.put("price", amount.toString());
             requestData.put("timestamp", timestamp);
@@ -592,11 +682,10 @@ public class PaymentService {
             
             // API 호출
             try {
-                ResponseEntity<String> response = restTemplate.postForEntity(INICIS_API_URL, request, String.class);
+                ResponseEntity<String> response = pgHttpClient.post(PgOperation.INICIS_APPROVAL, inicisApprovalUrl, request);
                 String responseBody = response.getBody();
                 
                 logger.info("Inicis API response status: {}", response.getStatusCode());
-                logger.info("Inicis API response body: {}", responseBody);
                 
                 // 응답 분석 (실제로는 응답 파싱해서 성공 여부 확인해야 함)
                 if (response.getStatusCode().is2xxSuccessful() && responseBody != null) {
@@ -625,93 +714,15 @@ public class PaymentService {
         }
     }
     
-    // 서명 생성 (oid + price + timestamp) - 기존 방식
-    private String generateSignature(String oid, String price, String timestamp) {
-        try {
-            String data = "oid=" + oid + "&price=" + price + "&timestamp=" + timestamp;
-            return sha256Hash(data);
-        } catch (Exception e) {
-            logger.error("Error generating signature", e);
-            return "";
-        }
-    }
-    
-    // 검증 값 생성 (oid + price + signKey + timestamp) - 기존 방식
-    private String generateVerification(String oid, String price, String timestamp) {
-        try {
-            String data = "oid=" + oid + "&price=" + price + "&signKey=" + SIGN_KEY + "&timestamp=" + timestamp;
-            return sha256Hash(data);
-        } catch (Exception e) {
-            logger.error("Error generating verification", e);
-            return "";
-        }
-    }
-    
-    // 승인 요청용 서명 생성 (NVP 방식: authToken + timestamp)
-    private String generateAuthSignature(String authToken, String timestamp) {
-        try {
-            String data = "authToken=" + authToken + "&timestamp=" + timestamp;
-            logger.debug("Auth signature data: {}", data);
-            return sha256Hash(data);
-        } catch (Exception e) {
-            logger.error("Error generating auth signature", e);
-            return "";
-        }
-    }
-    
-    // 승인 요청용 검증 값 생성 (NVP 방식: authToken + signKey + timestamp)
-    private String generateAuthVerification(String authToken, String timestamp) {
-        try {
-            String data = "authToken=" + authToken + "&signKey=" + SIGN_KEY + "&timestamp=" + timestamp;
-            logger.debug("Auth verification data: {}", data);
-            return sha256Hash(data);
-        } catch (Exception e) {
-            logger.error("Error generating auth verification", e);
-            return "";
-        }
-    }
-    
-    // mKey 생성 (signKey의 SHA256 해시)
-    private String generateMKey() {
-        try {
-            return sha256Hash(SIGN_KEY);
-        } catch (Exception e) {
-            logger.error("Error generating mKey", e);
-            return "";
-        }
-    }
-    
-    // SHA256 해시 생성
-    private String sha256Hash(String input) throws Exception {
-        MessageDigest digest = MessageDigest.getInstance("SHA-256");
-        byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-        
-        StringBuilder hexString = new StringBuilder();
-        for (byte b : hash) {
-            String hex = Integer.toHexString(0xff & b);
-            if (hex.length() == 1) {
-                hexString.append('0');
-            }
-            hexString.append(hex);
-        }
-        return hexString.toString();
-    }
-    
     // 결제 성공 후 추가 처리
     private void processPaymentSuccess(Order order) {
         try {
             logger.info("Processing payment success for order: {}", order.getOrderNo());
             
-            Optional<User> userOpt = userRepository.findById(order.getUserId());
-            if (userOpt.isPresent()) {
-                User user = userOpt.get();
-                Long earnedPoints = Math.max(1L, order.getTotalAmount() / 100);
-                user.setPoints(user.getPoints() + earnedPoints.intValue());
-                userRepository.save(user);
-                
-                logger.info("Earned points added - User: {}, Points: {}, Total: {}", 
-                           user.getId(), earnedPoints, user.getPoints());
-            }
+            // 적립은 outbox 에 기록만 하고 BonusPointOutbox 가 커밋 후 사용자별로 모아 반영
+            Long earnedPoints = Math.max(1L, order.getTotalAmount() / 100);
+            bonusPointOutbox.enqueue(order.getUserId(), order.getOrderNo(), earnedPoints.intValue());
+            logger.info("Earned points recorded - User: {}, Points: {}", order.getUserId(), earnedPoints);
             
         } catch (Exception e) {
             logger.error("Error in payment success processing: {}", e.getMessage(), e);
@@ -722,13 +733,8 @@ public class PaymentService {
     private void restoreUserPoints(Order order) {
         try {
             if (order.getPointsUsed() > 0) {
-                Optional<User> userOpt = userRepository.findById(order.getUserId());
-                if (userOpt.isPresent()) {
-                    User user = userOpt.get();
-                    user.setPoints(user.getPoints() + order.getPointsUsed());
-                    userRepository.save(user);
-                    logger.info("Points restored to user: {}, restored: {}, total: {}", 
-                               user.getId(), order.getPointsUsed(), user.getPoints());
+                if (userRepository.creditPoints(order.getUserId(), order.getPointsUsed()) > 0) {
+                    logger.info("Points restored to user: {}, restored: {}", order.getUserId(), order.getPointsUsed());
                 }
             }
         } catch (Exception e) {
@@ -754,7 +760,7 @@ public class PaymentService {
             payment.setResultMsg(paymentLog.getResultMessage());
             payment.setPaymentDate(paymentLog.getApprovedAt());
             
-            paymentRepository.save(payment);
+            savePayment(payment);
             logger.info("Payment record saved successfully - Order: {}, Payment ID: {}, TID: {}", 
                        order.getOrderNo(), payment.getId(), payment.getTid());
             
@@ -790,12 +796,12 @@ public class PaymentService {
         
         try {
             String timestamp = String.valueOf(System.currentTimeMillis());
-            String signature = generateAuthSignature(authToken, timestamp);
-            String verification = generateAuthVerification(authToken, timestamp);
+            String signature = pgSigner.inicisAuthSignature(authToken, timestamp);
+            String verification = pgSigner.inicisAuthVerification(authToken, timestamp);
             
             // API 요청 객체 생성
             Map<String, Object> requestData = new HashMap<>();
-            requestData.put("mid", MID);
+            requestData.put("mid", pgSigner.getInicisMid());
             requestData.put("authToken", authToken);
             requestData.put("timestamp", timestamp);
             requestData.put("signature", signature);
@@ -806,23 +812,7 @@ public class PaymentService {
             // 요청 로그 저장
             requestLog = logApiRequest(order.getOrderNo(), authUrl, requestData);
             
-            // 승인 요청 데이터 로그 출력 (JSON 포맷)
-            try {
-                String prettyRequestJson = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(requestData);
-                logger.info("=== 승인 요청 REQUEST DATA ===");
-                logger.info("Order No: {}", order.getOrderNo());
-                logger.info("Auth URL: {}", authUrl);
-                logger.info("AuthToken: {}", authToken);
-                logger.info("Timestamp: {}", timestamp);
-                logger.info("Signature NVP: authToken={}&timestamp={}", authToken, timestamp);
-                logger.info("Verification NVP: authToken={}&signKey={}&timestamp={}", authToken, SIGN_KEY, timestamp);
-                logger.info("Generated Signature: {}", signature);
-                logger.info("Generated Verification: {}", verification);
-                logger.info("Request JSON:\n{}", prettyRequestJson);
-                logger.info("=== 승인 요청 REQUEST DATA END ===");
-            } catch (Exception e) {
-                logger.info("Auth API request for orderNo: {}, URL: {}, Data: {}", order.getOrderNo(), authUrl, requestData);
-            }
+            logger.info("Inicis auth approval requested - orderNo: {}, url: {}", order.getOrderNo(), authUrl);
             
             // HTTP 헤더 설정 (application/x-www-form-urlencoded)
             HttpHeaders headers = new HttpHeaders();
@@ -838,32 +828,11 @@ public class PaymentService {
             HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(formData, headers);
             
             try {
-                ResponseEntity<String> response = restTemplate.postForEntity(authUrl, request, String.class);
+                ResponseEntity<String> response = pgHttpClient.post(PgOperation.INICIS_AUTH_APPROVAL, authUrl, request);
                 String responseBody = response.getBody();
                 
-                // 승인 응답 데이터 로그 출력 (JSON 포맷)
-                try {
-                    logger.info("=== 승인 응답 RESPONSE DATA ===");
-                    logger.info("Order No: {}", order.getOrderNo());
-                    logger.info("HTTP Status: {}", response.getStatusCode());
-                    logger.info("Response Headers: {}", response.getHeaders());
-                    
-                    if (responseBody != null && !responseBody.trim().isEmpty()) {
-                        // JSON 형태로 파싱해서 예쁘게 출력
-                        if (responseBody.trim().startsWith("{") || responseBody.trim().startsWith("[")) {
-                            Object parsedResponse = objectMapper.readValue(responseBody, Object.class);
-                            String prettyResponseJson = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(parsedResponse);
-                            logger.info("Response JSON:\n{}", prettyResponseJson);
-                        } else {
-                            logger.info("Response Body: {}", responseBody);
-                        }
-                    } else {
-                        logger.info("Response Body: (empty)");
-                    }
-                    logger.info("=== 승인 응답 RESPONSE DATA END ===");
-                } catch (Exception logException) {
-                    logger.info("Auth API response status: {}, body: {}", response.getStatusCode(), responseBody);
-                }
+                // 요청/응답 원문은 PgWireTrace (pg.wire 로거 TRACE, /api/payment/debug/pg-wire)
+                logger.info("Inicis auth approval response - orderNo: {}, status: {}", order.getOrderNo(), response.getStatusCode());
                 
                 // 응답 로그 저장
                 responseLog = logApiResponse(order.getOrderNo(), authUrl, responseBody, response.getStatusCode().value(), true, null);
@@ -898,13 +867,6 @@ public class PaymentService {
                 return responseData;
                 
             } catch (Exception apiException) {
-                // 승인 API 실패 로그 출력
-                logger.info("=== 승인 응답 RESPONSE DATA (실패) ===");
-                logger.info("Order No: {}", order.getOrderNo());
-                logger.info("Error: {}", apiException.getMessage());
-                logger.info("Exception Type: {}", apiException.getClass().getSimpleName());
-                logger.info("=== 승인 응답 RESPONSE DATA (실패) END ===");
-                
                 logger.error("Auth API call failed for orderNo: {}", order.getOrderNo(), apiException);
                 
                 // 실패 응답 로그 저장
@@ -926,12 +888,12 @@ public class PaymentService {
             log.setRequestUrl(requestUrl);
             
             // JSON 형식으로 변환하여 저장
-            String jsonRequestData = objectMapper.writerWithDefaultPrettyPrinter()
-                                                 .writeValueAsString(requestData);
+            String jsonRequestData = auditJsonWriter.writeValueAsString(requestData);
             log.setRequestData(jsonRequestData);
             log.setIsSuccess(true);
             
-            return ifInisisLogRepository.save(log);
+            ifInisisLogWriter.submit(log);
+            return log;
             
         } catch (Exception e) {
             logger.error("Error saving API request log: {}", e.getMessage(), e);
@@ -953,7 +915,8 @@ public class PaymentService {
             log.setIsSuccess(isSuccess);
             log.setErrorMessage(errorMessage);
             
-            return ifInisisLogRepository.save(log);
+            ifInisisLogWriter.submit(log);
+            return log;
             
         } catch (Exception e) {
             logger.error("Error saving API response log: {}", e.getMessage(), e);
@@ -969,9 +932,8 @@ public class PaymentService {
             if (responseData != null && !responseData.trim().isEmpty()) {
                 // 이미 JSON 형식인지 확인
                 if (responseData.trim().startsWith("{") || responseData.trim().startsWith("[")) {
-                    // 이미 JSON이면 pretty print로 포맷팅
-                    Object parsedResponse = objectMapper.readValue(responseData, Object.class);
-                    return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(parsedResponse);
+                    // 이미 JSON이면 그대로 저장
+                    return responseData;
                 } else {
                     // JSON이 아니면 rawResponse로 감싸서 JSON 생성
                     jsonResponse.put("rawResponse", responseData);
@@ -987,7 +949,7 @@ public class PaymentService {
                 jsonResponse.put("response", "empty");
             }
             
-            return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(jsonResponse);
+            return auditJsonWriter.writeValueAsString(jsonResponse);
             
         } catch (Exception e) {
             logger.error("Error formatting response data as JSON: {}", e.getMessage(), e);
@@ -997,7 +959,7 @@ public class PaymentService {
                 fallbackResponse.put("originalResponse", responseData);
                 fallbackResponse.put("errorMessage", errorMessage);
                 fallbackResponse.put("formatError", e.getMessage());
-                return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(fallbackResponse);
+                return auditJsonWriter.writeValueAsString(fallbackResponse);
             } catch (JsonProcessingException je) {
                 return "{\"error\": \"Failed to format response as JSON\"}";
             }
@@ -1099,7 +1061,7 @@ public class PaymentService {
                 payment.setApplNum((String) authResult.get("applNum"));
             }
             
-            paymentRepository.save(payment);
+            savePayment(payment);
             logger.info("Payment record with auth result saved - Order: {}, Payment ID: {}, TID: {}", 
                        order.getOrderNo(), payment.getId(), payment.getTid());
             
@@ -1109,19 +1071,38 @@ public class PaymentService {
         }
     }
 
-    // 사용자별 결제 내역 조회
-    public Map<String, Object> getUserPaymentHistory(Long userId) {
+    // 사용자별 결제 내역 조회 (paymentDate, id 기준 keyset 페이지네이션)
+    @Transactional(readOnly = true)
+    public Map<String, Object> getUserPaymentHistory(Long userId, String cursor, Integer size) {
         try {
-            logger.info("Getting payment history for user: {}", userId);
+            logger.info("Getting payment history for user: {}, cursor: {}", userId, cursor);
+            
+            int pageSize = resolvePageSize(size);
+            PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+            List<Payment> payments;
+            if (cursor == null || cursor.isBlank()) {
+                payments = paymentRepository.findPageByUserId(userId, pageRequest);
+            } else {
+                KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+                payments = paymentRepository.findPageByUserIdAfter(
+                    userId, keysetCursor.getSortKey(), keysetCursor.getId(), pageRequest);
+            }
             
-            List<Payment> payments = paymentRepository.findByUserIdOrderByPaymentDateDesc(userId);
+            String nextCursor = null;
+            if (payments.size() > pageSize) {
+                payments = payments.subList(0, pageSize);
+                Payment last = payments.get(pageSize - 1);
+                nextCursor = new KeysetCursor(last.getPaymentDate(), last.getId()).encode();
+            }
             
-            return Map.of(
-                "success", true,
-                "userId", userId,
-                "payments", payments,
-                "totalCount", payments.size()
-            );
+            Map<String, Object> result = new HashMap<>();
+            result.put("success", true);
+            result.put("userId", userId);
+            result.put("payments", payments);
+            result.put("count", payments.size());
+            result.put("hasNext", nextCursor != null);
+            result.put("nextCursor", nextCursor);
+            return result;
             
         } catch (Exception e) {
             logger.error("Error getting payment history for user: {}", userId, e);
@@ -1132,13 +1113,34 @@ public class PaymentService {
         }
     }
     
-    // 사용자별 주문 내역과 결제 정보 조회 (조인)
-    public Map<String, Object> getUserOrdersWithPayments(Long userId) {
+    // 사용자별 주문 내역과 결제 정보 조회 (createdAt, id 기준 keyset 페이지네이션)
+    @Transactional(readOnly = true)
+    public Map<String, Object> getUserOrdersWithPayments(Long userId, String cursor, Integer size) {
         try {
-            logger.info("Getting orders with payments for user: {}", userId);
+            logger.info("Getting orders with payments for user: {}, cursor: {}", userId, cursor);
+            
+            // 사용자의 주문 한 페이지 조회 (다음 페이지 여부 확인용으로 1건 더 조회)
+            int pageSize = resolvePageSize(size);
+            PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+            List<Order> orders;
+            if (cursor == null || cursor.isBlank()) {
+                orders = orderRepository.findPageByUserId(userId, pageRequest);
+            } else {
+                KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+                orders = orderRepository.findPageByUserIdAfter(
+                    userId, keysetCursor.getSortKey(), keysetCursor.getId(), pageRequest);
+            }
             
-            // 사용자의 모든 주문 조회
-            List<Order> orders = orderRepository.findByUserIdOrderByCreatedAtDesc(userId);
+            String nextCursor = null;
+            if (orders.size() > pageSize) {
+                orders = orders.subList(0, pageSize);
+                Order last = orders.get(pageSize - 1);
+                nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+            }
+            
+            // 주문들의 표시용 결제 정보를 IN 조회로 한 번에 가져와 주문번호별로 묶음
+            Map<String, List<Payment>> paymentsByOrderNo = findPaymentsByOrderNos(
+                orders.stream().map(Order::getOrderNo).toList());
             
             // 각 주문에 대한 결제 정보 추가
             List<Map<String, Object>> orderDetails = orders.stream().map(order -> {
@@ -1153,11 +1155,8 @@ public class PaymentService {
                 orderInfo.put("createdAt", order.getCreatedAt());
                 orderInfo.put("updatedAt", order.getUpdatedAt());
                 
-                // 해당 주문의 모든 결제 정보 조회 (각각 별도 로우로 표시)
-                List<Payment> allPayments = paymentRepository.findByOrderNoOrderByPaymentDateDesc(order.getOrderNo());
-
-                // 취소가 발생한 경우 원본 사용내역은 숨기고 취소내역만 표시
-                List<Payment> filteredPayments = filterPaymentsForDisplay(allPayments);
+                // 해당 주문의 표시용 결제 정보 (각각 별도 로우로 표시, 취소된 원본 사용내역은 조회 시 제외)
+                List<Payment> filteredPayments = paymentsByOrderNo.getOrDefault(order.getOrderNo(), List.of());
 
                 List<Map<String, Object>> paymentInfoList = filteredPayments.stream().map(payment -> {
                     Map<String, Object> paymentInfo = new HashMap<>();
@@ -1201,12 +1200,14 @@ public class PaymentService {
                 return orderInfo;
             }).toList();
             
-            return Map.of(
-                "success", true,
-                "userId", userId,
-                "orders", orderDetails,
-                "totalCount", orders.size()
-            );
+            Map<String, Object> result = new HashMap<>();
+            result.put("success", true);
+            result.put("userId", userId);
+            result.put("orders", orderDetails);
+            result.put("count", orders.size());
+            result.put("hasNext", nextCursor != null);
+            result.put("nextCursor", nextCursor);
+            return result;
             
         } catch (Exception e) {
             logger.error("Error getting orders with payments for user: {}", userId, e);
@@ -1217,7 +1218,28 @@ public class PaymentService {
         }
     }
 
+    // 요청 페이지 크기 결정 (미지정 시 기본값, 최대값 제한)
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    // 주문번호 목록의 표시용 결제 내역을 주문번호별로 묶어서 조회 (주문별 최신순 유지)
+    private Map<String, List<Payment>> findPaymentsByOrderNos(List<String> orderNos) {
+        Map<String, List<Payment>> paymentsByOrderNo = new HashMap<>();
+        for (int from = 0; from < orderNos.size(); from += ORDER_NO_IN_BATCH_SIZE) {
+            List<String> chunk = orderNos.subList(from, Math.min(from + ORDER_NO_IN_BATCH_SIZE, orderNos.size()));
+            for (Payment payment : paymentRepository.findDisplayPaymentsByOrderNoIn(chunk)) {
+                paymentsByOrderNo.computeIfAbsent(payment.getOrderNo(), key -> new ArrayList<>()).add(payment);
+            }
+        }
+        return paymentsByOrderNo;
+    }
+
     // 주문번호로 주문 상세 정보와 결제 내역 조회
+    @Transactional(readOnly = true)
     public Map<String, Object> getOrderDetailWithPayments(String orderNo) {
         try {
             logger.info("Getting order detail with payments for orderNo: {}", orderNo);
@@ -1233,11 +1255,8 @@ public class PaymentService {
 
             Order order = orderOpt.get();
 
-            // 해당 주문의 모든 결제 정보 조회
-            List<Payment> allPayments = paymentRepository.findByOrderNoOrderByPaymentDateDesc(orderNo);
-
-            // 취소가 발생한 경우 원본 사용내역은 숨기고 취소내역만 표시
-            List<Payment> filteredPayments = filterPaymentsForDisplay(allPayments);
+            // 해당 주문의 표시용 결제 정보 조회 (취소가 발생한 경우 원본 사용내역은 숨기고 취소내역만 표시)
+            List<Payment> filteredPayments = paymentRepository.findDisplayPaymentsByOrderNoIn(List.of(orderNo));
 
             List<Map<String, Object>> paymentInfoList = filteredPayments.stream().map(payment -> {
                 Map<String, Object> paymentInfo = new HashMap<>();
@@ -1280,105 +1299,69 @@ public class PaymentService {
         }
     }
 
-    // 주문의 결제 상태를 확인하고 필요시 주문 상태 업데이트
-    private void updateOrderStatusBasedOnPayments(String orderNo) {
+    // 주문의 결제가 모두 취소되었으면 주문을 취소 상태로 변경 (결제 내역을 읽어 오지 않고 조건부 UPDATE 한 번으로 판단)
+    void updateOrderStatusBasedOnPayments(String orderNo) {
         try {
-            Optional<Order> orderOpt = orderRepository.findByOrderNo(orderNo);
-            if (orderOpt.isEmpty()) {
-                logger.warn("Order not found for updateOrderStatusBasedOnPayments: {}", orderNo);
-                return;
-            }
-
-            Order order = orderOpt.get();
-            List<Payment> allPayments = paymentRepository.findByOrderNoOrderByPaymentDateDesc(orderNo);
-
-            // 모든 활성 결제 내역 (취소되지 않은 것들)
-            List<Payment> activePayments = allPayments.stream()
-                .filter(p -> !"REFUNDED".equals(p.getStatus()) &&
-                           !p.getPaymentType().endsWith("_REFUND") &&
-                           p.getAmount() > 0)
-                .toList();
-
-            // 모든 취소 내역
-            List<Payment> refundPayments = allPayments.stream()
-                .filter(p -> "REFUNDED".equals(p.getStatus()) ||
-                           p.getPaymentType().endsWith("_REFUND") ||
-                           p.getAmount() < 0)
-                .toList();
-
-            // 활성 결제 총액
-            long activePaymentAmount = activePayments.stream()
-                .mapToLong(Payment::getAmount)
-                .sum();
-
-            // 취소 총액 (절댓값)
-            long refundAmount = refundPayments.stream()
-                .mapToLong(p -> Math.abs(p.getAmount()))
-                .sum();
-
-            logger.info("Order {} - Active payments: {}, Refund amount: {}, Total amount: {}",
-                       orderNo, activePaymentAmount, refundAmount, order.getTotalAmount());
-
-            // 모든 결제가 취소된 경우 주문을 취소 상태로 변경
-            if (activePaymentAmount == 0 && refundAmount > 0 &&
-                order.getStatus() != Order.OrderStatus.CANCELLED) {
-                order.setStatus(Order.OrderStatus.CANCELLED);
-                orderRepository.save(order);
+            if (orderRepository.cancelIfFullyRefunded(orderNo, LocalDateTime.now()) > 0) {
+                // JPQL 로 바꾼 상태는 entity listener 를 거치지 않으므로 직접 캐시 무효화
+                orderRepository.findIdByOrderNo(orderNo)
+                    .ifPresent(orderId -> orderStatusCacheInvalidator.orderChanged(orderId, orderNo));
                 logger.info("Order {} status changed to CANCELLED - all payments refunded", orderNo);
             }
-
         } catch (Exception e) {
             logger.error("Error updating order status for orderNo: {}", orderNo, e);
         }
     }
 
-    // 취소가 발생한 경우 원본 사용내역은 숨기고 취소내역만 표시하기 위한 필터링
-    private List<Payment> filterPaymentsForDisplay(List<Payment> allPayments) {
-        // 1. TID 중복 제거 (같은 TID를 가진 경우 가장 최신 것만 유지)
-        Map<String, Payment> tidToLatestPayment = new LinkedHashMap<>();
-
-        for (Payment payment : allPayments) {
-            String tid = payment.getTid();
-            if (tid != null && !tid.trim().isEmpty()) {
-                // 같은 TID가 있으면 최신 것으로 교체 (이미 정렬되어 있으므로 첫 번째가 최신)
-                if (!tidToLatestPayment.containsKey(tid)) {
-                    tidToLatestPayment.put(tid, payment);
-                }
-            } else {
-                // TID가 없는 경우 (적립금 결제 등) 그대로 포함
-                tidToLatestPayment.put("NO_TID_" + payment.getId(), payment);
+    // 결제 1건이 주문 결제 누계에 더하는 금액 [카드 결제, 적립금 결제, 카드 취소, 적립금 취소]
+    // 완료(취소 진행 중 포함)된 결제와 취소 완료 내역만 반영 (V6 마이그레이션의 초기 집계와 같은 기준)
+    static long[] paymentTotals(Payment payment) {
+        long[] totals = new long[4];
+        String type = payment.getPaymentType();
+        Long amount = payment.getAmount();
+        if (type == null || amount == null) {
+            return totals;
+        }
+        String status = payment.getStatus();
+        if (("COMPLETED".equals(status) || REFUNDING_STATUS.equals(status)) && amount > 0) {
+            if (Payment.PaymentType.POINT.name().equals(type)) {
+                totals[1] = amount;
+            } else if (!type.endsWith("_REFUND")) {
+                totals[0] = amount;
+            }
+        } else if ("REFUNDED".equals(status)) {
+            if (Payment.PaymentType.CARD_REFUND.name().equals(type)) {
+                totals[2] = Math.abs(amount);
+            } else if (Payment.PaymentType.POINT_REFUND.name().equals(type)) {
+                totals[3] = Math.abs(amount);
             }
         }
+        return totals;
+    }
 
-        List<Payment> uniquePayments = new ArrayList<>(tidToLatestPayment.values());
-
-        // 2. 취소 내역이 있는지 확인
-        boolean hasCardRefund = uniquePayments.stream()
-            .anyMatch(p -> "CARD_REFUND".equals(p.getPaymentType()));
-        boolean hasPointRefund = uniquePayments.stream()
-            .anyMatch(p -> "POINT_REFUND".equals(p.getPaymentType()));
-
-        return uniquePayments.stream()
-            .filter(payment -> {
-                String paymentType = payment.getPaymentType();
-
-                // 카드 취소가 있으면 원본 카드 결제는 숨김
-                if ("CARD".equals(paymentType) && hasCardRefund) {
-                    return false;
-                }
-
-                // 적립금 취소가 있으면 원본 적립금 사용은 숨김
-                if ("POINT".equals(paymentType) && hasPointRefund) {
-                    return false;
-                }
+    private Payment savePayment(Payment payment) {
+        return savePayment(payment, NO_PAYMENT_TOTALS);
+    }
 
-                // 나머지는 모두 표시 (취소 내역, 실패 내역 등)
-                return true;
-            })
-            .toList();
+    // 결제 내역 저장 + 주문 결제 누계 반영 (같은 트랜잭션에서 원자적 증가, totalsBefore 는 기존 결제를 수정한 경우 수정 전 값)
+    private Payment savePayment(Payment payment, long[] totalsBefore) {
+        Payment savedPayment = paymentRepository.save(payment);
+        long[] totals = paymentTotals(savedPayment);
+        for (int i = 0; i < totals.length; i++) {
+            totals[i] -= totalsBefore[i];
+        }
+        if (totals[0] != 0 || totals[1] != 0 || totals[2] != 0 || totals[3] != 0) {
+            int updated = orderRepository.addPaymentTotals(savedPayment.getOrderNo(),
+                totals[0], totals[1], totals[2], totals[3], LocalDateTime.now());
+            if (updated == 0) {
+                logger.warn("Order not found for payment totals - orderNo: {}, paymentId: {}",
+                           savedPayment.getOrderNo(), savedPayment.getId());
+            }
+        }
+        return savedPayment;
     }
 
-    // 주문번호로 결제 취소
+    // 주문번호로 결제 취소 (취소 예약 → 이니시스 취소 API → 결과 반영)
     public Map<String, Object> refundPaymentByOrderNo(String orderNo, String refundReason, String clientIp) {
         try {
             logger.info("Processing refund for orderNo: {}, reason: {}", orderNo, refundReason);
@@ -1411,17 +1394,20 @@ public class PaymentService {
                 );
             }
             
-            // 이니시스 취소 API 호출
+            String rejection = reserveRefund(payment.getId());
+            if (rejection != null) {
+                return Map.of(
+                    "success", false,
+                    "message", rejection
+                );
+            }
+            
+            // 이니시스 취소 API 호출 (트랜잭션 밖)
             Map<String, Object> refundResult = callInicisRefundAPI(tid, refundReason, clientIp);
+            completeRefund(payment.getId(), refundResult, refundReason);
             
             String resultCode = (String) refundResult.get("resultCode");
             if ("00".equals(resultCode)) {
-                // 취소 성공 시 payments 테이블에 취소 데이터 저장
-                saveRefundRecord(payment, refundResult, refundReason);
-
-                // 주문 상태 업데이트 (모든 결제가 취소되었는지 확인)
-                updateOrderStatusBasedOnPayments(orderNo);
-
                 return Map.of(
                     "success", true,
                     "message", "주문이 성공적으로 취소되었습니다.",
@@ -1476,7 +1462,7 @@ public class PaymentService {
         }
     }
     
-    // 결제 취소 (이니시스 refund API)
+    // 결제 취소 (이니시스 refund API, 취소 예약 → 취소 API → 결과 반영)
     public Map<String, Object> refundPayment(String tid, String refundReason, String clientIp) {
         try {
             logger.info("Processing refund for TID: {}, reason: {}", tid, refundReason);
@@ -1493,17 +1479,20 @@ public class PaymentService {
             
             Payment payment = paymentOpt.get();
             
-            // 이니시스 취소 API 호출
+            String rejection = reserveRefund(payment.getId());
+            if (rejection != null) {
+                return Map.of(
+                    "success", false,
+                    "message", rejection
+                );
+            }
+            
+            // 이니시스 취소 API 호출 (트랜잭션 밖)
             Map<String, Object> refundResult = callInicisRefundAPI(tid, refundReason, clientIp);
+            completeRefund(payment.getId(), refundResult, refundReason);
             
             String resultCode = (String) refundResult.get("resultCode");
             if ("00".equals(resultCode)) {
-                // 취소 성공 시 payments 테이블에 취소 데이터 저장
-                saveRefundRecord(payment, refundResult, refundReason);
-
-                // 주문 상태 업데이트 (모든 결제가 취소되었는지 확인)
-                updateOrderStatusBasedOnPayments(payment.getOrderNo());
-
                 return Map.of(
                     "success", true,
                     "message", "결제가 성공적으로 취소되었습니다.",
@@ -1527,8 +1516,67 @@ public class PaymentService {
         }
     }
     
-    // 이니시스 취소 API 호출
-    private Map<String, Object> callInicisRefundAPI(String tid, String refundReason, String clientIp) {
+    // 취소 예약: 결제 행을 잠그고 COMPLETED 인 경우만 REFUNDING 으로 변경 (동시 취소 요청 중 하나만 PG 호출)
+    // 주문 결제 누계로 이미 취소된 결제도 거절, 반환값은 거절 사유 (예약되면 null)
+    private String reserveRefund(Long paymentId) {
+        return transactionTemplate.execute(status -> {
+            Optional<Payment> paymentOpt = paymentRepository.findByIdForUpdate(paymentId);
+            if (paymentOpt.isEmpty() || !"COMPLETED".equals(paymentOpt.get().getStatus())) {
+                return "이미 취소가 진행 중인 결제입니다.";
+            }
+            Payment payment = paymentOpt.get();
+            long refundableAmount = orderRepository.findRefundableCardAmount(payment.getOrderNo()).orElse(0L);
+            if (refundableAmount < payment.getAmount()) {
+                return "이미 취소된 결제입니다.";
+            }
+            payment.setStatus(REFUNDING_STATUS);
+            return null;
+        });
+    }
+    
+    // 취소 결과 반영: 원 결제는 COMPLETED 로 되돌리고, 취소 성공 시 취소 레코드 저장 + 주문 상태 갱신
+    private void completeRefund(Long paymentId, Map<String, Object> refundResult, String refundReason) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Payment payment = paymentRepository.findById(paymentId).orElseThrow();
+                payment.setStatus("COMPLETED");
+                if ("00".equals(refundResult.get("resultCode"))) {
+                    saveRefundRecord(payment, refundResult, refundReason);
+                    updateOrderStatusBasedOnPayments(payment.getOrderNo());
+                }
+            });
+        } catch (RuntimeException e) {
+            // PG 취소 결과를 DB 에 반영하지 못함 - 결제는 REFUNDING 으로 남아 추가 취소를 막는다
+            logger.error("Failed to record refund result - paymentId: {}, refundResult: {}", paymentId, refundResult, e);
+            throw e;
+        }
+    }
+    
+    // 오래된 취소 예약(REFUNDING) 정리 - 운영자가 PG 에서 확인한 취소 여부를 반영하고 원 결제를 COMPLETED 로 되돌림
+    // 이미 정리됐거나 staleBefore 이후에 예약된(취소 API 호출 중일 수 있는) 결제는 거절, 반환값은 거절 사유 (정리되면 null)
+    String resolveStaleRefund(Long paymentId, LocalDateTime staleBefore, boolean pgCancelled, String refundReason) {
+        return transactionTemplate.execute(status -> {
+            Optional<Payment> paymentOpt = paymentRepository.findByIdForUpdate(paymentId);
+            if (paymentOpt.isEmpty() || !REFUNDING_STATUS.equals(paymentOpt.get().getStatus())) {
+                return "취소 진행 중인 결제가 아닙니다.";
+            }
+            Payment payment = paymentOpt.get();
+            if (payment.getUpdatedAt() != null && !payment.getUpdatedAt().isBefore(staleBefore)) {
+                return "취소 API 호출이 아직 진행 중일 수 있는 결제입니다.";
+            }
+            payment.setStatus("COMPLETED");
+            if (pgCancelled) {
+                saveRefundRecord(payment, Map.of("resultCode", "00"), refundReason);
+                updateOrderStatusBasedOnPayments(payment.getOrderNo());
+            }
+            logger.warn("Stale refund reservation resolved - paymentId: {}, orderNo: {}, pgCancelled: {}",
+                       paymentId, payment.getOrderNo(), pgCancelled);
+            return null;
+        });
+    }
+    
+    // 이니시스 취소 API 호출 (resultCode 00 이면 성공, BatchRefundService 에서도 사용)
+    Map<String, Object> callInicisRefundAPI(String tid, String refundReason, String clientIp) {
         try {
             String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
             
@@ -1539,25 +1587,18 @@ public class PaymentService {
             
             // hashData 생성 (SHA512): INIAPIKey + mid + type + timestamp + data
             String dataJson = objectMapper.writeValueAsString(data);
-            String hashSource = INI_API_KEY + MID + "refund" + timestamp + dataJson;
-            String hashData = sha512Hash(hashSource);
+            String hashData = pgSigner.inicisRefundHash(timestamp, dataJson);
             
             // 요청 데이터 생성
             Map<String, Object> requestData = new HashMap<>();
-            requestData.put("mid", MID);
+            requestData.put("mid", pgSigner.getInicisMid());
             requestData.put("type", "refund");
             requestData.put("timestamp", timestamp);
             requestData.put("clientIp", clientIp);
             requestData.put("hashData", hashData);
             requestData.put("data", data);
             
-            logger.info("=== 취소 요청 REQUEST DATA ===");
-            logger.info("TID: {}", tid);
-            logger.info("Refund URL: {}", INICIS_REFUND_URL);
-            logger.info("Hash Source: {}", hashSource);
-            logger.info("Generated Hash: {}", hashData);
-            logger.info("Request JSON:\n{}", objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(requestData));
-            logger.info("=== 취소 요청 REQUEST DATA END ===");
+            logger.info("Inicis refund requested - tid: {}, url: {}", tid, inicisRefundUrl);
             
             // HTTP 헤더 설정
             HttpHeaders headers = new HttpHeaders();
@@ -1566,22 +1607,9 @@ public class PaymentService {
             // HTTP 요청 생성 및 전송
             HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestData, headers);
             
-            ResponseEntity<String> response = restTemplate.postForEntity(INICIS_REFUND_URL, request, String.class);
-            String responseBody = response.getBody();
-            
-            logger.info("=== 취소 응답 RESPONSE DATA ===");
-            logger.info("TID: {}", tid);
-            logger.info("HTTP Status: {}", response.getStatusCode());
-            if (responseBody != null && !responseBody.trim().isEmpty()) {
-                if (responseBody.trim().startsWith("{")) {
-                    Object parsedResponse = objectMapper.readValue(responseBody, Object.class);
-                    String prettyResponseJson = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(parsedResponse);
-                    logger.info("Response JSON:\n{}", prettyResponseJson);
-                } else {
-                    logger.info("Response Body: {}", responseBody);
-                }
-            }
-            logger.info("=== 취소 응답 RESPONSE DATA END ===");
+            ResponseEntity<String> response = pgHttpClient.post(PgOperation.INICIS_REFUND, inicisRefundUrl, request);
+            
+            logger.info("Inicis refund response - tid: {}, status: {}", tid, response.getStatusCode());
             
             // 간단한 응답 처리
             return Map.of("resultCode", "00", "resultMsg", "취소 완료");
@@ -1612,7 +1640,7 @@ public class PaymentService {
             refundPayment.setCardName(originalPayment.getCardName());
             refundPayment.setCardCode(originalPayment.getCardCode());
             
-            paymentRepository.save(refundPayment);
+            savePayment(refundPayment);
             logger.info("Refund record saved successfully - Payment ID: {}", refundPayment.getId());
             
         } catch (Exception e) {
@@ -1620,80 +1648,48 @@ public class PaymentService {
         }
     }
     
-    // SHA512 해시 생성
-    private String sha512Hash(String input) throws Exception {
-        MessageDigest digest = MessageDigest.getInstance("SHA-512");
-        byte[] hash = digest.digest(input.getBytes(StandardCharsets.UTF_8));
-        
-        StringBuilder hexString = new StringBuilder();
-        for (byte b : hash) {
-            String hex = Integer.toHexString(0xff & b);
-            if (hex.length() == 1) {
-                hexString.append('0');
-            }
-            hexString.append(hex);
-        }
-        return hexString.toString();
-    }
-
     // 적립금 취소 (포인트 복구)
+    @Transactional
     public Map<String, Object> refundPointsByOrderNo(String orderNo, String refundReason) {
         try {
             logger.info("Processing point refund for orderNo: {}, reason: {}", orderNo, refundReason);
 
-            // 해당 주문의 적립금 사용 내역 조회
-            List<Payment> pointPayments = paymentRepository.findByOrderNo(orderNo)
-                    .stream()
-                    .filter(p -> Payment.PaymentType.POINT.name().equals(p.getPaymentType()) && "COMPLETED".equals(p.getStatus()))
-                    .toList();
-
-            if (pointPayments.isEmpty()) {
+            // 주문 정보 조회 (사용자 정보 + 적립금 결제/취소 누계)
+            // 주문 행을 잠가 동시 취소 요청 중 하나만 누계 확인 후 적립금을 복구 (나머지는 커밋된 취소 누계를 보고 거절)
+            Optional<Order> orderOpt = orderRepository.findByOrderNoForUpdate(orderNo);
+            if (orderOpt.isEmpty()) {
                 return Map.of(
                     "success", false,
-                    "message", "해당 주문의 적립금 사용 내역을 찾을 수 없습니다."
+                    "message", "주문 정보를 찾을 수 없습니다."
                 );
             }
 
-            // 이미 취소된 적립금이 있는지 확인
-            List<Payment> refundedPoints = paymentRepository.findByOrderNo(orderNo)
-                    .stream()
-                    .filter(p -> Payment.PaymentType.POINT_REFUND.name().equals(p.getPaymentType()))
-                    .toList();
-
-            if (!refundedPoints.isEmpty()) {
+            Order order = orderOpt.get();
+            if (order.getCapturedPoints() == 0) {
                 return Map.of(
                     "success", false,
-                    "message", "이미 적립금이 취소되었습니다."
+                    "message", "해당 주문의 적립금 사용 내역을 찾을 수 없습니다."
                 );
             }
 
-            // 주문 정보 조회하여 사용자 정보 가져오기
-            Optional<Order> orderOpt = orderRepository.findByOrderNo(orderNo);
-            if (orderOpt.isEmpty()) {
+            // 이미 취소된 적립금이 있는지 확인
+            if (order.getRefundedPoints() > 0) {
                 return Map.of(
                     "success", false,
-                    "message", "주문 정보를 찾을 수 없습니다."
+                    "message", "이미 적립금이 취소되었습니다."
                 );
             }
 
-            Order order = orderOpt.get();
-            Optional<User> userOpt = userRepository.findById(order.getUserId());
-            if (userOpt.isEmpty()) {
+            Long totalPointsToRefund = order.getCapturedPoints();
+
+            // 사용자 적립금 복구
+            if (userRepository.creditPoints(order.getUserId(), totalPointsToRefund.intValue()) == 0) {
                 return Map.of(
                     "success", false,
                     "message", "사용자 정보를 찾을 수 없습니다."
                 );
             }
 
-            User user = userOpt.get();
-            Long totalPointsToRefund = pointPayments.stream()
-                    .mapToLong(Payment::getAmount)
-                    .sum();
-
-            // 사용자 적립금 복구
-            user.setPoints(user.getPoints() + totalPointsToRefund.intValue());
-            userRepository.save(user);
-
             // 적립금 취소 내역 Payment 테이블에 기록
             Payment pointRefund = new Payment();
             pointRefund.setOrderNo(orderNo);
@@ -1706,10 +1702,10 @@ public class PaymentService {
             pointRefund.setPaymentDate(LocalDateTime.now());
             pointRefund.setCardName("적립금");
 
-            paymentRepository.save(pointRefund);
+            savePayment(pointRefund);
 
             logger.info("Points refunded successfully - OrderNo: {}, Points: {}, User: {}",
-                       orderNo, totalPointsToRefund, user.getId());
+                       orderNo, totalPointsToRefund, order.getUserId());
 
             // 주문 상태 업데이트 (모든 결제가 취소되었는지 확인)
             updateOrderStatusBasedOnPayments(orderNo);
@@ -1719,7 +1715,7 @@ public class PaymentService {
                 "message", "적립금이 성공적으로 취소되었습니다.",
                 "orderNo", orderNo,
                 "refundedPoints", totalPointsToRefund,
-                "userCurrentPoints", user.getPoints()
+                "userCurrentPoints", userRepository.findPointsById(order.getUserId()).orElse(0)
             );
 
         } catch (Exception e) {
@@ -1736,8 +1732,16 @@ public class PaymentService {
         createInicisLog(orderNo, requestType, requestUrl, requestData);
     }
 
-    // 이니시스 로그 생성 및 요청 데이터 저장
+    // 이니시스 로그 생성 및 요청 데이터 저장 (비동기)
     private IfInisisLog createInicisLog(String orderNo, String requestType, String requestUrl, Map<String, Object> requestData) {
+        IfInisisLog log = buildInicisLog(orderNo, requestType, requestUrl, requestData,
+                                         requestData != null ? InicisCallback.of(requestData).tid() : null);
+        ifInisisLogWriter.submit(log);
+        return log;
+    }
+
+    // 이니시스 로그 생성 (저장하지 않음 - updateInicisLogResponse에서 응답과 함께 저장)
+    private IfInisisLog buildInicisLog(String orderNo, String requestType, String requestUrl, Map<String, ?> requestData, String tid) {
         try {
             IfInisisLog log = new IfInisisLog(orderNo != null ? orderNo : "UNKNOWN", requestType, "INICIS");
             log.setRequestUrl(requestUrl);
@@ -1745,10 +1749,8 @@ public class PaymentService {
             // 요청 데이터를 JSON으로 변환하여 저장
             if (requestData != null) {
                 try {
-                    String jsonData = objectMapper.writeValueAsString(requestData);
-                    logger.info("=== DEBUG: requestData type: {}", requestData.getClass().getName());
-                    logger.info("=== DEBUG: requestData content: {}", requestData);
-                    logger.info("=== DEBUG: JSON result: {}", jsonData);
+                    String jsonData = auditJsonWriter.writeValueAsString(requestData);
+                    logger.debug("Inicis log request data: {}", jsonData);
                     log.setRequestData(jsonData);
                 } catch (Exception e) {
                     logger.error("JSON conversion failed: {}", e.getMessage());
@@ -1756,16 +1758,11 @@ public class PaymentService {
                 }
             }
 
-            // 민감한 정보 추출 및 저장
-            if (requestData != null) {
-                String tid = extractTransactionId(requestData);
-                if (tid != null && !tid.trim().isEmpty()) {
-                    log.setTransactionId(tid);
-                }
+            if (tid != null && !tid.trim().isEmpty()) {
+                log.setTransactionId(tid);
             }
 
-            ifInisisLogRepository.save(log);
-            logger.info("Created Inicis log: orderNo={}, requestType={}", orderNo, requestType);
+            logger.debug("Built Inicis log: orderNo={}, requestType={}", orderNo, requestType);
 
             return log;
 
@@ -1782,7 +1779,7 @@ public class PaymentService {
                 // 응답 데이터를 JSON으로 변환하여 저장
                 if (responseData != null) {
                     try {
-                        String jsonData = objectMapper.writeValueAsString(responseData);
+                        String jsonData = auditJsonWriter.writeValueAsString(responseData);
                         log.setResponseData(jsonData);
                     } catch (Exception e) {
                         log.setResponseData("JSON_ERROR: " + responseData.toString());
@@ -1796,8 +1793,8 @@ public class PaymentService {
                     log.setErrorMessage(errorMessage);
                 }
 
-                ifInisisLogRepository.save(log);
-                logger.info("Updated Inicis log response: orderNo={}, success={}", log.getOrderNo(), isSuccess);
+                ifInisisLogWriter.submit(log);
+                logger.debug("Queued Inicis log response: orderNo={}, success={}", log.getOrderNo(), isSuccess);
             }
 
         } catch (Exception e) {
@@ -1850,24 +1847,25 @@ public class PaymentService {
 
     // NICE Pay 결제 응답 처리
     @Transactional
-    public PaymentResultDto handleNicePayResponse(Map<String, Object> params) {
+    public PaymentResultDto handleNicePayResponse(NicePayCallback callback) {
         String orderNo = null;
+        IfInisisLog log = null;
+        Map<String, String> params = callback.params();
         try {
             logger.info("=== NICE Pay 응답 처리 시작 ===");
             logger.info("Response params: {}", params);
 
-            // 주문번호 추출
-            orderNo = extractOrderNoFromNicePay(params);
+            orderNo = callback.orderNo();
             logger.info("Extracted orderNo: {}", orderNo);
 
-            // 로그 생성
-            IfInisisLog log = createPaymentProviderLog(orderNo, "NICEPAY_RESPONSE", null, params, "NICEPAY");
+            // 로그 생성 (응답 데이터와 함께 비동기 저장)
+            log = buildPaymentProviderLog(orderNo, "NICEPAY_RESPONSE", null, params, "NICEPAY");
 
-            // NICE Pay 응답 파라미터 확인 (다양한 케이스 처리)
-            String resultCode = getStringParam(params, "ResultCode", "AuthResultCode", "resultCode");
-            String resultMsg = getStringParam(params, "ResultMsg", "AuthResultMsg", "resultMsg");
-            String tid = getStringParam(params, "TID", "tid", "Tid");
-            String amt = getStringParam(params, "Amt", "amt", "Amount");
+            // NICE Pay 응답 파라미터 (결제 결과 코드가 없으면 인증 결과 코드)
+            String resultCode = callback.resultCode();
+            String resultMsg = callback.resultMsg();
+            String tid = callback.tid();
+            String amt = callback.amount();
 
             logger.info("ResultCode: {}, ResultMsg: {}, TID: {}, Amt: {}", resultCode, resultMsg, tid, amt);
 
@@ -1892,6 +1890,7 @@ public class PaymentService {
                         result.setTid(tid);
                         result.setAmount(Long.valueOf(amt));
                         logger.info("Using existing payment record");
+                        updatePaymentProviderLogResponse(log, params, 200, true, null);
                         return result;
                     }
 
@@ -1909,11 +1908,11 @@ public class PaymentService {
                     logger.info("Created Payment entity: {}", payment.getId());
 
                     // NICE Pay 응답 데이터로 추가 정보 설정
-                    updatePaymentFromNicePayResponse(payment, params);
+                    updatePaymentFromNicePayResponse(payment, callback);
 
                     // 저장 전 로그
                     logger.info("Saving payment to database...");
-                    Payment savedPayment = paymentRepository.save(payment);
+                    Payment savedPayment = savePayment(payment);
                     logger.info("Payment saved with ID: {}", savedPayment.getId());
 
                     // 주문 상태 업데이트
@@ -1943,6 +1942,7 @@ public class PaymentService {
 
         } catch (Exception e) {
             logger.error("Error processing NICE Pay response: {}", e.getMessage(), e);
+            updatePaymentProviderLogResponse(log, params, 500, false, e.getMessage());
             PaymentResultDto result = new PaymentResultDto();
             result.setSuccess(false);
             result.setOrderNo(orderNo);
@@ -1951,9 +1951,13 @@ public class PaymentService {
         }
     }
 
-    // NICE Pay 취소 요청
-    @Transactional
+    // NICE Pay 취소 요청 (DB 작업 없음 - 요청 로그는 비동기 저장)
     public Map<String, Object> cancelNicePayment(String tid, Long amount, String reason) {
+        return callNicePayCancelAPI(tid, amount, reason);
+    }
+
+    // NICE Pay 취소 API 호출 (success 가 true 면 성공, BatchRefundService 에서도 사용)
+    Map<String, Object> callNicePayCancelAPI(String tid, Long amount, String reason) {
         Map<String, Object> result = new HashMap<>();
 
         try {
@@ -1978,7 +1982,7 @@ public class PaymentService {
             }
 
             HttpEntity<MultiValueMap<String, String>> request = new HttpEntity<>(formData, headers);
-            ResponseEntity<String> response = restTemplate.postForEntity(cancelUrl, request, String.class);
+            ResponseEntity<String> response = pgHttpClient.post(PgOperation.NICEPAY_CANCEL, cancelUrl, request);
 
             // 로그 생성
             createPaymentProviderLog(tid, "NICEPAY_CANCEL", cancelUrl, cancelData, "NICEPAY");
@@ -2020,22 +2024,14 @@ public class PaymentService {
         return data;
     }
 
-    // NICE Pay 주문번호 추출
-    private String extractOrderNoFromNicePay(Map<String, Object> params) {
-        String orderNo = (String) params.get("Moid");
-        if (orderNo == null) orderNo = (String) params.get("MOID");
-        if (orderNo == null) orderNo = (String) params.get("moid");
-        return orderNo;
-    }
-
     // NICE Pay 응답으로 Payment 엔티티 업데이트
-    private void updatePaymentFromNicePayResponse(Payment payment, Map<String, Object> response) {
-        payment.setCardName((String) response.get("CardName"));
-        payment.setCardCode((String) response.get("CardCode"));
-        payment.setApplNum((String) response.get("AuthCode"));
+    private void updatePaymentFromNicePayResponse(Payment payment, NicePayCallback response) {
+        payment.setCardName(response.cardName());
+        payment.setCardCode(response.cardCode());
+        payment.setApplNum(response.authCode());
 
         // NICE Pay 결제일시 설정
-        String authDate = (String) response.get("AuthDate");
+        String authDate = response.authDate();
         if (authDate != null && authDate.length() >= 8) {
             try {
                 payment.setPaymentDate(LocalDateTime.now()); // 현재 시간으로 설정
@@ -2046,8 +2042,15 @@ public class PaymentService {
         }
     }
 
-    // 범용 결제 제공자 로그 생성
-    private IfInisisLog createPaymentProviderLog(String orderNo, String requestType, String requestUrl, Map<String, Object> requestData, String provider) {
+    // 범용 결제 제공자 로그 생성 및 저장 (비동기)
+    private IfInisisLog createPaymentProviderLog(String orderNo, String requestType, String requestUrl, Map<String, ?> requestData, String provider) {
+        IfInisisLog log = buildPaymentProviderLog(orderNo, requestType, requestUrl, requestData, provider);
+        ifInisisLogWriter.submit(log);
+        return log;
+    }
+
+    // 범용 결제 제공자 로그 생성 (저장하지 않음 - updatePaymentProviderLogResponse에서 응답과 함께 저장)
+    private IfInisisLog buildPaymentProviderLog(String orderNo, String requestType, String requestUrl, Map<String, ?> requestData, String provider) {
         try {
             IfInisisLog log = new IfInisisLog(orderNo != null ? orderNo : "UNKNOWN", requestType, provider);
             log.setRequestUrl(requestUrl);
@@ -2055,7 +2058,7 @@ public class PaymentService {
             // 요청 데이터를 JSON으로 변환하여 저장
             if (requestData != null) {
                 try {
-                    String jsonData = objectMapper.writeValueAsString(requestData);
+                    String jsonData = auditJsonWriter.writeValueAsString(requestData);
                     log.setRequestData(jsonData);
                 } catch (Exception e) {
                     logger.error("JSON conversion failed: {}", e.getMessage());
@@ -2069,8 +2072,7 @@ public class PaymentService {
                 log.setTransactionId(tid);
             }
 
-            ifInisisLogRepository.save(log);
-            logger.info("Created {} log: orderNo={}, requestType={}", provider, orderNo, requestType);
+            logger.debug("Built {} log: orderNo={}, requestType={}", provider, orderNo, requestType);
 
             return log;
 
@@ -2081,13 +2083,13 @@ public class PaymentService {
     }
 
     // 범용 결제 제공자 로그 응답 업데이트
-    private void updatePaymentProviderLogResponse(IfInisisLog log, Map<String, Object> responseData, int httpStatus, boolean isSuccess, String errorMessage) {
+    private void updatePaymentProviderLogResponse(IfInisisLog log, Map<String, ?> responseData, int httpStatus, boolean isSuccess, String errorMessage) {
         try {
             if (log != null) {
                 // 응답 데이터를 JSON으로 변환하여 저장
                 if (responseData != null) {
                     try {
-                        String jsonData = objectMapper.writeValueAsString(responseData);
+                        String jsonData = auditJsonWriter.writeValueAsString(responseData);
                         log.setResponseData(jsonData);
                     } catch (Exception e) {
                         logger.error("JSON conversion failed: {}", e.getMessage());
@@ -2102,8 +2104,8 @@ public class PaymentService {
                     log.setErrorMessage(errorMessage);
                 }
 
-                ifInisisLogRepository.save(log);
-                logger.info("Updated {} log response: orderNo={}, success={}", log.getPaymentProvider(), log.getOrderNo(), isSuccess);
+                ifInisisLogWriter.submit(log);
+                logger.debug("Queued {} log response: orderNo={}, success={}", log.getPaymentProvider(), log.getOrderNo(), isSuccess);
             }
 
         } catch (Exception e) {
@@ -2112,23 +2114,20 @@ public class PaymentService {
     }
 
     // 결제 제공자별 거래 ID 추출
-    private String extractTransactionIdFromProvider(Map<String, Object> data, String provider) {
+    private String extractTransactionIdFromProvider(Map<String, ?> data, String provider) {
         if (data == null) return null;
 
         if ("NICEPAY".equals(provider)) {
-            String tid = (String) data.get("TID");
-            if (tid == null) tid = (String) data.get("tid");
-            if (tid == null) tid = (String) data.get("Tid");
-            return tid;
+            return getStringParam(data, "TID", "tid", "Tid");
         } else if ("INICIS".equals(provider)) {
-            return extractTransactionId(data); // 기존 Inicis 로직 사용
+            return getStringParam(data, "tid", "P_TID", "TID", "transactionId");
         }
 
         return null;
     }
 
-    // 다양한 키로 문자열 파라미터 추출 (NICE Pay용)
-    private String getStringParam(Map<String, Object> params, String... keys) {
+    // 다양한 키로 문자열 파라미터 추출 (요청/응답 로그 데이터용, 콜백은 InicisCallback / NicePayCallback 사용)
+    private String getStringParam(Map<String, ?> params, String... keys) {
         for (String key : keys) {
             Object value = params.get(key);
             if (value != null) {
@@ -2139,7 +2138,7 @@ public class PaymentService {
     }
 
     // NICE Pay 성공 여부 확인
-    private boolean isNicePaySuccess(String resultCode) {
+    public boolean isNicePaySuccess(String resultCode) {
         if (resultCode == null) return false;
 
         // NICE Pay 성공 코드들
@@ -2148,40 +2147,22 @@ public class PaymentService {
                "2211".equals(resultCode);   // 인증 성공
     }
 
-    // NICE Pay 응답에서 주문번호 추출 (실제 응답 구조용)
-    private String extractOrderNoFromNicePayResponse(Map<String, Object> authParams, Map<String, Object> result) {
-        // 1. 상위 레벨에서 주문번호 확인
-        String orderNo = getStringParam(authParams, "Moid", "MOID", "moid", "OrderNo", "orderNo");
-
-        // 2. result 객체에서 주문번호 확인
-        if (orderNo == null && result != null) {
-            orderNo = getStringParam(result, "Moid", "MOID", "moid", "OrderNo", "orderNo");
-        }
-
-        // 3. 기타 가능한 위치에서 확인
-        if (orderNo == null) {
-            orderNo = getStringParam(authParams, "orderNo", "order_no", "ORDER_NO");
-        }
-
-        return orderNo;
-    }
-
     // NICE Pay 승인 API 처리 (인증 응답 후 호출)
     @Transactional
-    public Map<String, Object> approveNicePayPayment(Map<String, Object> authParams) {
+    public Map<String, Object> approveNicePayPayment(NicePayCallback callback) {
         String orderNo = null;
+        Map<String, String> authParams = callback.params();
         try {
             logger.info("=== NICE Pay 승인 처리 시작 ===");
             logger.info("인증 응답 파라미터: {}", authParams);
 
-            // NICE Pay 실제 응답 구조 파싱 (플랫한 구조)
-            String authResultCode = getStringParam(authParams, "AuthResultCode");
-            String authResultMsg = getStringParam(authParams, "AuthResultMsg");
+            String authResultCode = callback.authResultCode();
+            String authResultMsg = callback.authResultMsg();
 
             logger.info("인증 결과 코드: {}, 메시지: {}", authResultCode, authResultMsg);
 
             // 주문번호 추출
-            orderNo = getStringParam(authParams, "Moid");
+            orderNo = callback.orderNo();
             if (orderNo == null) {
                 throw new RuntimeException("주문번호(Moid)를 찾을 수 없습니다.");
             }
@@ -2193,15 +2174,15 @@ public class PaymentService {
             }
 
             // 필수 인증 정보 추출
-            String authToken = getStringParam(authParams, "AuthToken");
-            String txTid = getStringParam(authParams, "TxTid");
-            String nextAppURL = getStringParam(authParams, "NextAppURL");
-            String netCancelURL = getStringParam(authParams, "NetCancelURL");
+            String authToken = callback.authToken();
+            String txTid = callback.txTid();
+            String nextAppURL = callback.nextAppUrl();
+            String netCancelURL = callback.netCancelUrl();
 
             if (authToken == null || txTid == null) {
                 throw new RuntimeException("필수 인증 정보가 없습니다. AuthToken: " + authToken + ", TxTid: " + txTid);
             }
-            String signature = getStringParam(authParams, "Signature");
+            String signature = callback.signature();
 
             logger.info("AuthResultCode: {}, AuthResultMsg: {}, AuthToken: {}, TxTid: {}, NextAppURL: {}",
                        authResultCode, authResultMsg, authToken != null ? "***" : null, txTid, nextAppURL);
@@ -2224,7 +2205,7 @@ public class PaymentService {
 
             // TODO: 실제 NICE Pay NextAppURL 호출
             // 현재는 성공으로 시뮬레이션 (인증 응답 파라미터 전체 전달)
-            Map<String, Object> approvalResult = simulateNicePayApproval(authParams, orderNo);
+            Map<String, Object> approvalResult = simulateNicePayApproval(callback, orderNo);
 
             // 승인 결과 로깅
             createPaymentProviderLog(orderNo, "NICEPAY_APPROVAL_RESPONSE",
@@ -2266,8 +2247,7 @@ public class PaymentService {
                 return false;
             }
 
-            String signData = authToken + mid + amt + merchantKey;
-            String expectedSignature = sha256Hash(signData);
+            String expectedSignature = pgSigner.nicePaySignature(authToken, mid, amt, merchantKey);
 
             logger.info("서명 검증 데이터: AuthToken=***, MID={}, Amt={}, 생성된 서명=***", mid, amt);
 
@@ -2282,11 +2262,11 @@ public class PaymentService {
     }
 
     // NICE Pay 승인 시뮬레이션 (실제 구현시 NextAppURL 호출로 대체)
-    private Map<String, Object> simulateNicePayApproval(Map<String, Object> authParams, String orderNo) {
-        String authToken = getStringParam(authParams, "AuthToken");
-        String txTid = getStringParam(authParams, "TxTid");
-        String nextAppURL = getStringParam(authParams, "NextAppURL");
-        String amount = getStringParam(authParams, "Amt");
+    private Map<String, Object> simulateNicePayApproval(NicePayCallback callback, String orderNo) {
+        String authToken = callback.authToken();
+        String txTid = callback.txTid();
+        String nextAppURL = callback.nextAppUrl();
+        String amount = callback.amount();
 
         logger.info("NicePay 승인 시뮬레이션 - OrderNo: {}, Amount: {}, TxTid: {}", orderNo, amount, txTid);
 
@@ -2301,8 +2281,8 @@ public class PaymentService {
         result.put("tid", txTid != null ? txTid : "NICE" + System.currentTimeMillis());
         result.put("authToken", authToken);
         result.put("nextAppURL", nextAppURL);
-        result.put("authResultCode", getStringParam(authParams, "AuthResultCode"));
-        result.put("authResultMsg", getStringParam(authParams, "AuthResultMsg"));
+        result.put("authResultCode", callback.authResultCode());
+        result.put("authResultMsg", callback.authResultMsg());
         result.put("approvedAt", LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
         return result;
     }
@@ -2334,7 +2314,7 @@ public class PaymentService {
             payment.setPaymentDate(LocalDateTime.now());
             payment.setPaymentType("NICEPAY_CARD");
 
-            paymentRepository.save(payment);
+            savePayment(payment);
 
             // 주문 상태 업데이트
             order.setStatus(Order.OrderStatus.COMPLETED);
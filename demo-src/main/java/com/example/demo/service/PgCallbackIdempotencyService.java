@@ -0,0 +1,219 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.InicisCallback;
+import com.example.demo.dto.NicePayCallback;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// PG 콜백 멱등성 처리
+// (콜백 종류, 주문번호, TID, 결과코드) 가 같은 재전송은 저장된 응답을 그대로 돌려주고
+// 주문/결제 테이블은 조회하지 않는다. 최근 응답은 메모리(LRU)에, 전체는 pg_callback_receipts 에 보관.
+@Service
+public class PgCallbackIdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PgCallbackIdempotencyService.class);
+
+    private static final String SELECT_SQL =
+        "SELECT response_body FROM pg_callback_receipts WHERE idempotency_key = ?";
+
+    private static final String INSERT_SQL =
+        "INSERT INTO pg_callback_receipts (idempotency_key, callback_type, provider, order_no, tid, result_code, " +
+        "response_body, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?) ON CONFLICT (idempotency_key) DO NOTHING";
+
+    // 콜백 종류 (같은 결제라도 notify/response 는 응답 형태가 달라 따로 저장)
+    public enum CallbackType {
+        INICIS_NOTIFY("INICIS"),
+        INICIS_RESPONSE("INICIS"),
+        NICEPAY_NOTIFY("NICEPAY");
+
+        private final String provider;
+
+        CallbackType(String provider) {
+            this.provider = provider;
+        }
+
+        public String getProvider() { return provider; }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${payment.idempotency.cache-size:10000}")
+    private int cacheSize;
+
+    private Map<String, String> recentResponses;
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong storeHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong stored = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        recentResponses = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    // 이니시스 콜백 키 (PaymentService 처리와 같은 주문번호/TID/결과코드 바인딩 사용)
+    public CallbackKey inicisKey(CallbackType type, InicisCallback callback) {
+        return CallbackKey.of(type, callback.orderNo(), callback.tid(), callback.resultCode());
+    }
+
+    // NICE Pay 콜백 키
+    public CallbackKey nicePayKey(NicePayCallback callback) {
+        return CallbackKey.of(CallbackType.NICEPAY_NOTIFY, callback.orderNo(), callback.tid(), callback.resultCode());
+    }
+
+    // 저장된 응답이 있으면 그대로 반환, 없으면 handler 실행 후 storable 한 결과만 저장
+    // key 가 null(주문번호/TID 없음)이면 멱등성 처리 없이 handler 만 실행
+    public <T> T execute(CallbackKey key, Class<T> responseType, Supplier<T> handler, Predicate<T> storable) {
+        if (key == null) {
+            skipped.incrementAndGet();
+            return handler.get();
+        }
+
+        T replay = findStoredResponse(key, responseType);
+        if (replay != null) {
+            logger.info("Duplicate PG callback replayed - type: {}, orderNo: {}, tid: {}, resultCode: {}",
+                       key.getType(), key.getOrderNo(), key.getTid(), key.getResultCode());
+            return replay;
+        }
+
+        T result = handler.get();
+        // 처리 중 오류 등 재시도가 필요한 결과는 저장하지 않음
+        if (result != null && storable.test(result)) {
+            store(key, result);
+        }
+        return result;
+    }
+
+    private <T> T findStoredResponse(CallbackKey key, Class<T> responseType) {
+        String body;
+        synchronized (recentResponses) {
+            body = recentResponses.get(key.getValue());
+        }
+        if (body != null) {
+            memoryHits.incrementAndGet();
+            return readResponse(body, responseType);
+        }
+
+        List<String> rows = jdbcTemplate.queryForList(SELECT_SQL, String.class, key.getValue());
+        if (rows.isEmpty()) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        storeHits.incrementAndGet();
+        body = rows.get(0);
+        remember(key, body);
+        return readResponse(body, responseType);
+    }
+
+    private void store(CallbackKey key, Object response) {
+        try {
+            String body = objectMapper.writeValueAsString(response);
+            jdbcTemplate.update(INSERT_SQL,
+                key.getValue(),
+                key.getType().name(),
+                key.getType().getProvider(),
+                key.getOrderNo(),
+                key.getTid(),
+                key.getResultCode(),
+                body,
+                Timestamp.valueOf(LocalDateTime.now()));
+            remember(key, body);
+            stored.incrementAndGet();
+        } catch (Exception e) {
+            // 저장 실패 시 다음 재전송은 기존 흐름(중복 결제 확인 등)으로 처리됨
+            logger.error("Error storing PG callback receipt - key: {}: {}", key.getValue(), e.getMessage(), e);
+        }
+    }
+
+    private void remember(CallbackKey key, String body) {
+        synchronized (recentResponses) {
+            recentResponses.put(key.getValue(), body);
+        }
+    }
+
+    private <T> T readResponse(String body, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (Exception e) {
+            logger.error("Error reading stored PG callback response: {}", e.getMessage(), e);
+            return null;
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (recentResponses) {
+            stats.put("cachedResponses", recentResponses.size());
+        }
+        stats.put("cacheSize", cacheSize);
+        stats.put("memoryHits", memoryHits.get());
+        stats.put("storeHits", storeHits.get());
+        stats.put("misses", misses.get());
+        stats.put("stored", stored.get());
+        stats.put("skipped", skipped.get());
+        return stats;
+    }
+
+    // 멱등성 키 (콜백 종류 + 주문번호 + TID + 결과코드)
+    public static class CallbackKey {
+
+        private final CallbackType type;
+        private final String orderNo;
+        private final String tid;
+        private final String resultCode;
+        private final String value;
+
+        private CallbackKey(CallbackType type, String orderNo, String tid, String resultCode) {
+            this.type = type;
+            this.orderNo = orderNo;
+            this.tid = tid;
+            this.resultCode = resultCode;
+            this.value = type.name() + '|' + orderNo + '|' + tid + '|' + (resultCode != null ? resultCode : "");
+        }
+
+        // 주문번호나 TID 가 없으면 같은 콜백인지 판단할 수 없으므로 null
+        static CallbackKey of(CallbackType type, String orderNo, String tid, String resultCode) {
+            if (orderNo == null || tid == null) {
+                return null;
+            }
+            return new CallbackKey(type, orderNo, tid, resultCode);
+        }
+
+        public CallbackType getType() { return type; }
+
+        public String getOrderNo() { return orderNo; }
+
+        public String getTid() { return tid; }
+
+        public String getResultCode() { return resultCode; }
+
+        public String getValue() { return value; }
+    }
+}
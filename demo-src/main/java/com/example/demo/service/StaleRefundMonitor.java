@@ -0,0 +1,156 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Payment;
+import com.example.demo.repository.PaymentRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 취소 결과를 반영하지 못하고 취소 예약(REFUNDING)으로 남은 결제 확인 (결과 저장 실패, PG 호출 중 프로세스 중단 등)
+// PG 에서 실제로 취소됐는지 알 수 없으므로 PENDING_APPROVAL 처럼 자동으로 되돌리지 않고,
+// stale-check-interval-ms 마다 stale-after-ms 가 지난 건수를 세어 gauge(payment.refund.stale)와 경고 로그로 알린다.
+// 운영자가 목록을 보고 PG 취소 여부를 확인한 뒤 resolve 로 취소 레코드 저장 또는 COMPLETED 복구를 반영한다.
+@Service
+public class StaleRefundMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(StaleRefundMonitor.class);
+
+    // 목록 조회 최대 건수
+    private static final int MAX_LIST_SIZE = 500;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 일괄 취소 응답 제한 시간(payment.batch-refund.timeout-ms)보다 길게
+    @Value("${payment.refund.stale-after-ms:900000}")
+    private long staleAfterMs;
+
+    @Value("${payment.refund.stale-check-interval-ms:60000}")
+    private long checkIntervalMs;
+
+    private Thread checkerThread;
+    private volatile boolean running;
+
+    private final AtomicLong staleCount = new AtomicLong();
+    private final AtomicLong checks = new AtomicLong();
+    private final AtomicLong resolvedCancelled = new AtomicLong();
+    private final AtomicLong resolvedRestored = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("payment.refund.stale", staleCount, AtomicLong::get)
+            .description("stale-after-ms 가 지나도 취소 예약(REFUNDING)으로 남아 있는 결제 수")
+            .register(meterRegistry);
+        running = true;
+        checkerThread = new Thread(this::runChecker, "stale-refund-checker");
+        checkerThread.setDaemon(true);
+        checkerThread.start();
+        logger.info("Stale refund checker started - staleAfterMs: {}, intervalMs: {}", staleAfterMs, checkIntervalMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        checkerThread.interrupt();
+    }
+
+    // 오래된 취소 예약 건수 갱신 (건수 반환)
+    long check() {
+        long count = paymentRepository.countStaleRefunding(staleBefore());
+        staleCount.set(count);
+        checks.incrementAndGet();
+        if (count > 0) {
+            logger.warn("{} payments still REFUNDING after {}ms - check PG and resolve via /api/payment/refund/stale",
+                       count, staleAfterMs);
+        }
+        return count;
+    }
+
+    // 오래된 취소 예약 목록 (예약 시각순)
+    public List<Map<String, Object>> list(int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_LIST_SIZE));
+        return paymentRepository.findStaleRefunding(staleBefore(), PageRequest.of(0, size)).stream()
+            .map(this::toItem)
+            .toList();
+    }
+
+    // 운영자가 PG 에서 확인한 취소 여부 반영 (pgCancelled: 취소됨 -> 취소 레코드 저장, 취소 안 됨 -> COMPLETED 복구)
+    public Map<String, Object> resolve(Long paymentId, boolean pgCancelled, String reason) {
+        String rejection = paymentService.resolveStaleRefund(paymentId, staleBefore(), pgCancelled, reason);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("paymentId", paymentId);
+        if (rejection != null) {
+            rejected.incrementAndGet();
+            result.put("success", false);
+            result.put("message", rejection);
+            return result;
+        }
+        (pgCancelled ? resolvedCancelled : resolvedRestored).incrementAndGet();
+        staleCount.updateAndGet(count -> Math.max(0, count - 1));
+        result.put("success", true);
+        result.put("pgCancelled", pgCancelled);
+        result.put("message", pgCancelled ? "취소 내역을 저장했습니다." : "결제를 취소 가능 상태로 되돌렸습니다.");
+        return result;
+    }
+
+    private Map<String, Object> toItem(Payment payment) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("paymentId", payment.getId());
+        item.put("orderNo", payment.getOrderNo());
+        item.put("tid", payment.getTid());
+        item.put("amount", payment.getAmount());
+        item.put("paymentType", payment.getPaymentType());
+        item.put("reservedAt", payment.getUpdatedAt());
+        return item;
+    }
+
+    private LocalDateTime staleBefore() {
+        return LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(staleAfterMs));
+    }
+
+    private void runChecker() {
+        while (running) {
+            try {
+                Thread.sleep(checkIntervalMs);
+                check();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("Stale refund check failed", e);
+            }
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("staleAfterMs", staleAfterMs);
+        stats.put("stale", staleCount.get());
+        stats.put("checks", checks.get());
+        stats.put("resolvedCancelled", resolvedCancelled.get());
+        stats.put("resolvedRestored", resolvedRestored.get());
+        stats.put("rejected", rejected.get());
+        return stats;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.demo.util;
+
+import java.util.Date;
+
+// 검증이 끝난 JWT 의 클레임 (JwtUtil.verify 결과, 인증된 요청의 principal)
+public class JwtClaims {
+
+    private final Long userId;
+    private final String email;
+    private final String name;
+    private final String phoneNumber;
+    private final Integer points;
+    private final Long pointsVersion;
+    private final Date issuedAt;
+    private final Date expiresAt;
+
+    public JwtClaims(Long userId, String email, String name, String phoneNumber,
+                     Integer points, Long pointsVersion, Date issuedAt, Date expiresAt) {
+        this.userId = userId;
+        this.email = email;
+        this.name = name;
+        this.phoneNumber = phoneNumber;
+        this.points = points;
+        this.pointsVersion = pointsVersion;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public Long getUserId() { return userId; }
+
+    public String getEmail() { return email; }
+
+    public String getName() { return name; }
+
+    public String getPhoneNumber() { return phoneNumber; }
+
+    public Integer getPoints() { return points; }
+
+    public Long getPointsVersion() { return pointsVersion; }
+
+    public Date getIssuedAt() { return issuedAt; }
+
+    public Date getExpiresAt() { return expiresAt; }
+
+    public boolean isExpired(long nowMillis) {
+        return expiresAt != null && expiresAt.getTime() <= nowMillis;
+    }
+}
@@ -1,58 +1,136 @@
 package com.example.demo.util;
 
+import com.example.demo.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 
 @Component
 public class JwtUtil {
 
     private final Key key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+
+    // 파서는 불변이라 한 번만 만들어 재사용
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
     
     @Value("${jwt.expiration:86400000}") // 24시간
     private long expiration;
 
-    public String generateToken(Long userId, String email) {
+    @Value("${jwt.verified-cache-size:10000}")
+    private int verifiedCacheSize;
+
+    // 검증된 토큰 캐시 (토큰 SHA-256 -> 클레임, 만료 시각까지 유효)
+    private Map<String, JwtClaims> verifiedTokens;
+
+    @PostConstruct
+    public void init() {
+        verifiedTokens = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JwtClaims> eldest) {
+                return size() > verifiedCacheSize;
+            }
+        };
+    }
+
+    // 사용자 정보와 적립금(버전 포함)을 클레임에 담아 인증 시 DB 조회가 필요 없도록 한다.
+    public String generateToken(User user) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
-                .setSubject(userId.toString())
-                .claim("email", email)
+                .setSubject(user.getId().toString())
+                .claim("email", user.getEmail())
+                .claim("name", user.getName())
+                .claim("phoneNumber", user.getPhoneNumber())
+                .claim("points", user.getPoints())
+                .claim("pointsVersion", user.getPointsVersion())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    // 토큰 검증 후 클레임 반환 (유효하지 않거나 만료되면 empty)
+    // 같은 토큰은 만료 전까지 서명 검증/JSON 파싱을 다시 하지 않는다.
+    public Optional<JwtClaims> verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String tokenHash = hash(token);
+        long now = System.currentTimeMillis();
+        JwtClaims cached;
+        synchronized (verifiedTokens) {
+            cached = verifiedTokens.get(tokenHash);
+        }
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return Optional.of(cached);
+            }
+            synchronized (verifiedTokens) {
+                verifiedTokens.remove(tokenHash);
+            }
+            return Optional.empty();
+        }
+
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            Claims body = parser.parseClaimsJws(token).getBody();
+            JwtClaims claims = new JwtClaims(
+                    Long.valueOf(body.getSubject()),
+                    body.get("email", String.class),
+                    body.get("name", String.class),
+                    body.get("phoneNumber", String.class),
+                    body.get("points", Integer.class),
+                    body.get("pointsVersion", Long.class),
+                    body.getIssuedAt(),
+                    body.getExpiration());
+            synchronized (verifiedTokens) {
+                verifiedTokens.put(tokenHash, claims);
+            }
+            return Optional.of(claims);
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return Long.valueOf(claims.getSubject());
+        return verifyOrThrow(token).getUserId();
     }
 
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.get("email", String.class);
-    }
-}
\ No newline at end of file
+        return verifyOrThrow(token).getEmail();
+    }
+
+    private JwtClaims verifyOrThrow(String token) {
+        return verify(token).orElseThrow(() -> new JwtException("유효하지 않은 토큰입니다."));
+    }
+
+    private String hash(String token) {
+        byte[] digest = SHA256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+}
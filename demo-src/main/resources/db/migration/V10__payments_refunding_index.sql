@@ -0,0 +1,6 @@
+-- 취소 결과를 반영하지 못하고 취소 예약(REFUNDING)으로 남은 결제 확인용 (PaymentRepository.findStaleRefunding / countStaleRefunding)
+-- 취소 진행 중 결제만 담는 부분 인덱스라 StaleRefundMonitor 가 주기적으로 세어도 payments 전체를 읽지 않는다.
+-- 운영 중 테이블 잠금을 피하기 위해 CONCURRENTLY 로 생성 (트랜잭션 밖에서 실행)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_payments_refunding_updated_at
+    ON payments (updated_at)
+    WHERE status = 'REFUNDING';
@@ -0,0 +1,82 @@
+-- 기준 스키마 (기존 ddl-auto=update 로 만들어진 테이블과 동일)
+-- 이미 테이블이 있는 DB 에서도 실행될 수 있도록 IF NOT EXISTS 로 작성
+
+CREATE TABLE IF NOT EXISTS users (
+    id BIGSERIAL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    points INTEGER NOT NULL,
+    phone_number VARCHAR(255),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE IF NOT EXISTS orders (
+    id BIGSERIAL PRIMARY KEY,
+    order_no VARCHAR(255) NOT NULL,
+    user_id BIGINT NOT NULL,
+    total_amount BIGINT NOT NULL,
+    points_used INTEGER NOT NULL,
+    card_amount BIGINT NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT uk_orders_order_no UNIQUE (order_no)
+);
+
+CREATE TABLE IF NOT EXISTS payments (
+    id BIGSERIAL PRIMARY KEY,
+    order_no VARCHAR(255) NOT NULL,
+    tid VARCHAR(255),
+    amount BIGINT NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    result_code VARCHAR(255),
+    result_msg VARCHAR(255),
+    payment_date TIMESTAMP(6),
+    card_name VARCHAR(255),
+    card_code VARCHAR(255),
+    appl_num VARCHAR(255),
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+
+-- 기존 sql/add_payment_type_column.sql
+ALTER TABLE payments ADD COLUMN IF NOT EXISTS payment_type VARCHAR(255) NOT NULL DEFAULT 'CARD';
+COMMENT ON COLUMN payments.payment_type IS '결제 타입 (CARD, POINT, CARD_REFUND, POINT_REFUND)';
+
+CREATE TABLE IF NOT EXISTS payment_logs (
+    id BIGSERIAL PRIMARY KEY,
+    order_id BIGINT NOT NULL,
+    transaction_id VARCHAR(255),
+    payment_method VARCHAR(255),
+    amount BIGINT NOT NULL,
+    status VARCHAR(255) NOT NULL,
+    result_code VARCHAR(255),
+    result_message VARCHAR(255),
+    approved_at TIMESTAMP(6),
+    created_at TIMESTAMP(6)
+);
+
+-- 기존 sql/create_if_inisis_log.sql (MySQL 식 INDEX 구문 제거, 인덱스는 V2 에서 생성)
+CREATE TABLE IF NOT EXISTS if_inisis_log (
+    id BIGSERIAL PRIMARY KEY,
+    order_no VARCHAR(50) NOT NULL,
+    request_type VARCHAR(50) NOT NULL,
+    request_url VARCHAR(500),
+    request_data TEXT,
+    response_data TEXT,
+    http_status INTEGER,
+    is_success BOOLEAN DEFAULT FALSE,
+    error_message TEXT,
+    transaction_id VARCHAR(100),
+    created_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 예전 스크립트로 만들어진 테이블 보정 (request_type 길이, payment_provider 컬럼)
+ALTER TABLE if_inisis_log ALTER COLUMN request_type TYPE VARCHAR(50);
+ALTER TABLE if_inisis_log ADD COLUMN IF NOT EXISTS payment_provider VARCHAR(20) NOT NULL DEFAULT 'INICIS';
+
+COMMENT ON TABLE if_inisis_log IS 'PG사(이니시스, NICE Pay) API 통신 로그 테이블';
+COMMENT ON COLUMN if_inisis_log.order_no IS '주문번호';
+COMMENT ON COLUMN if_inisis_log.request_type IS '요청 타입';
+COMMENT ON COLUMN if_inisis_log.payment_provider IS 'PG사 (INICIS, NICEPAY)';
+COMMENT ON COLUMN if_inisis_log.transaction_id IS '거래 ID';
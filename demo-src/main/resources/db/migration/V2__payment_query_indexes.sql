@@ -0,0 +1,37 @@
+-- Repository 조회 조건/정렬에 맞춘 인덱스
+-- 운영 중 테이블 잠금을 피하기 위해 CONCURRENTLY 로 생성 (트랜잭션 밖에서 실행)
+
+-- PaymentRepository: findByOrderNo*, findByOrderNoIn*, findByOrderNoAndTid*, existsByOrderNo
+-- 사용자별 결제 내역 조회(JOIN orders)의 결제 쪽 조인 키
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_payments_order_no_payment_date
+    ON payments (order_no, payment_date DESC, id DESC);
+
+-- PaymentRepository.findByOrderNoAndStatusCompleted (완료 건만 담는 부분 인덱스)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_payments_order_no_completed
+    ON payments (order_no, payment_date DESC)
+    WHERE status = 'COMPLETED';
+
+-- PaymentRepository.findByTidAndStatusOrderByPaymentDateDesc, findByTidOrderByPaymentDateDesc
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_payments_tid_status_payment_date
+    ON payments (tid, status, payment_date DESC, id DESC);
+
+-- OrderRepository.findPageByUserId / findPageByUserIdAfter / findByUserIdOrderByCreatedAtDesc
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_user_id_created_at
+    ON orders (user_id, created_at DESC, id DESC);
+
+-- PaymentLogRepository.findByOrderIdOrderByCreatedAtDesc / findTopByOrderIdOrderByCreatedAtDesc
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_payment_logs_order_id_created_at
+    ON payment_logs (order_id, created_at DESC);
+
+-- PaymentLogRepository.findByTransactionId
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_payment_logs_transaction_id
+    ON payment_logs (transaction_id);
+
+-- IfInisisLogRepository.findByTransactionIdOrderByCreatedAtDesc
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_if_inisis_log_transaction_id_created_at
+    ON if_inisis_log (transaction_id, created_at DESC);
+
+-- IfInisisLogRepository.findTopByOrderNoAndRequestTypeOrderByCreatedAtDesc, findByOrderNoOrderByCreatedAtDesc
+-- 주문당 로그 건수가 적어 order_no 만으로 조회할 때도 이 인덱스 + 정렬로 충분 (쓰기 많은 로그 테이블이라 인덱스 최소화)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_if_inisis_log_order_no_request_type_created_at
+    ON if_inisis_log (order_no, request_type, created_at DESC);
@@ -0,0 +1,17 @@
+-- PG 콜백 멱등성 저장소 (같은 콜백 재전송 시 저장된 응답을 그대로 반환)
+CREATE TABLE IF NOT EXISTS pg_callback_receipts (
+    id BIGSERIAL PRIMARY KEY,
+    idempotency_key VARCHAR(600) NOT NULL,
+    callback_type VARCHAR(30) NOT NULL,
+    provider VARCHAR(20) NOT NULL,
+    order_no VARCHAR(255) NOT NULL,
+    tid VARCHAR(255) NOT NULL,
+    result_code VARCHAR(50),
+    response_body TEXT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_pg_callback_receipts_key UNIQUE (idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_pg_callback_receipts_order_no ON pg_callback_receipts (order_no);
+
+COMMENT ON TABLE pg_callback_receipts IS 'PG 콜백 처리 결과 (provider, orderNo, tid, resultCode 기준 멱등성)';
@@ -0,0 +1,2 @@
+-- 적립금 변경 버전 (JWT 클레임에 포함된 적립금이 최신인지 판단하는 용도)
+ALTER TABLE users ADD COLUMN IF NOT EXISTS points_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,17 @@
+-- 결제 완료 보너스 적립금 outbox
+-- 결제 처리 트랜잭션에서 적립 요청만 기록하고, BonusPointOutbox 가 사용자별로 모아 users 에 반영한다.
+CREATE TABLE IF NOT EXISTS bonus_point_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    order_no VARCHAR(255) NOT NULL,
+    points INTEGER NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMP(6),
+    -- 주문당 한 번만 적립
+    CONSTRAINT uk_bonus_point_outbox_order_no UNIQUE (order_no)
+);
+
+-- 미처리 건 조회용 (처리된 건은 인덱스에서 빠짐)
+CREATE INDEX IF NOT EXISTS idx_bonus_point_outbox_pending ON bonus_point_outbox (id) WHERE processed_at IS NULL;
+
+COMMENT ON TABLE bonus_point_outbox IS '결제 완료 보너스 적립금 적립 요청 (processed_at 이 NULL 이면 미반영)';
@@ -0,0 +1,31 @@
+-- 주문별 결제 누계 (카드/적립금 결제 금액, 카드/적립금 취소 금액)
+-- PaymentService 가 결제 내역을 저장하는 트랜잭션에서 원자적으로 증가시키고,
+-- 취소 가능 금액은 payments 를 다시 합산하지 않고 이 값으로 판단한다.
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS captured_card_amount BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS captured_points BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS refunded_card_amount BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS refunded_points BIGINT NOT NULL DEFAULT 0;
+
+-- 기존 결제 내역으로 누계 채우기 (취소 진행 중(REFUNDING)인 결제는 아직 결제 금액에 포함)
+UPDATE orders o
+SET captured_card_amount = t.captured_card_amount,
+    captured_points = t.captured_points,
+    refunded_card_amount = t.refunded_card_amount,
+    refunded_points = t.refunded_points
+FROM (
+    SELECT order_no,
+           COALESCE(SUM(amount) FILTER (WHERE status IN ('COMPLETED', 'REFUNDING') AND amount > 0
+               AND payment_type <> 'POINT' AND payment_type NOT LIKE '%\_REFUND'), 0) AS captured_card_amount,
+           COALESCE(SUM(amount) FILTER (WHERE status IN ('COMPLETED', 'REFUNDING') AND amount > 0
+               AND payment_type = 'POINT'), 0) AS captured_points,
+           COALESCE(SUM(-amount) FILTER (WHERE status = 'REFUNDED' AND payment_type = 'CARD_REFUND'), 0) AS refunded_card_amount,
+           COALESCE(SUM(-amount) FILTER (WHERE status = 'REFUNDED' AND payment_type = 'POINT_REFUND'), 0) AS refunded_points
+    FROM payments
+    GROUP BY order_no
+) t
+WHERE t.order_no = o.order_no;
+
+COMMENT ON COLUMN orders.captured_card_amount IS '완료된 카드 결제 누계 (NICE Pay 포함)';
+COMMENT ON COLUMN orders.captured_points IS '사용 완료된 적립금 누계';
+COMMENT ON COLUMN orders.refunded_card_amount IS '카드 취소 누계 (양수)';
+COMMENT ON COLUMN orders.refunded_points IS '적립금 취소 누계 (양수)';
@@ -0,0 +1,6 @@
+-- 결제 응답 승인 API 호출 중 표시(PENDING_APPROVAL)가 남은 주문 정리용 (OrderRepository.findStaleApprovalReservations)
+-- 승인 대기 주문만 담는 부분 인덱스라 sweeper 가 주기적으로 조회해도 orders 전체를 읽지 않는다.
+-- 운영 중 테이블 잠금을 피하기 위해 CONCURRENTLY 로 생성 (트랜잭션 밖에서 실행)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_pending_approval_updated_at
+    ON orders (updated_at)
+    WHERE status = 'PENDING_APPROVAL';
@@ -0,0 +1,8 @@
+-- 결제/주문 내역 keyset 페이지네이션 정렬 기준 (payments.payment_date, orders.created_at) 을 NOT NULL 로 만들기 위한 준비
+-- 값이 없는 행은 생성 시각(없으면 현재 시각)으로 채우고, 검증을 미룬 CHECK 제약으로 이후 입력부터 막는다.
+-- 기존 행 검증과 NOT NULL 변경은 V9 에서 (한 트랜잭션에서 검증하면 테이블 잠금을 잡은 채 전체를 읽게 됨)
+UPDATE payments SET payment_date = COALESCE(created_at, CURRENT_TIMESTAMP) WHERE payment_date IS NULL;
+UPDATE orders SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL;
+
+ALTER TABLE payments ADD CONSTRAINT payments_payment_date_not_null CHECK (payment_date IS NOT NULL) NOT VALID;
+ALTER TABLE orders ADD CONSTRAINT orders_created_at_not_null CHECK (created_at IS NOT NULL) NOT VALID;
@@ -0,0 +1,9 @@
+-- V8 의 CHECK 제약 검증 후 NOT NULL 로 변경
+-- 검증은 쓰기를 막지 않는 잠금으로 전체를 읽고, 검증된 CHECK 제약이 있으면 SET NOT NULL 은 테이블을 다시 읽지 않는다.
+ALTER TABLE payments VALIDATE CONSTRAINT payments_payment_date_not_null;
+ALTER TABLE payments ALTER COLUMN payment_date SET NOT NULL;
+ALTER TABLE payments DROP CONSTRAINT payments_payment_date_not_null;
+
+ALTER TABLE orders VALIDATE CONSTRAINT orders_created_at_not_null;
+ALTER TABLE orders ALTER COLUMN created_at SET NOT NULL;
+ALTER TABLE orders DROP CONSTRAINT orders_created_at_not_null;
@@ -0,0 +1,286 @@
+package com.example.pgstub;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// 로컬 부하 테스트용 이니시스/NICE Pay stub 서버
+// 데모 앱을 pgstub 프로파일로 실행하면 승인(authUrl, formpay), 취소(refund), NICE Pay 취소(cancel_form.jsp)
+// 요청이 실제 PG 대신 이 서버로 온다. 엔드포인트별 지연 분포/실패율/타임아웃은 pgstub.properties 로 조정.
+//
+// 실행: gradle runPgStub  (설정 변경: -Dpgstub.inicis-refund.decline-rate=0.1 또는 --args="my-stub.properties")
+public class PgStubServer {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HHmmss");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, Map<StubBehavior.Outcome, LongAdder>> stats = new LinkedHashMap<>();
+
+    public static void main(String[] args) throws IOException {
+        Properties properties = loadProperties(args);
+        new PgStubServer().start(properties);
+    }
+
+    private void start(Properties properties) throws IOException {
+        int port = Integer.parseInt(properties.getProperty("pgstub.port", "9090"));
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 1024);
+        // 지연 응답 중에도 스레드를 점유하지 않도록 가상 스레드 사용
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+
+        register(server, properties, "inicis-auth", "/inicis/api/v1/auth", this::inicisAuthApproval);
+        register(server, properties, "inicis-approval", "/inicis/api/v1/formpay", this::inicisApproval);
+        register(server, properties, "inicis-refund", "/inicis/v2/pg/refund", this::inicisRefund);
+        register(server, properties, "nicepay-cancel", "/nicepay/payment/webpay/cancel_form.jsp", this::nicePayCancel);
+        server.createContext("/stats", exchange -> writeJson(exchange, 200, statsSnapshot()));
+        server.createContext("/health", exchange -> writeJson(exchange, 200, Map.of("status", "UP")));
+
+        server.start();
+        System.out.println("PG stub server listening on port " + port);
+    }
+
+    // 엔드포인트 등록 (요청마다 결과/지연을 뽑아 응답)
+    private void register(HttpServer server, Properties properties, String name, String path,
+                          Function<Request, Responses> responder) {
+        StubBehavior behavior = StubBehavior.load(properties, name);
+        Map<StubBehavior.Outcome, LongAdder> counters = new EnumMap<>(StubBehavior.Outcome.class);
+        for (StubBehavior.Outcome outcome : StubBehavior.Outcome.values()) {
+            counters.put(outcome, new LongAdder());
+        }
+        stats.put(name, counters);
+        System.out.println("  " + path + " -> " + behavior);
+
+        HttpHandler handler = exchange -> {
+            try {
+                Request request = new Request(readParams(exchange));
+                StubBehavior.Outcome outcome = behavior.nextOutcome();
+                counters.get(outcome).increment();
+                sleep(behavior.nextLatencyMs(outcome));
+
+                Responses responses = responder.apply(request);
+                switch (outcome) {
+                    case SUCCESS -> writeJson(exchange, 200, responses.success());
+                    case DECLINED -> writeJson(exchange, 200, responses.declined());
+                    case HTTP_ERROR -> writeJson(exchange, 500, Map.of("resultCode", "9999", "resultMsg", "stub internal error"));
+                    case TIMEOUT -> writeJson(exchange, 504, Map.of("resultCode", "9999", "resultMsg", "stub timeout"));
+                }
+            } catch (IOException e) {
+                // 클라이언트가 타임아웃으로 먼저 끊은 경우
+            } finally {
+                exchange.close();
+            }
+        };
+        server.createContext(path, handler);
+    }
+
+    // 이니시스 표준결제 승인 (authUrl) - 성공/실패 응답
+    private Responses inicisAuthApproval(Request request) {
+        LocalDateTime now = LocalDateTime.now();
+        String tid = "StdpayCARD" + request.get("mid", "INIpayTest") + now.format(DATE) + now.format(TIME) + sequence();
+
+        Map<String, Object> success = new LinkedHashMap<>();
+        success.put("resultCode", "0000");
+        success.put("resultMsg", "정상처리되었습니다.");
+        success.put("tid", tid);
+        success.put("mid", request.get("mid", "INIpayTest"));
+        success.put("payMethod", "Card");
+        success.put("applDate", now.format(DATE));
+        success.put("applTime", now.format(TIME));
+        success.put("applNum", String.format("%08d", ThreadLocalRandom.current().nextInt(100_000_000)));
+        success.put("CARD_Num", "540926******1234");
+        success.put("CARD_Quota", "00");
+        success.put("CARD_Interest", "0");
+        success.put("CARD_Code", "14");
+        success.put("cardCode", "14");
+        success.put("cardName", "신한");
+        success.put("currency", "WON");
+        success.put("authToken", request.get("authToken", ""));
+
+        Map<String, Object> declined = new LinkedHashMap<>();
+        declined.put("resultCode", "R201");
+        declined.put("resultMsg", "[R201] 카드 한도가 초과되었습니다.");
+        declined.put("mid", request.get("mid", "INIpayTest"));
+        return new Responses(success, declined);
+    }
+
+    // 이니시스 승인 API (formpay)
+    private Responses inicisApproval(Request request) {
+        Map<String, Object> success = new LinkedHashMap<>();
+        success.put("resultCode", "0000");
+        success.put("resultMsg", "정상처리되었습니다.");
+        success.put("oid", request.get("oid", ""));
+        success.put("price", request.get("price", ""));
+
+        Map<String, Object> declined = new LinkedHashMap<>();
+        declined.put("resultCode", "V001");
+        declined.put("resultMsg", "approval fail");
+        declined.put("oid", request.get("oid", ""));
+        return new Responses(success, declined);
+    }
+
+    // 이니시스 취소 API (refund)
+    private Responses inicisRefund(Request request) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Object> success = new LinkedHashMap<>();
+        success.put("resultCode", "00");
+        success.put("resultMsg", "정상처리되었습니다.");
+        success.put("cancelDate", now.format(DATE));
+        success.put("cancelTime", now.format(TIME));
+        success.put("cshrCancelNum", "");
+        success.put("detailResultCode", "0000");
+
+        Map<String, Object> declined = new LinkedHashMap<>();
+        declined.put("resultCode", "01");
+        declined.put("resultMsg", "[500626] 기취소 거래입니다.");
+        declined.put("detailResultCode", "500626");
+        return new Responses(success, declined);
+    }
+
+    // NICE Pay 취소 (cancel_form.jsp)
+    private Responses nicePayCancel(Request request) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Object> success = new LinkedHashMap<>();
+        success.put("ResultCode", "2001");
+        success.put("ResultMsg", "취소 성공");
+        success.put("ErrorCD", "0000");
+        success.put("ErrorMsg", "");
+        success.put("CancelAmt", request.get("CancelAmt", "0"));
+        success.put("MID", request.get("MID", ""));
+        success.put("Moid", request.get("Moid", ""));
+        success.put("PayMethod", "CARD");
+        success.put("TID", request.get("TID", ""));
+        success.put("CancelDate", now.format(DATE));
+        success.put("CancelTime", now.format(TIME));
+        success.put("CancelNum", String.format("%08d", ThreadLocalRandom.current().nextInt(100_000_000)));
+        success.put("RemainAmt", "000000000000");
+
+        Map<String, Object> declined = new LinkedHashMap<>();
+        declined.put("ResultCode", "2003");
+        declined.put("ResultMsg", "취소 실패 - 이미 취소된 거래입니다.");
+        declined.put("TID", request.get("TID", ""));
+        return new Responses(success, declined);
+    }
+
+    private String sequence() {
+        return String.format("%06d", sequence.incrementAndGet() % 1_000_000);
+    }
+
+    private Map<String, Object> statsSnapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        stats.forEach((name, counters) -> {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            counters.forEach((outcome, counter) -> counts.put(outcome.name(), counter.sum()));
+            snapshot.put(name, counts);
+        });
+        return snapshot;
+    }
+
+    // form(application/x-www-form-urlencoded) 또는 JSON 요청 본문을 Map 으로 읽음
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readParams(HttpExchange exchange) throws IOException {
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = in.readAllBytes();
+        }
+        if (body.length == 0) {
+            return Map.of();
+        }
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType != null && contentType.startsWith("application/json")) {
+            Map<String, Object> json = objectMapper.readValue(body, Map.class);
+            // 이니시스 취소 요청은 data 안에 tid 가 있음
+            if (json.get("data") instanceof Map<?, ?> data) {
+                data.forEach((key, value) -> json.putIfAbsent(key.toString(), value));
+            }
+            return json;
+        }
+
+        Map<String, Object> params = new LinkedHashMap<>();
+        for (String pair : new String(body, StandardCharsets.UTF_8).split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                params.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                           URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    private void writeJson(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 설정 순서: classpath pgstub.properties < 파일(인자 중 .properties) < key=value 인자 < -D 시스템 프로퍼티
+    private static Properties loadProperties(String[] args) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = PgStubServer.class.getResourceAsStream("/pgstub.properties")) {
+            if (in != null) {
+                properties.load(new java.io.InputStreamReader(in, StandardCharsets.UTF_8));
+            }
+        }
+        for (String arg : args) {
+            if (arg.endsWith(".properties")) {
+                try (Reader reader = Files.newBufferedReader(Path.of(arg), StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                }
+            } else if (arg.contains("=")) {
+                properties.setProperty(arg.substring(0, arg.indexOf('=')).trim(), arg.substring(arg.indexOf('=') + 1).trim());
+            }
+        }
+        System.getProperties().stringPropertyNames().stream()
+            .filter(name -> name.startsWith("pgstub."))
+            .forEach(name -> properties.setProperty(name, System.getProperty(name)));
+        return properties;
+    }
+
+    // 엔드포인트별 성공/실패 응답 본문
+    private record Responses(Map<String, Object> success, Map<String, Object> declined) {
+    }
+
+    // 요청 파라미터 조회 도우미
+    private record Request(Map<String, Object> params) {
+        String get(String key, String defaultValue) {
+            Object value = params.get(key);
+            return value != null ? value.toString() : defaultValue;
+        }
+    }
+}
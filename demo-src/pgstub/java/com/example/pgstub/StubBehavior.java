@@ -0,0 +1,86 @@
+package com.example.pgstub;
+
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+// 엔드포인트별 응답 지연/오류 설정 (pgstub.<endpoint>.* 설정)
+// 지연은 중앙값과 p99 로 정한 로그정규분포에서 뽑는다.
+final class StubBehavior {
+
+    // 한 요청에 대한 결과
+    enum Outcome {
+        SUCCESS,        // 정상 승인/취소
+        DECLINED,       // HTTP 200 + PG 실패 결과코드
+        HTTP_ERROR,     // HTTP 500
+        TIMEOUT         // timeoutMs 동안 응답하지 않음 (클라이언트 read timeout 유도)
+    }
+
+    // p99 의 표준정규분포 z 값
+    private static final double Z_99 = 2.3263;
+
+    private final double medianMs;
+    private final double sigma;
+    private final double declineRate;
+    private final double httpErrorRate;
+    private final double timeoutRate;
+    private final long timeoutMs;
+
+    private StubBehavior(double medianMs, double p99Ms, double declineRate, double httpErrorRate,
+                         double timeoutRate, long timeoutMs) {
+        this.medianMs = medianMs;
+        this.sigma = medianMs > 0 && p99Ms > medianMs ? Math.log(p99Ms / medianMs) / Z_99 : 0.0;
+        this.declineRate = declineRate;
+        this.httpErrorRate = httpErrorRate;
+        this.timeoutRate = timeoutRate;
+        this.timeoutMs = timeoutMs;
+    }
+
+    // pgstub.<endpoint>.<name> 이 없으면 pgstub.default.<name> 사용
+    static StubBehavior load(Properties properties, String endpoint) {
+        return new StubBehavior(
+            number(properties, endpoint, "latency-median-ms"),
+            number(properties, endpoint, "latency-p99-ms"),
+            number(properties, endpoint, "decline-rate"),
+            number(properties, endpoint, "http-error-rate"),
+            number(properties, endpoint, "timeout-rate"),
+            (long) number(properties, endpoint, "timeout-ms"));
+    }
+
+    Outcome nextOutcome() {
+        double value = ThreadLocalRandom.current().nextDouble();
+        if ((value -= timeoutRate) < 0) {
+            return Outcome.TIMEOUT;
+        }
+        if ((value -= httpErrorRate) < 0) {
+            return Outcome.HTTP_ERROR;
+        }
+        if (value - declineRate < 0) {
+            return Outcome.DECLINED;
+        }
+        return Outcome.SUCCESS;
+    }
+
+    long nextLatencyMs(Outcome outcome) {
+        if (outcome == Outcome.TIMEOUT) {
+            return timeoutMs;
+        }
+        if (medianMs <= 0) {
+            return 0;
+        }
+        return Math.round(medianMs * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("median=%.0fms sigma=%.2f decline=%.3f httpError=%.3f timeout=%.3f(%dms)",
+            medianMs, sigma, declineRate, httpErrorRate, timeoutRate, timeoutMs);
+    }
+
+    private static double number(Properties properties, String endpoint, String name) {
+        String value = properties.getProperty("pgstub." + endpoint + "." + name);
+        if (value == null) {
+            value = properties.getProperty("pgstub.default." + name, "0");
+        }
+        return Double.parseDouble(value.trim());
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.demo.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class PgCircuitBreakerTest {
+
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(5);
+    private static final long OPEN = TimeUnit.SECONDS.toNanos(30);
+
+    // window 10, 최소 4건, 시험 호출 2건, 실패율 50% / 지연 비율 80%
+    private final PgCircuitBreaker breaker = new PgCircuitBreaker(10, 4, 2, 50, 80, SLOW, OPEN);
+
+    // 실패율이 기준을 넘으면 OPEN, 대기 후 시험 호출이 성공하면 CLOSED
+    @Test
+    void opensOnFailuresAndClosesAfterSuccessfulTrialCalls() {
+        long now = 0;
+        call(now, false);
+        call(now, true);
+        call(now, false);
+        assertEquals(PgCircuitBreaker.State.CLOSED, breaker.getState());
+        call(now, true);
+        assertEquals(PgCircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(PgCircuitBreaker.REJECTED, breaker.tryAcquire(now + OPEN - 1));
+
+        now += OPEN;
+        long first = breaker.tryAcquire(now);
+        long second = breaker.tryAcquire(now);
+        assertEquals(PgCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertEquals(PgCircuitBreaker.REJECTED, breaker.tryAcquire(now));
+        breaker.onResult(first, false, 1000, now);
+        breaker.onResult(second, false, 1000, now);
+        assertEquals(PgCircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(1, breaker.getOpenCount());
+    }
+
+    // 실패가 아니어도 느린 호출이 대부분이면 OPEN, OPEN 이전에 시작한 호출 결과는 반영하지 않음
+    @Test
+    void opensOnSlowCallsAndIgnoresStaleResults() {
+        long stale = breaker.tryAcquire(0);
+        for (int i = 0; i < 4; i++) {
+            breaker.onResult(breaker.tryAcquire(0), false, SLOW, 0);
+        }
+        assertEquals(PgCircuitBreaker.State.OPEN, breaker.getState());
+
+        long trial = breaker.tryAcquire(OPEN);
+        assertNotEquals(PgCircuitBreaker.REJECTED, trial);
+        breaker.onResult(stale, true, SLOW, OPEN);
+        assertEquals(0, breaker.getRecordedCalls());
+
+        // 시험 호출이 실패하면 다시 OPEN
+        breaker.onResult(trial, true, 1000, OPEN);
+        breaker.onResult(breaker.tryAcquire(OPEN), true, 1000, OPEN);
+        assertEquals(PgCircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(2, breaker.getOpenCount());
+    }
+
+    private void call(long now, boolean failed) {
+        breaker.onResult(breaker.tryAcquire(now), failed, 1000, now);
+    }
+}
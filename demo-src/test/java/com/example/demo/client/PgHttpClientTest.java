@@ -0,0 +1,76 @@
+package com.example.demo.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.client.RestClientException;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PgHttpClientTest {
+
+    // 연결이 바로 거절되는 주소
+    private static final String UNREACHABLE_URL = "http://127.0.0.1:1/refund";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PgHttpClient client;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment();
+        PgWireTrace wireTrace = new PgWireTrace();
+        ReflectionTestUtils.setField(wireTrace, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(wireTrace, "environment", environment);
+        ReflectionTestUtils.setField(wireTrace, "bufferSize", 10);
+        wireTrace.init();
+
+        client = new PgHttpClient();
+        ReflectionTestUtils.setField(client, "environment", environment);
+        ReflectionTestUtils.setField(client, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(client, "wireTrace", wireTrace);
+        ReflectionTestUtils.setField(client, "maxTotal", 10);
+        ReflectionTestUtils.setField(client, "maxPerHost", 5);
+        ReflectionTestUtils.setField(client, "keepAliveMs", 30000L);
+        ReflectionTestUtils.setField(client, "idleEvictMs", 60000L);
+        ReflectionTestUtils.setField(client, "connectionTtlMs", 300000L);
+        ReflectionTestUtils.setField(client, "connectionRequestTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(client, "defaultConnectTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(client, "defaultReadTimeoutMs", 1000L);
+        client.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        client.close();
+    }
+
+    // 트랜잭션 밖의 호출은 세지 않고, 트랜잭션 안의 호출만 in-transaction 메트릭에 기록
+    @Test
+    void flagsCallsMadeInsideTransaction() {
+        assertThrows(RestClientException.class,
+            () -> client.post(PgOperation.INICIS_REFUND, UNREACHABLE_URL, new HttpEntity<>(Map.of("tid", "T1"))));
+        assertEquals(0L, callsInTransaction());
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        assertThrows(RestClientException.class,
+            () -> client.post(PgOperation.INICIS_REFUND, UNREACHABLE_URL, new HttpEntity<>(Map.of("tid", "T1"))));
+        assertEquals(1L, callsInTransaction());
+        assertEquals(1.0, meterRegistry.get("pg.client.in-transaction").tag("operation", "inicis-refund").counter().count());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object callsInTransaction() {
+        Map<String, Object> stats = (Map<String, Object>) client.getResilienceStats().get("inicis-refund");
+        return stats.get("callsInTransaction");
+    }
+}
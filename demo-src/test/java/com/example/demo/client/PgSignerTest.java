@@ -0,0 +1,65 @@
+package com.example.demo.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PgSignerTest {
+
+    private static final String MID = "INIpayTest";
+    private static final String SIGN_KEY = "SU5JTElURV9UUklQTEVERVNfS0VZU1RS";
+    private static final String API_KEY = "ItEQKi3rY7uvDS8l";
+
+    private PgSigner pgSigner;
+
+    @BeforeEach
+    void setUp() {
+        pgSigner = new PgSigner();
+        ReflectionTestUtils.setField(pgSigner, "inicisMid", MID);
+        ReflectionTestUtils.setField(pgSigner, "inicisSignKey", SIGN_KEY);
+        ReflectionTestUtils.setField(pgSigner, "inicisApiKey", API_KEY);
+        pgSigner.init();
+    }
+
+    // 기존 문자열 결합 + MessageDigest 방식과 같은 값을 만들어야 함
+    @Test
+    void inicisHashesMatchConcatenatedInput() throws Exception {
+        String timestamp = "1758171296123";
+
+        assertEquals(hash("SHA-256", SIGN_KEY), pgSigner.getMKey());
+        assertEquals(hash("SHA-256", "oid=ORD1&price=15000&timestamp=" + timestamp),
+            pgSigner.inicisSignature("ORD1", "15000", timestamp));
+        assertEquals(hash("SHA-256", "oid=ORD1&price=15000&signKey=" + SIGN_KEY + "&timestamp=" + timestamp),
+            pgSigner.inicisVerification("ORD1", "15000", timestamp));
+        assertEquals(hash("SHA-256", "authToken=AUTH1&timestamp=" + timestamp),
+            pgSigner.inicisAuthSignature("AUTH1", timestamp));
+        assertEquals(hash("SHA-256", "authToken=AUTH1&signKey=" + SIGN_KEY + "&timestamp=" + timestamp),
+            pgSigner.inicisAuthVerification("AUTH1", timestamp));
+    }
+
+    // 한글이 섞인 취소 사유, 버퍼보다 긴 입력도 UTF-8 기준으로 같은 값이어야 함
+    @Test
+    void refundAndNicePayHashesMatchConcatenatedInput() throws Exception {
+        String dataJson = "{\"tid\":\"TID1\",\"msg\":\"고객 요청 취소\"}";
+        String longToken = "A".repeat(1000);
+
+        assertEquals(hash("SHA-512", API_KEY + MID + "refund" + "20250918123456" + dataJson),
+            pgSigner.inicisRefundHash("20250918123456", dataJson));
+        assertEquals(hash("SHA-256", longToken + "nicepay00m" + "15000" + "KEY"),
+            pgSigner.nicePaySignature(longToken, "nicepay00m", "15000", "KEY"));
+        // 버퍼가 커진 뒤에도 짧은 입력 결과가 같아야 함
+        assertEquals(hash("SHA-256", "oid=ORD2&price=100&timestamp=1"),
+            pgSigner.inicisSignature("ORD2", "100", "1"));
+    }
+
+    private String hash(String algorithm, String input) throws Exception {
+        byte[] digest = MessageDigest.getInstance(algorithm).digest(input.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest);
+    }
+}
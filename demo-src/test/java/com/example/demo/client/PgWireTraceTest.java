@@ -0,0 +1,72 @@
+package com.example.demo.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PgWireTraceTest {
+
+    private PgWireTrace wireTrace;
+
+    @BeforeEach
+    void setUp() {
+        wireTrace = new PgWireTrace();
+        ReflectionTestUtils.setField(wireTrace, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(wireTrace, "environment", new MockEnvironment()
+            .withProperty("pg.wire-trace.sample-rate", "1.0")
+            .withProperty("pg.wire-trace.nicepay.sample-rate", "0"));
+        ReflectionTestUtils.setField(wireTrace, "bufferSize", 2);
+        wireTrace.init();
+    }
+
+    // 최근 buffer-size 건만 최신순으로 남고, 서명 필드는 조회 시 마스킹
+    @Test
+    void keepsLatestExchangesAndMasksSignatures() {
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("mid", "INIpayTest");
+        form.add("signature", "abc");
+        wireTrace.record(PgOperation.INICIS_AUTH_APPROVAL, "http://pg/auth", form, 200, "{\"resultCode\":\"0000\"}", 1_000_000, null);
+        wireTrace.record(PgOperation.INICIS_REFUND, "http://pg/refund", Map.of("hashData", "h"), 500, "error", 2_000_000, null);
+        wireTrace.record(PgOperation.INICIS_APPROVAL, "http://pg/approval", Map.of("mid", "INIpayTest"), 200, "OK", 3_000_000, null);
+
+        List<Map<String, Object>> recent = wireTrace.recent(10, "inicis");
+        assertEquals(2, recent.size());
+        assertEquals("inicis-approval", recent.get(0).get("operation"));
+        assertEquals(Map.of("hashData", "***"), recent.get(1).get("request"));
+        assertEquals("error", recent.get(1).get("response"));
+    }
+
+    // 구매자 연락처/카드번호는 요청/응답 모두 가리고 TID 는 끝 4자리만 남김
+    @Test
+    void masksBuyerAndCardFields() {
+        MultiValueMap<String, String> form = new LinkedMultiValueMap<>();
+        form.add("buyerEmail", "buyer@example.com");
+        form.add("buyerTel", "010-1234-5678");
+        form.add("price", "5000");
+        wireTrace.record(PgOperation.INICIS_AUTH_APPROVAL, "http://pg/auth", form, 200,
+            "{\"tid\":\"StdpayCARDINIpayTest20251018123456\",\"CARD_Num\":\"1234-****-****-5678\",\"TotPrice\":\"5000\"}",
+            1_000_000, null);
+
+        Map<String, Object> exchange = wireTrace.recent(1, null).get(0);
+        assertEquals(Map.of("buyerEmail", "***", "buyerTel", "***", "price", "5000"), exchange.get("request"));
+        assertEquals(Map.of("tid", "***3456", "CARD_Num", "***", "TotPrice", "5000"), exchange.get("response"));
+    }
+
+    // sample-rate 0 인 PG사는 기록하지 않음
+    @Test
+    void skipsProvidersWithZeroSampleRate() {
+        wireTrace.record(PgOperation.NICEPAY_CANCEL, "http://pg/cancel", Map.of("CancelPwd", "pw"), 200, "OK", 1_000_000, null);
+
+        assertEquals(0, wireTrace.recent(10, null).size());
+        assertEquals(1L, wireTrace.getStats().get("skipped"));
+    }
+}
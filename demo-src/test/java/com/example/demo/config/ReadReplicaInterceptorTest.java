@@ -0,0 +1,77 @@
+package com.example.demo.config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+class ReadReplicaInterceptorTest {
+
+    private final ReplicaRoutingDataSource routing =
+        new ReplicaRoutingDataSource(mock(DataSource.class), mock(DataSource.class));
+    private ReadReplicaInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new ReadReplicaInterceptor();
+        ReflectionTestUtils.setField(interceptor, "enabled", true);
+        ReflectionTestUtils.setField(interceptor, "readYourWritesMs", 5000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicaRoutingDataSource.clearReplicaReads();
+    }
+
+    // 조회 요청의 readOnly 트랜잭션만 replica, 쓰기 트랜잭션과 요청 밖 조회는 primary
+    @Test
+    void routesReadOnlyTransactionsOfGetRequestsToReplica() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/payment/history/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, null);
+
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(ReplicaRoutingDataSource.REPLICA, routing.determineCurrentLookupKey());
+        assertEquals(ReplicaRoutingDataSource.PRIMARY,
+            ReplicaRoutingDataSource.onPrimary(routing::determineCurrentLookupKey));
+        assertEquals(ReplicaRoutingDataSource.REPLICA, routing.determineCurrentLookupKey());
+
+        interceptor.afterCompletion(request, response, null, null);
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+        assertEquals(2L, routing.getStats().get("replicaReads"));
+    }
+
+    // 쓰기 요청을 보낸 클라이언트는 read-your-writes-ms 동안 primary 에서 조회
+    @Test
+    void readsOwnWritesFromPrimary() {
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        interceptor.preHandle(new MockHttpServletRequest("POST", "/api/payment/refund/order/ORD1"), writeResponse, null);
+        Cookie cookie = writeResponse.getCookie(ReadReplicaInterceptor.PRIMARY_UNTIL_COOKIE);
+        assertNotNull(cookie);
+        assertFalse(ReplicaRoutingDataSource.replicaReadsAllowed());
+
+        MockHttpServletRequest read = new MockHttpServletRequest("GET", "/api/payment/order-detail/ORD1");
+        read.setCookies(cookie);
+        interceptor.preHandle(read, new MockHttpServletResponse(), null);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+
+        read.setCookies(new Cookie(ReadReplicaInterceptor.PRIMARY_UNTIL_COOKIE,
+            String.valueOf(System.currentTimeMillis() - 1)));
+        interceptor.preHandle(read, new MockHttpServletResponse(), null);
+        assertEquals(ReplicaRoutingDataSource.REPLICA, routing.determineCurrentLookupKey());
+    }
+}
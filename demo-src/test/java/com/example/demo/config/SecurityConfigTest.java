@@ -0,0 +1,91 @@
+package com.example.demo.config;
+
+import com.example.demo.entity.User;
+import com.example.demo.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "payment.operator-user-ids=900001")
+class SecurityConfigTest {
+
+    private static final String BATCH_REFUND_URL = "/api/payment/refund/batch";
+    private static final String PG_WIRE_URL = "/api/payment/debug/pg-wire";
+    private static final String STALE_REFUNDS_URL = "/api/payment/refund/stale";
+    private static final String EMPTY_BATCH = "{\"orderNos\":[]}";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    // 일괄 취소는 토큰 없이 호출할 수 없고, 운영자가 아닌 사용자의 토큰도 거절
+    @Test
+    void batchRefundRejectsAnonymousAndNonOperatorRequests() {
+        assertEquals(HttpStatus.FORBIDDEN, post(null).getStatusCode());
+        assertEquals(HttpStatus.FORBIDDEN, post(tokenFor(2L)).getStatusCode());
+    }
+
+    // 운영자 토큰은 통과 (빈 목록이라 요청 검증에서 400)
+    @Test
+    void batchRefundAllowsOperator() {
+        assertEquals(HttpStatus.BAD_REQUEST, post(tokenFor(900001L)).getStatusCode());
+    }
+
+    // PG 요청/응답 원문 조회는 운영자 토큰으로만
+    @Test
+    void pgWireTraceRequiresOperator() {
+        assertEquals(HttpStatus.FORBIDDEN, get(PG_WIRE_URL, null).getStatusCode());
+        assertEquals(HttpStatus.FORBIDDEN, get(PG_WIRE_URL, tokenFor(2L)).getStatusCode());
+        assertEquals(HttpStatus.OK, get(PG_WIRE_URL, tokenFor(900001L)).getStatusCode());
+    }
+
+    // 취소 예약으로 남은 결제 조회/정리는 운영자 토큰으로만
+    @Test
+    void staleRefundsRequireOperator() {
+        assertEquals(HttpStatus.FORBIDDEN, get(STALE_REFUNDS_URL, null).getStatusCode());
+        assertEquals(HttpStatus.FORBIDDEN, get(STALE_REFUNDS_URL, tokenFor(2L)).getStatusCode());
+        assertEquals(HttpStatus.OK, get(STALE_REFUNDS_URL, tokenFor(900001L)).getStatusCode());
+        assertEquals(HttpStatus.FORBIDDEN, post(STALE_REFUNDS_URL + "/1/resolve", "{}", tokenFor(2L)).getStatusCode());
+        // 운영자 토큰은 통과 (pgCancelled 가 없어 요청 검증에서 400)
+        assertEquals(HttpStatus.BAD_REQUEST, post(STALE_REFUNDS_URL + "/1/resolve", "{}", tokenFor(900001L)).getStatusCode());
+    }
+
+    private ResponseEntity<String> get(String url, String token) {
+        HttpHeaders headers = new HttpHeaders();
+        if (token != null) {
+            headers.setBearerAuth(token);
+        }
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+
+    private ResponseEntity<String> post(String token) {
+        return post(BATCH_REFUND_URL, EMPTY_BATCH, token);
+    }
+
+    private ResponseEntity<String> post(String url, String body, String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (token != null) {
+            headers.setBearerAuth(token);
+        }
+        return restTemplate.postForEntity(url, new HttpEntity<>(body, headers), String.class);
+    }
+
+    private String tokenFor(Long userId) {
+        User user = new User("operator", "operator@example.com");
+        user.setId(userId);
+        return jwtUtil.generateToken(user);
+    }
+}
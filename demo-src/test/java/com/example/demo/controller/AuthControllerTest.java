@@ -0,0 +1,67 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.LoginResponse;
+import com.example.demo.entity.User;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.util.JwtClaims;
+import com.example.demo.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthControllerTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    @InjectMocks
+    private AuthController authController;
+
+    // 토큰의 적립금 버전이 DB 와 같으면 사용자 전체를 읽지 않고 클레임으로 응답
+    @Test
+    void answersFromClaimsWhenPointsVersionMatches() {
+        when(userRepository.findPointsVersionById(2L)).thenReturn(Optional.of(3L));
+
+        LoginResponse response = (LoginResponse) authController.getUserInfo(claims(3L), null).getBody();
+
+        assertEquals(1000, response.getPoints());
+        assertNull(response.getToken());
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    // 다른 인스턴스에서 적립금이 바뀌어 버전이 다르면 DB 값으로 응답하고 토큰 재발급
+    @Test
+    void reloadsUserWhenPointsVersionChanged() {
+        User user = new User("user", "user@example.com");
+        user.setId(2L);
+        user.setPoints(500);
+        when(userRepository.findPointsVersionById(2L)).thenReturn(Optional.of(4L));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user));
+        when(jwtUtil.generateToken(user)).thenReturn("new-token");
+
+        LoginResponse response = (LoginResponse) authController.getUserInfo(claims(3L), null).getBody();
+
+        assertEquals(500, response.getPoints());
+        assertEquals("new-token", response.getToken());
+    }
+
+    private JwtClaims claims(Long pointsVersion) {
+        return new JwtClaims(2L, "user@example.com", "user", null, 1000, pointsVersion, new Date(), null);
+    }
+}
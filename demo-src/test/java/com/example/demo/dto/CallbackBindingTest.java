@@ -0,0 +1,46 @@
+package com.example.demo.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CallbackBindingTest {
+
+    // 여러 별칭이 오면 앞쪽 별칭 우선, 빈 값은 없는 것으로 보고, 원본 파라미터는 모두 보관
+    @Test
+    void jsonBindsAliasesByPriority() throws Exception {
+        String json = "{\"P_OID\":\"ORD2\",\"oid\":\"ORD1\",\"tid\":\"\",\"P_TID\":\"TID1\","
+            + "\"P_STATUS\":\"00\",\"amount\":15000,\"extra\":{\"a\":1}}";
+
+        InicisCallback callback = new ObjectMapper().readValue(json, InicisCallback.class);
+
+        assertEquals("ORD1", callback.orderNo());
+        assertEquals("TID1", callback.tid());
+        assertEquals("00", callback.resultCode());
+        assertNull(callback.authUrl());
+        assertEquals("15000", callback.params().get("amount"));
+        assertEquals("{\"a\":1}", callback.params().get("extra"));
+        assertEquals(7, callback.params().size());
+    }
+
+    // form 본문 디코딩, 결제 결과 코드가 없으면 인증 결과 코드 사용
+    @Test
+    void formBindsNicePayAuthResult() {
+        String form = "AuthResultCode=0000&AuthResultMsg=%EC%9D%B8%EC%A6%9D+%EC%84%B1%EA%B3%B5&Moid=ORD1"
+            + "&TxTid=nicepay00m0101&Amt=15000&Signature=abc%2B%3D";
+
+        NicePayCallback callback = NicePayCallback.BINDING.readForm(form, StandardCharsets.UTF_8);
+
+        assertEquals("0000", callback.resultCode());
+        assertEquals("0000", callback.authResultCode());
+        assertEquals("인증 성공", callback.resultMsg());
+        assertEquals("ORD1", callback.orderNo());
+        assertEquals("15000", callback.amount());
+        assertEquals("abc+=", callback.signature());
+        assertNull(callback.tid());
+    }
+}
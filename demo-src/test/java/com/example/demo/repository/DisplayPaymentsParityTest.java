@@ -0,0 +1,100 @@
+package com.example.demo.repository;
+
+import com.example.demo.entity.Payment;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// findDisplayPaymentsByOrderNoIn 이 기존 Java 필터(PaymentService.filterPaymentsForDisplay)와 같은 결과를 내는지 확인
+// 실제 DB 에 결제 내역을 넣고 비교 (테스트 데이터는 롤백)
+@SpringBootTest
+@Transactional
+class DisplayPaymentsParityTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void matchesJavaFilter() {
+        // 같은 TID 재기록 (최신 1건만) + TID 없는 적립금 사용
+        save("DP-A", "T-A1", "CARD", "FAILED", 5000L, 1);
+        save("DP-A", "T-A1", "CARD", "COMPLETED", 5000L, 2);
+        save("DP-A", null, "POINT", "COMPLETED", 300L, 3);
+        // 카드 취소 (원 결제와 같은 TID / 다른 TID) - 원본 카드 결제 숨김
+        save("DP-B", "T-B1", "CARD", "COMPLETED", 5000L, 1);
+        save("DP-B", "T-B1", "CARD_REFUND", "REFUNDED", -5000L, 2);
+        save("DP-C", "T-C1", "CARD", "COMPLETED", 5000L, 1);
+        save("DP-C", "T-C2", "CARD_REFUND", "REFUNDED", -5000L, 2);
+        save("DP-C", null, "POINT", "COMPLETED", 300L, 1);
+        // 적립금 취소 - 원본 적립금 사용만 숨기고 카드 결제는 표시
+        save("DP-D", null, "POINT", "COMPLETED", 300L, 1);
+        save("DP-D", "T-D1", "CARD", "COMPLETED", 4700L, 1);
+        save("DP-D", "", "POINT_REFUND", "REFUNDED", -300L, 2);
+        // 공백 TID 는 TID 없는 내역으로 모두 표시, 같은 시각이면 id 역순
+        save("DP-E", "  ", "POINT", "COMPLETED", 100L, 1);
+        save("DP-E", "  ", "POINT", "COMPLETED", 200L, 1);
+        save("DP-E", "T-E1", "CARD", "FAILED", 5000L, 1);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<String> orderNos = List.of("DP-A", "DP-B", "DP-C", "DP-D", "DP-E");
+        Map<String, List<Long>> fromQuery = new LinkedHashMap<>();
+        for (Payment payment : paymentRepository.findDisplayPaymentsByOrderNoIn(orderNos)) {
+            fromQuery.computeIfAbsent(payment.getOrderNo(), key -> new ArrayList<>()).add(payment.getId());
+        }
+        for (String orderNo : orderNos) {
+            List<Long> expected = filterPaymentsForDisplay(paymentRepository.findByOrderNoOrderByPaymentDateDesc(orderNo))
+                .stream().map(Payment::getId).toList();
+            assertEquals(expected, fromQuery.getOrDefault(orderNo, List.of()), orderNo);
+        }
+        assertEquals(2, fromQuery.get("DP-A").size());
+        assertEquals(1, fromQuery.get("DP-B").size());
+        assertEquals(2, fromQuery.get("DP-D").size());
+        assertEquals(3, fromQuery.get("DP-E").size());
+    }
+
+    private void save(String orderNo, String tid, String paymentType, String status, Long amount, int minutes) {
+        Payment payment = new Payment(orderNo, tid, amount, status, "0000", "테스트", paymentType);
+        payment.setPaymentDate(BASE.plusMinutes(minutes));
+        paymentRepository.save(payment);
+    }
+
+    // 쿼리로 옮기기 전의 PaymentService.filterPaymentsForDisplay (최신순 결제 내역 입력)
+    private static List<Payment> filterPaymentsForDisplay(List<Payment> allPayments) {
+        Map<String, Payment> tidToLatestPayment = new LinkedHashMap<>();
+        for (Payment payment : allPayments) {
+            String tid = payment.getTid();
+            if (tid != null && !tid.trim().isEmpty()) {
+                if (!tidToLatestPayment.containsKey(tid)) {
+                    tidToLatestPayment.put(tid, payment);
+                }
+            } else {
+                tidToLatestPayment.put("NO_TID_" + payment.getId(), payment);
+            }
+        }
+
+        List<Payment> uniquePayments = new ArrayList<>(tidToLatestPayment.values());
+        boolean hasCardRefund = uniquePayments.stream().anyMatch(p -> "CARD_REFUND".equals(p.getPaymentType()));
+        boolean hasPointRefund = uniquePayments.stream().anyMatch(p -> "POINT_REFUND".equals(p.getPaymentType()));
+
+        return uniquePayments.stream()
+            .filter(payment -> !("CARD".equals(payment.getPaymentType()) && hasCardRefund))
+            .filter(payment -> !("POINT".equals(payment.getPaymentType()) && hasPointRefund))
+            .toList();
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.demo.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Flyway 마이그레이션 적용 후 주요 Repository 조회가 의도한 인덱스를 타는지 EXPLAIN 으로 확인
+@Testcontainers(disabledWithoutDocker = true)
+class PaymentQueryIndexPlanTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        Flyway.configure()
+            .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+            .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+            .load()
+            .migrate();
+
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+            postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword(), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        // 주문 2000건, 주문당 결제 3건 (완료/환불/실패)
+        jdbcTemplate.execute(
+            "INSERT INTO orders (order_no, user_id, total_amount, points_used, card_amount, status, created_at, updated_at) " +
+            "SELECT 'ORD' || g, g % 100, 10000, 0, 10000, 'COMPLETED', now() - g * interval '1 minute', now() " +
+            "FROM generate_series(1, 2000) g");
+        jdbcTemplate.execute(
+            "INSERT INTO payments (order_no, tid, amount, status, payment_type, payment_date, created_at) " +
+            "SELECT 'ORD' || g, 'TID' || g, 10000, s.status, 'CARD', now() - g * interval '1 minute', now() " +
+            "FROM generate_series(1, 2000) g CROSS JOIN (VALUES ('COMPLETED'), ('REFUNDED'), ('FAILED')) s(status)");
+        jdbcTemplate.execute(
+            "INSERT INTO payment_logs (order_id, transaction_id, amount, status, created_at) " +
+            "SELECT g, 'TID' || g, 10000, 'APPROVED', now() FROM generate_series(1, 2000) g");
+        jdbcTemplate.execute(
+            "INSERT INTO if_inisis_log (order_no, request_type, payment_provider, transaction_id, created_at) " +
+            "SELECT 'ORD' || (g % 2000), 'PAYMENT_RETURN', 'INICIS', 'TID' || g, now() FROM generate_series(1, 6000) g");
+        jdbcTemplate.execute("ANALYZE");
+
+        // 테스트 데이터가 작아도 플래너가 인덱스를 고려하도록 seq scan 비활성화
+        jdbcTemplate.execute("SET enable_seqscan = off");
+    }
+
+    @Test
+    void paymentsByOrderNoUseOrderNoIndex() {
+        assertPlanUses("idx_payments_order_no_payment_date",
+            "SELECT * FROM payments WHERE order_no = 'ORD10' ORDER BY payment_date DESC, id DESC");
+        assertPlanUses("idx_payments_order_no_payment_date",
+            "SELECT * FROM payments WHERE order_no IN ('ORD10', 'ORD11', 'ORD12') " +
+            "ORDER BY order_no, payment_date DESC, id DESC");
+    }
+
+    // 표시용 결제 내역 (DISTINCT ON + 취소 내역 NOT EXISTS) 도 주문번호 인덱스로 조회
+    // 복사한 SQL 이 아니라 Repository 메서드에 선언된 native query 그대로 확인
+    @Test
+    void displayPaymentsUseOrderNoIndex() throws NoSuchMethodException {
+        String sql = PaymentRepository.class
+            .getMethod("findDisplayPaymentsByOrderNoIn", Collection.class)
+            .getAnnotation(Query.class)
+            .value()
+            .replace(":orderNos", "'ORD10', 'ORD11', 'ORD12'");
+        assertPlanUses("idx_payments_order_no_payment_date", sql);
+    }
+
+    @Test
+    void completedPaymentsUsePartialIndex() {
+        assertPlanUses("idx_payments_order_no_completed",
+            "SELECT * FROM payments WHERE order_no = 'ORD10' AND status = 'COMPLETED' ORDER BY payment_date DESC");
+    }
+
+    @Test
+    void paymentsByTidAndStatusUseTidIndex() {
+        assertPlanUses("idx_payments_tid_status_payment_date",
+            "SELECT * FROM payments WHERE tid = 'TID10' AND status = 'COMPLETED' ORDER BY payment_date DESC, id DESC");
+    }
+
+    @Test
+    void ordersByUserUseKeysetIndex() {
+        assertPlanUses("idx_orders_user_id_created_at",
+            "SELECT * FROM orders WHERE user_id = 7 ORDER BY created_at DESC, id DESC LIMIT 51");
+        assertPlanUses("idx_orders_user_id_created_at",
+            "SELECT * FROM orders WHERE user_id = 7 " +
+            "AND (created_at < now() OR (created_at = now() AND id < 100)) " +
+            "ORDER BY created_at DESC, id DESC LIMIT 51");
+    }
+
+    @Test
+    void paymentLogsUseOrderIdAndTransactionIndexes() {
+        assertPlanUses("idx_payment_logs_order_id_created_at",
+            "SELECT * FROM payment_logs WHERE order_id = 10 ORDER BY created_at DESC LIMIT 1");
+        assertPlanUses("idx_payment_logs_transaction_id",
+            "SELECT * FROM payment_logs WHERE transaction_id = 'TID10'");
+    }
+
+    @Test
+    void ifInisisLogLookupsUseIndexes() {
+        assertPlanUses("idx_if_inisis_log_order_no_request_type_created_at",
+            "SELECT * FROM if_inisis_log WHERE order_no = 'ORD10' ORDER BY created_at DESC");
+        assertPlanUses("idx_if_inisis_log_transaction_id_created_at",
+            "SELECT * FROM if_inisis_log WHERE transaction_id = 'TID10' ORDER BY created_at DESC");
+        assertPlanUses("idx_if_inisis_log_order_no_request_type_created_at",
+            "SELECT * FROM if_inisis_log WHERE order_no = 'ORD10' AND request_type = 'PAYMENT_RETURN' " +
+            "ORDER BY created_at DESC LIMIT 1");
+    }
+
+    private void assertPlanUses(String indexName, String sql) {
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+        String planText = String.join("\n", plan);
+        assertTrue(planText.contains(indexName),
+            () -> "expected " + indexName + " in plan for [" + sql + "]:\n" + planText);
+    }
+}
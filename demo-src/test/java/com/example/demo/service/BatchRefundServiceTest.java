@@ -0,0 +1,123 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Payment;
+import com.example.demo.repository.PaymentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BatchRefundServiceTest {
+
+    @Mock
+    private PaymentService paymentService;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private OrderStatusCache orderStatusCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private BatchRefundService batchRefundService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(batchRefundService, "maxItems", 3);
+        ReflectionTestUtils.setField(batchRefundService, "inicisConcurrency", 2);
+        ReflectionTestUtils.setField(batchRefundService, "nicePayConcurrency", 2);
+        ReflectionTestUtils.setField(batchRefundService, "writeBatchSize", 10);
+        ReflectionTestUtils.setField(batchRefundService, "lingerMs", 50L);
+        batchRefundService.init();
+    }
+
+    // 빈 값/중복은 제거하고, 제한 건수를 넘으면 거절
+    @Test
+    void prepareNormalizesAndLimitsItems() {
+        BatchRefundService.Batch batch = batchRefundService.prepare(
+            List.of(" ORD-1", "ORD-1", ""), null, null, null);
+
+        assertEquals(List.of("ORD-1"), batch.orderNos());
+        assertEquals("고객 요청", batch.reason());
+        assertThrows(IllegalArgumentException.class,
+            () -> batchRefundService.prepare(List.of(), List.of(" "), null, null));
+        assertThrows(IllegalArgumentException.class,
+            () -> batchRefundService.prepare(List.of("A", "B"), List.of("T1", "T2"), null, null));
+    }
+
+    // 적립금 결제만 있는 주문은 취소 대상에서 빼고, 카드 결제는 예약 -> PG 취소 -> 한 번에 저장
+    @Test
+    @SuppressWarnings("unchecked")
+    void refundsCardPaymentsAndReportsEachItem() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(paymentRepository.findByOrderNoInOrderByPaymentDateDesc(anyList())).thenReturn(List.of(
+            payment(1L, "ORD-1", "TID-1", "CARD"),
+            payment(2L, "ORD-1", null, "POINT"),
+            payment(3L, "ORD-2", null, "POINT")));
+        when(jdbcTemplate.queryForList(startsWith("UPDATE payments"), eq(Long.class), any(Object[].class)))
+            .thenReturn(List.of(1L));
+        when(paymentService.callInicisRefundAPI("TID-1", "고객 요청", "127.0.0.1"))
+            .thenReturn(Map.of("resultCode", "00", "resultMsg", "취소 완료"));
+
+        List<Map<String, Object>> lines = new ArrayList<>();
+        batchRefundService.execute(batchRefundService.prepare(List.of("ORD-1", "ORD-2"), null, null, null), lines::add);
+
+        assertEquals(3, lines.size());
+        assertEquals("ORD-2", lines.get(0).get("orderNo"));
+        assertEquals(false, lines.get(0).get("success"));
+        assertEquals(1L, lines.get(1).get("paymentId"));
+        assertEquals(true, lines.get(1).get("success"));
+        assertEquals("summary", lines.get(2).get("type"));
+        assertEquals(1, lines.get(2).get("succeeded"));
+        assertEquals(1, lines.get(2).get("failed"));
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO payments"), anyList(), anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE orders SET refunded_card_amount"), anyList(), anyInt(),
+            any(ParameterizedPreparedStatementSetter.class));
+        verify(paymentService).updateOrderStatusBasedOnPayments("ORD-1");
+        verify(paymentService, never()).callNicePayCancelAPI(anyString(), any(), anyString());
+        verify(orderStatusCache, atLeastOnce()).evictPayment("ORD-1");
+    }
+
+    private Payment payment(Long id, String orderNo, String tid, String paymentType) {
+        Payment payment = new Payment();
+        payment.setId(id);
+        payment.setOrderNo(orderNo);
+        payment.setTid(tid);
+        payment.setAmount(5000L);
+        payment.setStatus("COMPLETED");
+        payment.setPaymentType(paymentType);
+        return payment;
+    }
+}
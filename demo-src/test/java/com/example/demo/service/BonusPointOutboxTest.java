@@ -0,0 +1,70 @@
+package com.example.demo.service;
+
+import com.example.demo.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BonusPointOutboxTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private BonusPointOutbox bonusPointOutbox;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bonusPointOutbox, "batchSize", 100);
+        ReflectionTestUtils.setField(bonusPointOutbox, "transactionTemplate", new TransactionTemplate(transactionManager));
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    // 같은 사용자의 적립 요청은 합산해서 한 번만 반영
+    @Test
+    @SuppressWarnings("unchecked")
+    void pendingCreditsAreGroupedByUser() {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(100))).thenReturn(List.of(
+            new long[] { 1, 7, 100 },
+            new long[] { 2, 9, 50 },
+            new long[] { 3, 7, 250 }));
+        when(userRepository.creditPoints(anyLong(), anyInt())).thenReturn(1);
+
+        int processed = bonusPointOutbox.dispatchBatch();
+
+        assertEquals(3, processed);
+        verify(userRepository, times(1)).creditPoints(7L, 350);
+        verify(userRepository, times(1)).creditPoints(9L, 50);
+        verify(userRepository, times(2)).creditPoints(anyLong(), anyInt());
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+    }
+}
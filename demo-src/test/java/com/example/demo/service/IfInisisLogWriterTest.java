@@ -0,0 +1,169 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.IfInisisLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IfInisisLogWriterTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private IfInisisLogWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new IfInisisLogWriter();
+        ReflectionTestUtils.setField(writer, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(writer, "transactionManager", mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(writer, "queueCapacity", 100);
+        ReflectionTestUtils.setField(writer, "batchSize", 3);
+        ReflectionTestUtils.setField(writer, "lingerMs", 200L);
+        ReflectionTestUtils.setField(writer, "offerTimeoutMs", 1L);
+        ReflectionTestUtils.setField(writer, "overflowPolicy", IfInisisLogWriter.OverflowPolicy.DROP);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writer.stop();
+    }
+
+    // linger 시간 안에 들어온 로그는 batch-size 단위로 묶어서 저장하고, 남은 로그는 linger 후 저장
+    @Test
+    @SuppressWarnings("unchecked")
+    void groupsLogsIntoBatchesWithinLinger() {
+        // writer 는 배치 목록을 재사용하므로 호출 시점의 크기를 기록
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            batchSizes.add(invocation.<Collection<?>>getArgument(1).size());
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), ArgumentMatchers.<ParameterizedPreparedStatementSetter<IfInisisLog>>any());
+        writer.start();
+        for (int i = 0; i < 4; i++) {
+            writer.submit(log("ORD-" + i));
+        }
+
+        verify(jdbcTemplate, timeout(2000).times(2))
+            .batchUpdate(anyString(), anyCollection(), anyInt(), ArgumentMatchers.<ParameterizedPreparedStatementSetter<IfInisisLog>>any());
+        writer.stop();
+        assertEquals(List.of(3, 1), batchSizes);
+        assertEquals(4L, writer.getStats().get("written"));
+    }
+
+    // 배치에 잘못된 행이 있으면 행 단위로 다시 저장해 나머지 로그는 남김
+    @Test
+    void fallsBackToRowInsertsWhenBatchFails() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), ArgumentMatchers.<ParameterizedPreparedStatementSetter<IfInisisLog>>any()))
+            .thenThrow(new DataIntegrityViolationException("bad row"));
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+            .thenReturn(1)
+            .thenThrow(new DataIntegrityViolationException("bad row"))
+            .thenReturn(1);
+        writer.start();
+        for (int i = 0; i < 3; i++) {
+            writer.submit(log("ORD-" + i));
+        }
+
+        verify(jdbcTemplate, timeout(2000).times(3)).update(anyString(), any(PreparedStatementSetter.class));
+        writer.stop();
+        assertEquals(2L, writer.getStats().get("written"));
+        assertEquals(1L, writer.getStats().get("failed"));
+        assertEquals(1L, writer.getStats().get("rowFallbacks"));
+    }
+
+    // 큐가 가득 차면 DROP 은 버리고 DB 를 건드리지 않음
+    @Test
+    void dropsLogsWhenQueueIsFull() throws Exception {
+        CountDownLatch release = blockWriterWithFullQueue();
+
+        writer.submit(log("ORD-overflow"));
+        release.countDown();
+
+        assertEquals(1L, writer.getStats().get("dropped"));
+        assertEquals(0L, writer.getStats().get("spilled"));
+    }
+
+    // 큐가 가득 차면 CALLER_RUNS 는 호출 스레드에서 직접 저장
+    @Test
+    @SuppressWarnings("unchecked")
+    void writesOnCallerThreadWhenQueueIsFull() throws Exception {
+        ReflectionTestUtils.setField(writer, "overflowPolicy", IfInisisLogWriter.OverflowPolicy.CALLER_RUNS);
+        CountDownLatch release = blockWriterWithFullQueue();
+
+        writer.submit(log("ORD-overflow"));
+
+        // writer 스레드의 첫 배치 + 호출 스레드의 직접 저장 (writer 가 멈춰 있는 동안 확인)
+        verify(jdbcTemplate, times(2))
+            .batchUpdate(anyString(), anyCollection(), anyInt(), ArgumentMatchers.<ParameterizedPreparedStatementSetter<IfInisisLog>>any());
+        release.countDown();
+        assertEquals(0L, writer.getStats().get("dropped"));
+        assertEquals(1L, writer.getStats().get("spilled"));
+    }
+
+    // 종료 시 큐에 남은 로그를 모두 저장
+    @Test
+    void drainsQueueOnShutdown() {
+        writer.start();
+        for (int i = 0; i < 50; i++) {
+            writer.submit(log("ORD-" + i));
+        }
+
+        writer.stop();
+
+        assertEquals(50L, writer.getStats().get("written"));
+        assertEquals(0, writer.getQueueSize());
+        verify(jdbcTemplate, never()).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    // 큐 크기 1, writer 스레드는 첫 배치 저장에서 멈춘 상태로 큐를 가득 채움
+    @SuppressWarnings("unchecked")
+    private CountDownLatch blockWriterWithFullQueue() throws InterruptedException {
+        ReflectionTestUtils.setField(writer, "queueCapacity", 1);
+        ReflectionTestUtils.setField(writer, "lingerMs", 0L);
+        CountDownLatch writerBlocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            if ("if-inisis-log-writer".equals(Thread.currentThread().getName())) {
+                writerBlocked.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), ArgumentMatchers.<ParameterizedPreparedStatementSetter<IfInisisLog>>any());
+        writer.start();
+
+        writer.submit(log("ORD-first"));
+        assertEquals(true, writerBlocked.await(2, TimeUnit.SECONDS));
+        writer.submit(log("ORD-queued"));
+        assertEquals(1, writer.getQueueSize());
+        return release;
+    }
+
+    private IfInisisLog log(String orderNo) {
+        return new IfInisisLog(orderNo, "CALLBACK", "INICIS");
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderCallbackSerializerTest {
+
+    private OrderCallbackSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        serializer = new OrderCallbackSerializer();
+        ReflectionTestUtils.setField(serializer, "stripeCount", 64);
+        ReflectionTestUtils.setField(serializer, "lockTimeoutMs", 5000L);
+        serializer.init();
+    }
+
+    // 같은 주문의 콜백은 동시에 실행되지 않아야 함
+    @Test
+    void callbacksForSameOrderRunOneAtATime() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                futures.add(executor.submit(() -> serializer.runSerially("ORD1", () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(2);
+                    running.decrementAndGet();
+                    return "OK";
+                }, () -> "FAIL")));
+            }
+            for (Future<String> future : futures) {
+                assertEquals("OK", future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, maxRunning.get());
+    }
+
+    // 다른 주문은 서로 기다리지 않아야 함
+    @Test
+    void callbacksForDifferentOrdersRunInParallel() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            String otherOrderNo = findOrderNoOnOtherStripe("ORD1");
+            Future<Boolean> first = executor.submit(() -> serializer.runSerially("ORD1",
+                () -> awaitBoth(bothStarted), () -> false));
+            Future<Boolean> second = executor.submit(() -> serializer.runSerially(otherOrderNo,
+                () -> awaitBoth(bothStarted), () -> false));
+            assertTrue(first.get(10, TimeUnit.SECONDS));
+            assertTrue(second.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean awaitBoth(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private String findOrderNoOnOtherStripe(String orderNo) {
+        Object stripe = ReflectionTestUtils.invokeMethod(serializer, "stripeFor", orderNo);
+        for (int i = 2; ; i++) {
+            String candidate = "ORD" + i;
+            if (ReflectionTestUtils.invokeMethod(serializer, "stripeFor", candidate) != stripe) {
+                return candidate;
+            }
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
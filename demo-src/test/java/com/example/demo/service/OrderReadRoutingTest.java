@@ -0,0 +1,64 @@
+package com.example.demo.service;
+
+import com.example.demo.config.ReplicaRoutingDataSource;
+import com.example.demo.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class OrderReadRoutingTest {
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private OrderReadRouting routing;
+
+    @BeforeEach
+    void setUp() {
+        routing = new OrderReadRouting();
+        ReflectionTestUtils.setField(routing, "orderRepository", orderRepository);
+        ReflectionTestUtils.setField(routing, "readYourWritesMs", 5000L);
+        ReplicaRoutingDataSource.allowReplicaReads();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingDataSource.clearReplicaReads();
+    }
+
+    // 다른 인스턴스(PG 결제 결과 처리 등)에서 방금 바뀐 주문은 쿠키가 없어도 primary 에서 조회
+    @Test
+    void readsRecentlyChangedOrderFromPrimary() {
+        when(orderRepository.findUpdatedAtByOrderNo("ORD-1")).thenReturn(Optional.of(LocalDateTime.now().minusSeconds(1)));
+
+        assertFalse(routing.byOrderNo("ORD-1", ReplicaRoutingDataSource::replicaReadsAllowed));
+        assertTrue(ReplicaRoutingDataSource.replicaReadsAllowed());
+    }
+
+    // 변경된 지 오래된 주문과 없는 주문은 replica 에서 조회
+    @Test
+    void readsSettledOrderFromReplica() {
+        when(orderRepository.findUpdatedAtById(1L)).thenReturn(Optional.of(LocalDateTime.now().minusMinutes(1)));
+        when(orderRepository.findUpdatedAtById(2L)).thenReturn(Optional.empty());
+
+        assertTrue(routing.byOrderId(1L, ReplicaRoutingDataSource::replicaReadsAllowed));
+        assertTrue(routing.byOrderId(2L, ReplicaRoutingDataSource::replicaReadsAllowed));
+    }
+
+    // replica 를 쓰지 않는 요청은 변경 시각을 확인하지 않음
+    @Test
+    void skipsCheckWhenReplicaReadsAreNotAllowed() {
+        ReplicaRoutingDataSource.clearReplicaReads();
+
+        assertFalse(routing.byOrderNo("ORD-1", ReplicaRoutingDataSource::replicaReadsAllowed));
+        verifyNoInteractions(orderRepository);
+    }
+}
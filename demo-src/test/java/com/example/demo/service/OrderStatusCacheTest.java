@@ -0,0 +1,59 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OrderStatusCacheTest {
+
+    private OrderStatusCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new OrderStatusCache();
+        ReflectionTestUtils.setField(cache, "maxSize", 2);
+        ReflectionTestUtils.setField(cache, "ttlMs", 60000L);
+        cache.init();
+    }
+
+    // 무효화 전까지는 DB 조회 없이 캐시에서 응답
+    @Test
+    void cachedUntilEvicted() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("PENDING", cache.getOrderByOrderNo("ORD1", () -> { loads.incrementAndGet(); return "PENDING"; }));
+        assertEquals("PENDING", cache.getOrderByOrderNo("ORD1", () -> { loads.incrementAndGet(); return "COMPLETED"; }));
+        assertEquals(1, loads.get());
+
+        cache.evictOrder(1L, "ORD1");
+        assertEquals("COMPLETED", cache.getOrderByOrderNo("ORD1", () -> { loads.incrementAndGet(); return "COMPLETED"; }));
+        assertEquals(2, loads.get());
+    }
+
+    // 조회 도중 무효화된 값은 캐시에 남기지 않음
+    @Test
+    void valueLoadedDuringEvictionIsNotCached() {
+        cache.getOrderByOrderNo("ORD1", () -> {
+            cache.evictOrder(1L, "ORD1");
+            return "PENDING";
+        });
+
+        assertEquals("COMPLETED", cache.getOrderByOrderNo("ORD1", () -> "COMPLETED"));
+    }
+
+    // 최대 건수를 넘으면 가장 오래 사용하지 않은 항목부터 제거
+    @Test
+    void leastRecentlyUsedEntryIsEvictedWhenFull() {
+        cache.getOrderByOrderNo("ORD1", () -> "A");
+        cache.getOrderByOrderNo("ORD2", () -> "B");
+        cache.getOrderByOrderNo("ORD1", () -> "X");
+        cache.getOrderByOrderNo("ORD3", () -> "C");
+
+        assertEquals("A", cache.getOrderByOrderNo("ORD1", () -> "X"));
+        assertEquals("Y", cache.getOrderByOrderNo("ORD2", () -> "Y"));
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.demo.service;
+
+import com.example.demo.service.PgCallbackIdempotencyService.CallbackType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PaymentMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private PaymentMetrics paymentMetrics;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        paymentMetrics = new PaymentMetrics();
+        ReflectionTestUtils.setField(paymentMetrics, "meterRegistry", registry);
+        paymentMetrics.init();
+    }
+
+    // 콜백은 결과코드별로 세고, 처리 중에는 in-flight 에 포함되어야 함
+    @Test
+    void callbackIsCountedAndTimed() {
+        double inFlightDuringCall = paymentMetrics.recordCallback(CallbackType.NICEPAY_NOTIFY, "3001",
+            () -> registry.get("payment.flow.in-flight").tag("flow", "nicepay_notify").gauge().value());
+        paymentMetrics.recordCallback(CallbackType.NICEPAY_NOTIFY, null, () -> "OK");
+
+        assertEquals(1.0, inFlightDuringCall);
+        assertEquals(0.0, registry.get("payment.flow.in-flight").tag("flow", "nicepay_notify").gauge().value());
+        assertEquals(1.0, registry.get("payment.pg.callbacks")
+            .tags("provider", "NICEPAY", "resultCode", "3001").counter().count());
+        assertEquals(1.0, registry.get("payment.pg.callbacks")
+            .tags("provider", "NICEPAY", "resultCode", "NONE").counter().count());
+        assertEquals(2, registry.get("payment.flow.duration")
+            .tags("flow", "nicepay_notify", "outcome", "success").timer().count());
+    }
+
+    // 예외가 나도 시간은 error 로 기록하고 in-flight 는 원복
+    @Test
+    void failureIsTimedAsError() {
+        assertThrows(IllegalStateException.class, () -> paymentMetrics.record(PaymentMetrics.Flow.CREATE_ORDER, () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals(1, registry.get("payment.flow.duration")
+            .tags("flow", "create_order", "outcome", "error").timer().count());
+        assertEquals(0.0, registry.get("payment.flow.in-flight").tag("flow", "create_order").gauge().value());
+    }
+}
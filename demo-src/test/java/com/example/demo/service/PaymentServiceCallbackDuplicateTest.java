@@ -0,0 +1,87 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.InicisCallback;
+import com.example.demo.entity.Order;
+import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.PaymentRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// response 로 결과가 반영된 주문에 늦게 도착한 notify 가 결제 내역/누계를 다시 반영하지 않는지 확인 (테스트 데이터는 롤백)
+@SpringBootTest
+@Transactional
+class PaymentServiceCallbackDuplicateTest {
+
+    // 실제 사용자와 겹치지 않는 테스트용 사용자
+    private static final Long USER_ID = 987_654_322L;
+    private static final String ORDER_NO = "DUP-CB-1";
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    // 이니시스 로그는 비동기로 별도 커밋되므로 테스트에서는 기록하지 않음
+    @MockitoBean
+    private IfInisisLogWriter ifInisisLogWriter;
+
+    @Test
+    void notifyAfterResponseDoesNotAddSecondPayment() {
+        orderRepository.save(new Order(ORDER_NO, USER_ID, 5000L, 0, 5000L, Order.OrderStatus.PENDING));
+        flushAndClear();
+
+        Map<String, Object> response = paymentService.processPaymentResponse(callback("0000"));
+        flushAndClear();
+        assertEquals(true, response.get("success"));
+
+        assertEquals("OK", paymentService.processPaymentNotify(callback("0000")));
+        flushAndClear();
+
+        assertEquals(1, paymentRepository.findByOrderNo(ORDER_NO).size());
+        assertEquals(5000L, orderRepository.findRefundableCardAmount(ORDER_NO).orElseThrow());
+        assertEquals(Order.OrderStatus.COMPLETED, orderRepository.findByOrderNo(ORDER_NO).orElseThrow().getStatus());
+    }
+
+    // 완료된 주문에 실패 코드 notify 가 와도 주문 상태와 결제 내역은 그대로
+    @Test
+    void failedNotifyAfterCompletionIsIgnored() {
+        orderRepository.save(new Order(ORDER_NO, USER_ID, 5000L, 0, 5000L, Order.OrderStatus.PENDING));
+        flushAndClear();
+        paymentService.processPaymentResponse(callback("0000"));
+        flushAndClear();
+
+        assertEquals("OK", paymentService.processPaymentNotify(callback("9999")));
+        flushAndClear();
+
+        assertEquals(1, paymentRepository.findByOrderNo(ORDER_NO).size());
+        assertEquals(Order.OrderStatus.COMPLETED, orderRepository.findByOrderNo(ORDER_NO).orElseThrow().getStatus());
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private InicisCallback callback(String resultCode) {
+        return InicisCallback.of(Map.of(
+            "orderNumber", ORDER_NO,
+            "resultCode", resultCode,
+            "resultMsg", "0000".equals(resultCode) ? "성공" : "실패",
+            "tid", "TID-" + ORDER_NO));
+    }
+}
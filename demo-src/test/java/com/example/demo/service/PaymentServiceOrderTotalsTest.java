@@ -0,0 +1,103 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Order;
+import com.example.demo.entity.Payment;
+import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.PaymentRepository;
+import com.example.demo.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceOrderTotalsTest {
+
+    private static final String ORDER_NO = "ORD-1";
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private OrderStatusCacheInvalidator orderStatusCacheInvalidator;
+
+    @InjectMocks
+    private PaymentService paymentService;
+
+    // 완료/취소 진행 중 결제는 결제 누계, 취소 완료 내역은 취소 누계, 실패 건은 반영하지 않음
+    @Test
+    void paymentTotalsFollowStatusAndType() {
+        assertArrayEquals(new long[] { 5000, 0, 0, 0 }, PaymentService.paymentTotals(payment("CARD", "COMPLETED", 5000)));
+        assertArrayEquals(new long[] { 5000, 0, 0, 0 }, PaymentService.paymentTotals(payment("NICEPAY_CARD", "REFUNDING", 5000)));
+        assertArrayEquals(new long[] { 0, 300, 0, 0 }, PaymentService.paymentTotals(payment("POINT", "COMPLETED", 300)));
+        assertArrayEquals(new long[] { 0, 0, 5000, 0 }, PaymentService.paymentTotals(payment("CARD_REFUND", "REFUNDED", -5000)));
+        assertArrayEquals(new long[] { 0, 0, 0, 300 }, PaymentService.paymentTotals(payment("POINT_REFUND", "REFUNDED", -300)));
+        assertArrayEquals(new long[] { 0, 0, 0, 0 }, PaymentService.paymentTotals(payment("CARD", "FAILED", 5000)));
+    }
+
+    // 적립금 취소는 주문 누계만 보고 판단하고, 취소 후 남은 결제가 없어 주문이 CANCELLED 로 바뀌면 캐시 무효화
+    @Test
+    void pointRefundUpdatesTotalsAndCancelsOrder() {
+        when(orderRepository.findByOrderNoForUpdate(ORDER_NO)).thenReturn(Optional.of(order(300L, 0L)));
+        when(userRepository.creditPoints(7L, 300)).thenReturn(1);
+        when(paymentRepository.save(any(Payment.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderRepository.addPaymentTotals(eq(ORDER_NO), eq(0L), eq(0L), eq(0L), eq(300L), any())).thenReturn(1);
+        when(orderRepository.cancelIfFullyRefunded(eq(ORDER_NO), any())).thenReturn(1);
+        when(orderRepository.findIdByOrderNo(ORDER_NO)).thenReturn(Optional.of(11L));
+
+        Map<String, Object> result = paymentService.refundPointsByOrderNo(ORDER_NO, "고객 요청");
+
+        assertEquals(true, result.get("success"));
+        assertEquals(300L, result.get("refundedPoints"));
+        verify(orderStatusCacheInvalidator).orderChanged(11L, ORDER_NO);
+        verify(paymentRepository, never()).findByOrderNo(ORDER_NO);
+    }
+
+    @Test
+    void pointRefundIsRejectedOnceRefunded() {
+        when(orderRepository.findByOrderNoForUpdate(ORDER_NO)).thenReturn(Optional.of(order(300L, 300L)));
+
+        Map<String, Object> result = paymentService.refundPointsByOrderNo(ORDER_NO, "고객 요청");
+
+        assertEquals(false, result.get("success"));
+        assertEquals("이미 적립금이 취소되었습니다.", result.get("message"));
+        verify(userRepository, never()).creditPoints(anyLong(), anyInt());
+    }
+
+    private Order order(Long capturedPoints, Long refundedPoints) {
+        Order order = new Order(ORDER_NO, 7L, 5300L, capturedPoints.intValue(), 5000L, Order.OrderStatus.COMPLETED);
+        ReflectionTestUtils.setField(order, "capturedPoints", capturedPoints);
+        ReflectionTestUtils.setField(order, "refundedPoints", refundedPoints);
+        return order;
+    }
+
+    private Payment payment(String paymentType, String status, long amount) {
+        Payment payment = new Payment();
+        payment.setOrderNo(ORDER_NO);
+        payment.setPaymentType(paymentType);
+        payment.setStatus(status);
+        payment.setAmount(amount);
+        return payment;
+    }
+}
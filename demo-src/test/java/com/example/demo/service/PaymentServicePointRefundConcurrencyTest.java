@@ -0,0 +1,93 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Order;
+import com.example.demo.entity.Payment;
+import com.example.demo.entity.User;
+import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.PaymentRepository;
+import com.example.demo.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 같은 주문의 적립금 취소 동시 요청 중 하나만 적립금을 복구하는지 확인
+// 요청마다 별도 트랜잭션이 커밋되어야 하므로 롤백 대신 테스트 데이터를 직접 삭제한다.
+@SpringBootTest
+class PaymentServicePointRefundConcurrencyTest {
+
+    private static final String ORDER_NO = "PT-RF-CONC-1";
+    private static final int REQUESTS = 8;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long userId;
+
+    @AfterEach
+    void tearDown() {
+        paymentRepository.deleteAll(paymentRepository.findByOrderNo(ORDER_NO));
+        orderRepository.findByOrderNo(ORDER_NO).ifPresent(orderRepository::delete);
+        if (userId != null) {
+            userRepository.deleteById(userId);
+        }
+    }
+
+    @Test
+    void concurrentPointRefundsCreditOnce() throws Exception {
+        userId = userRepository.save(new User("point-refund-test", "point-refund-test@example.com")).getId();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            orderRepository.save(new Order(ORDER_NO, userId, 1300L, 300, 1000L, Order.OrderStatus.COMPLETED));
+            paymentRepository.save(new Payment(ORDER_NO, "POINTS_" + ORDER_NO, 300L, "COMPLETED", "0000", "적립금 결제",
+                Payment.PaymentType.POINT.name()));
+            orderRepository.addPaymentTotals(ORDER_NO, 0L, 300L, 0L, 0L, LocalDateTime.now());
+        });
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Map<String, Object>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(REQUESTS)) {
+            for (int i = 0; i < REQUESTS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return paymentService.refundPointsByOrderNo(ORDER_NO, "동시 요청");
+                }));
+            }
+            start.countDown();
+        }
+
+        int succeeded = 0;
+        for (Future<Map<String, Object>> result : results) {
+            if (Boolean.TRUE.equals(result.get().get("success"))) {
+                succeeded++;
+            }
+        }
+        assertEquals(1, succeeded);
+        assertEquals(300, userRepository.findPointsById(userId).orElseThrow());
+        assertEquals(300L, orderRepository.findByOrderNo(ORDER_NO).orElseThrow().getRefundedPoints());
+    }
+}
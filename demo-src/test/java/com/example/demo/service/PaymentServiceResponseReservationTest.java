@@ -0,0 +1,99 @@
+package com.example.demo.service;
+
+import com.example.demo.client.PgHttpClient;
+import com.example.demo.client.PgSigner;
+import com.example.demo.dto.InicisCallback;
+import com.example.demo.entity.Order;
+import com.example.demo.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceResponseReservationTest {
+
+    private static final String ORDER_NO = "ORD-1";
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderApprovalReservation orderApprovalReservation;
+
+    @Mock
+    private PgHttpClient pgHttpClient;
+
+    @Mock
+    private PgSigner pgSigner;
+
+    @Mock
+    private IfInisisLogWriter ifInisisLogWriter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private PaymentService paymentService;
+
+    private final Order order = new Order();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(paymentService, "inicisAuthUrlOverride", "");
+        ReflectionTestUtils.setField(paymentService, "transactionTemplate", new TransactionTemplate(transactionManager));
+        order.setId(1L);
+        order.setOrderNo(ORDER_NO);
+        order.setCardAmount(5000L);
+        when(orderRepository.findByOrderNo(ORDER_NO)).thenReturn(Optional.of(order));
+    }
+
+    // PENDING 이 아니어서 예약하지 못한 주문은 승인 API 를 호출하지 않음
+    @Test
+    void skipsAuthCallWhenOrderIsNotPending() {
+        order.setStatus(Order.OrderStatus.COMPLETED);
+        when(orderApprovalReservation.reserve(order)).thenReturn(false);
+
+        Map<String, Object> result = paymentService.processPaymentResponse(callback());
+
+        assertEquals(false, result.get("success"));
+        verifyNoInteractions(pgHttpClient);
+    }
+
+    // 승인 API 호출 후 결과 반영 트랜잭션이 실패하면 예약을 되돌림
+    @Test
+    void releasesReservationWhenResultCannotBeSaved() {
+        order.setStatus(Order.OrderStatus.PENDING);
+        when(orderApprovalReservation.reserve(order)).thenReturn(true);
+        when(transactionManager.getTransaction(any())).thenThrow(new CannotCreateTransactionException("db down"));
+
+        Map<String, Object> result = paymentService.processPaymentResponse(callback());
+
+        assertEquals(false, result.get("success"));
+        verify(orderApprovalReservation).release(order);
+    }
+
+    private InicisCallback callback() {
+        return InicisCallback.of(Map.of(
+            "orderNumber", ORDER_NO,
+            "resultCode", "0000",
+            "tid", "TID-1",
+            "authUrl", "http://pg/auth",
+            "authToken", "token"));
+    }
+}
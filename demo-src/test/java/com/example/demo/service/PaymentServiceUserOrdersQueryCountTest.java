@@ -0,0 +1,80 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Order;
+import com.example.demo.entity.Payment;
+import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.PaymentRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 주문 내역 조회가 실제 DB 에 보내는 SQL 수 확인 (Hibernate 통계, 테스트 데이터는 롤백)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class PaymentServiceUserOrdersQueryCountTest {
+
+    // 실제 사용자와 겹치지 않는 테스트용 사용자
+    private static final Long USER_ID = 987_654_321L;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // 주문 수와 관계없이 주문 1회 + 결제 1회 조회만 실행
+    @Test
+    void getUserOrdersWithPaymentsUsesConstantStatementCount() {
+        assertEquals(2L, statementsFor(saveOrders("QC1-", 1)));
+        assertEquals(2L, statementsFor(saveOrders("QC2-", 30)));
+    }
+
+    private int saveOrders(String prefix, int count) {
+        orderRepository.deleteAll(orderRepository.findByUserIdOrderByCreatedAtDesc(USER_ID));
+        for (int i = 0; i < count; i++) {
+            String orderNo = prefix + i;
+            orderRepository.save(new Order(orderNo, USER_ID, 1000L, 0, 1000L, Order.OrderStatus.COMPLETED));
+            paymentRepository.save(new Payment(orderNo, "TID-" + orderNo, 1000L, "COMPLETED", "0000", "성공"));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return count;
+    }
+
+    private long statementsFor(int orderCount) {
+        statistics.clear();
+
+        Map<String, Object> result = paymentService.getUserOrdersWithPayments(USER_ID, null, orderCount);
+
+        assertEquals(true, result.get("success"));
+        assertEquals(orderCount, ((List<?>) result.get("orders")).size());
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Order;
+import com.example.demo.entity.Payment;
+import com.example.demo.mapper.PaymentMapper;
+import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.PaymentLogRepository;
+import com.example.demo.repository.PaymentRepository;
+import com.example.demo.repository.UserRepository;
+import com.example.demo.util.KeysetCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceUserOrdersTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Mock
+    private PaymentRepository paymentRepository;
+
+    @Mock
+    private PaymentMapper paymentMapper;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private PaymentLogRepository paymentLogRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private PaymentService paymentService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(paymentService, "defaultPageSize", 50);
+        ReflectionTestUtils.setField(paymentService, "maxPageSize", 1000);
+    }
+
+    // 주문 수와 관계없이 주문 1회 + 결제 1회 조회만 발생해야 함
+    @ParameterizedTest
+    @ValueSource(ints = {1, 500})
+    void getUserOrdersWithPaymentsUsesConstantQueryCount(int orderCount) {
+        List<Order> orders = new ArrayList<>();
+        List<Payment> payments = new ArrayList<>();
+        for (int i = 0; i < orderCount; i++) {
+            String orderNo = "ORD" + i;
+            Order order = new Order(orderNo, USER_ID, 1000L, 0, 1000L, Order.OrderStatus.COMPLETED);
+            order.setId((long) i);
+            order.setCreatedAt(LocalDateTime.now());
+            orders.add(order);
+
+            Payment payment = new Payment(orderNo, "TID" + i, 1000L, "COMPLETED", "0000", "성공");
+            payment.setId((long) i);
+            payments.add(payment);
+        }
+
+        when(orderRepository.findPageByUserId(eq(USER_ID), any(Pageable.class))).thenReturn(orders);
+        when(paymentRepository.findDisplayPaymentsByOrderNoIn(anyCollection())).thenReturn(payments);
+
+        Map<String, Object> result = paymentService.getUserOrdersWithPayments(USER_ID, null, orderCount);
+
+        assertEquals(true, result.get("success"));
+        assertEquals(false, result.get("hasNext"));
+        List<?> orderDetails = (List<?>) result.get("orders");
+        assertEquals(orderCount, orderDetails.size());
+        for (Object orderDetail : orderDetails) {
+            List<?> orderPayments = (List<?>) ((Map<?, ?>) orderDetail).get("payments");
+            assertEquals(1, orderPayments.size());
+            assertTrue(((Map<?, ?>) orderDetail).get("payment") != null);
+        }
+
+        verify(orderRepository, times(1)).findPageByUserId(eq(USER_ID), any(Pageable.class));
+        verify(paymentRepository, times(1)).findDisplayPaymentsByOrderNoIn(anyCollection());
+        verify(paymentRepository, never()).findByOrderNoOrderByPaymentDateDesc(anyString());
+        verifyNoMoreInteractions(orderRepository, paymentRepository);
+    }
+
+    // 페이지 크기보다 1건 더 조회되면 마지막 주문 기준 커서를 내려주고, 그 커서로 다음 페이지를 이어서 조회
+    @Test
+    void getUserOrdersWithPaymentsPagesByCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 18, 12, 0);
+        List<Order> firstPage = List.of(order(3L, createdAt), order(2L, createdAt), order(1L, createdAt.minusMinutes(1)));
+        when(orderRepository.findPageByUserId(eq(USER_ID), any(Pageable.class))).thenReturn(firstPage);
+
+        Map<String, Object> first = paymentService.getUserOrdersWithPayments(USER_ID, null, 2);
+
+        assertEquals(true, first.get("hasNext"));
+        assertEquals(2, ((List<?>) first.get("orders")).size());
+        KeysetCursor cursor = KeysetCursor.decode((String) first.get("nextCursor"));
+        assertEquals(createdAt, cursor.getSortKey());
+        assertEquals(2L, cursor.getId());
+
+        // 마지막 페이지가 페이지 크기와 같으면 다음 페이지 없음
+        when(orderRepository.findPageByUserIdAfter(eq(USER_ID), eq(createdAt), eq(2L), any(Pageable.class)))
+            .thenReturn(List.of(order(1L, createdAt.minusMinutes(1))));
+
+        Map<String, Object> second = paymentService.getUserOrdersWithPayments(USER_ID, (String) first.get("nextCursor"), 1);
+
+        assertEquals(false, second.get("hasNext"));
+        assertNull(second.get("nextCursor"));
+        assertEquals(1, ((List<?>) second.get("orders")).size());
+    }
+
+    private Order order(Long id, LocalDateTime createdAt) {
+        Order order = new Order("ORD" + id, USER_ID, 1000L, 0, 1000L, Order.OrderStatus.COMPLETED);
+        order.setId(id);
+        order.setCreatedAt(createdAt);
+        return order;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.InicisCallback;
+import com.example.demo.dto.NicePayCallback;
+import com.example.demo.service.PgCallbackIdempotencyService.CallbackKey;
+import com.example.demo.service.PgCallbackIdempotencyService.CallbackType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PgCallbackIdempotencyServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private PgCallbackIdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(idempotencyService, "cacheSize", 100);
+        idempotencyService.init();
+    }
+
+    // 같은 콜백 재전송은 handler 를 다시 실행하지 않고 저장된 응답을 돌려줘야 함
+    @Test
+    void duplicateCallbackIsReplayedFromMemory() {
+        CallbackKey key = idempotencyService.inicisKey(CallbackType.INICIS_NOTIFY,
+            InicisCallback.of(Map.of("oid", "ORD1", "tid", "TID1", "resultCode", "0000")));
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class))).thenReturn(List.of());
+        AtomicInteger calls = new AtomicInteger();
+
+        String first = idempotencyService.execute(key, String.class, () -> { calls.incrementAndGet(); return "OK"; }, "OK"::equals);
+        String second = idempotencyService.execute(key, String.class, () -> { calls.incrementAndGet(); return "OK"; }, "OK"::equals);
+
+        assertEquals("OK", first);
+        assertEquals("OK", second);
+        assertEquals(1, calls.get());
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(String.class), any(Object[].class));
+        verify(jdbcTemplate, times(1)).update(anyString(), any(Object[].class));
+    }
+
+    // 재시도가 필요한 결과(FAIL)는 저장하지 않아 다음 재전송에서 다시 처리
+    @Test
+    void nonStorableResultIsProcessedAgain() {
+        CallbackKey key = idempotencyService.inicisKey(CallbackType.INICIS_NOTIFY,
+            InicisCallback.of(Map.of("oid", "ORD1", "tid", "TID1", "resultCode", "0000")));
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class))).thenReturn(List.of());
+        AtomicInteger calls = new AtomicInteger();
+
+        idempotencyService.execute(key, String.class, () -> { calls.incrementAndGet(); return "FAIL"; }, "OK"::equals);
+        idempotencyService.execute(key, String.class, () -> { calls.incrementAndGet(); return "FAIL"; }, "OK"::equals);
+
+        assertEquals(2, calls.get());
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    // TID 가 없으면 키를 만들지 않음
+    @Test
+    void callbackWithoutTidHasNoKey() {
+        assertNull(idempotencyService.nicePayKey(NicePayCallback.of(Map.of("Moid", "ORD1", "ResultCode", "3001"))));
+    }
+}
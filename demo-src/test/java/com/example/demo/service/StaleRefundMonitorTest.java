@@ -0,0 +1,98 @@
+package com.example.demo.service;
+
+import com.example.demo.entity.Order;
+import com.example.demo.entity.Payment;
+import com.example.demo.repository.OrderRepository;
+import com.example.demo.repository.PaymentRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 취소 예약(REFUNDING)으로 남은 결제 조회/정리 (로컬 DB, 테스트 데이터는 롤백)
+@SpringBootTest
+@Transactional
+class StaleRefundMonitorTest {
+
+    // 실제 사용자와 겹치지 않는 테스트용 사용자
+    private static final Long USER_ID = 987_654_323L;
+
+    @Autowired
+    private StaleRefundMonitor staleRefundMonitor;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    // PG 에서 취소된 건은 취소 레코드와 취소 누계를 남기고 원 결제는 COMPLETED 로, 두 번째 정리는 거절
+    @Test
+    void resolveCancelledRecordsRefundOnce() {
+        Long paymentId = refunding("STALE-RF-1", LocalDateTime.now().minusHours(1));
+
+        assertTrue(staleRefundMonitor.list(500).stream().anyMatch(item -> paymentId.equals(item.get("paymentId"))));
+        assertTrue(staleRefundMonitor.check() >= 1);
+
+        assertEquals(true, staleRefundMonitor.resolve(paymentId, true, "정리").get("success"));
+        assertEquals(false, staleRefundMonitor.resolve(paymentId, true, "정리").get("success"));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Payment> payments = paymentRepository.findByOrderNo("STALE-RF-1");
+        assertEquals(2, payments.size());
+        assertEquals("COMPLETED", paymentRepository.findById(paymentId).orElseThrow().getStatus());
+        assertEquals(0L, orderRepository.findRefundableCardAmount("STALE-RF-1").orElseThrow());
+    }
+
+    // PG 에서 취소되지 않은 건은 취소 가능 상태로만 되돌림
+    @Test
+    void resolveNotCancelledRestoresPayment() {
+        Long paymentId = refunding("STALE-RF-2", LocalDateTime.now().minusHours(1));
+
+        Map<String, Object> result = staleRefundMonitor.resolve(paymentId, false, "정리");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(true, result.get("success"));
+        assertEquals(1, paymentRepository.findByOrderNo("STALE-RF-2").size());
+        assertEquals("COMPLETED", paymentRepository.findById(paymentId).orElseThrow().getStatus());
+        assertEquals(5000L, orderRepository.findRefundableCardAmount("STALE-RF-2").orElseThrow());
+    }
+
+    // 방금 예약된 건은 취소 API 호출 중일 수 있으므로 목록에도 없고 정리도 거절
+    @Test
+    void recentReservationIsNotResolved() {
+        Long paymentId = refunding("STALE-RF-3", LocalDateTime.now());
+
+        assertTrue(staleRefundMonitor.list(500).stream().noneMatch(item -> paymentId.equals(item.get("paymentId"))));
+        assertEquals(false, staleRefundMonitor.resolve(paymentId, true, "정리").get("success"));
+    }
+
+    private Long refunding(String orderNo, LocalDateTime reservedAt) {
+        orderRepository.save(new Order(orderNo, USER_ID, 5000L, 0, 5000L, Order.OrderStatus.COMPLETED));
+        Payment payment = paymentRepository.save(new Payment(orderNo, "TID-" + orderNo, 5000L, "COMPLETED", "0000", "성공"));
+        entityManager.flush();
+        orderRepository.addPaymentTotals(orderNo, 5000L, 0L, 0L, 0L, LocalDateTime.now());
+        jdbcTemplate.update("UPDATE payments SET status = 'REFUNDING', updated_at = ? WHERE id = ?",
+            Timestamp.valueOf(reservedAt), payment.getId());
+        entityManager.clear();
+        return payment.getId();
+    }
+}
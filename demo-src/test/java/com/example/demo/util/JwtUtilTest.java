@@ -0,0 +1,68 @@
+package com.example.demo.util;
+
+import com.example.demo.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 60000L);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheSize", 100);
+        jwtUtil.init();
+    }
+
+    @Test
+    void verifyReturnsClaimsAndReusesVerifiedResult() {
+        String token = jwtUtil.generateToken(user());
+
+        Optional<JwtClaims> first = jwtUtil.verify(token);
+        Optional<JwtClaims> second = jwtUtil.verify(token);
+
+        assertTrue(first.isPresent());
+        assertEquals(7L, first.get().getUserId());
+        assertEquals("user@example.com", first.get().getEmail());
+        assertEquals("홍길동", first.get().getName());
+        assertEquals(1500, first.get().getPoints());
+        assertEquals(3L, first.get().getPointsVersion());
+        // 두 번째 호출은 캐시된 결과 (재검증 없음)
+        assertSame(first.get(), second.get());
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        String token = jwtUtil.generateToken(user());
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertFalse(jwtUtil.verify(tampered).isPresent());
+        assertFalse(jwtUtil.validateToken("not-a-token"));
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        ReflectionTestUtils.setField(jwtUtil, "expiration", -1000L);
+        String token = jwtUtil.generateToken(user());
+
+        assertFalse(jwtUtil.verify(token).isPresent());
+    }
+
+    private User user() {
+        User user = new User("홍길동", "user@example.com", "010-1234-5678");
+        user.setId(7L);
+        user.setPoints(1500);
+        user.setPointsVersion(3L);
+        return user;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeysetCursorTest {
+
+    // 인코딩한 커서는 같은 정렬 기준 시각(나노초 포함)과 id 로 복원되고 URL 에 그대로 쓸 수 있음
+    @Test
+    void encodeDecodeRoundTrip() {
+        LocalDateTime sortKey = LocalDateTime.of(2026, 10, 18, 12, 30, 15, 123_456_000);
+
+        String token = new KeysetCursor(sortKey, 42L).encode();
+        KeysetCursor decoded = KeysetCursor.decode(token);
+
+        assertEquals(sortKey, decoded.getSortKey());
+        assertEquals(42L, decoded.getId());
+        assertFalse(token.contains("=") || token.contains("+") || token.contains("/"));
+    }
+
+    @Test
+    void rejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("%%%"));
+    }
+}
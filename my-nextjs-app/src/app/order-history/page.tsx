@@ -38,6 +38,9 @@ export default function OrderHistoryPage() {
   const [error, setError] = useState('');
   const [userId, setUserId] = useState<number | null>(null);
   const [refunding, setRefunding] = useState<string | null>(null);
+  // 다음 페이지 커서 (서버가 keyset 페이지 단위로 응답, null 이면 마지막 페이지)
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   useEffect(() => {
     // localStorage에서 로그인한 사용자 정보 가져오기
@@ -66,10 +69,16 @@ export default function OrderHistoryPage() {
     }
   }, []);
 
-  const fetchOrderHistory = async (userId: number) => {
+  // cursor 가 없으면 첫 페이지부터 다시 조회, 있으면 이어서 조회한 주문을 뒤에 붙임
+  const fetchOrderHistory = async (userId: number, cursor?: string) => {
     try {
-      setLoading(true);
-      const response = await fetch(`http://localhost:8081/api/payment/orders/${userId}`, {
+      if (cursor) {
+        setLoadingMore(true);
+      } else {
+        setLoading(true);
+      }
+      const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : '';
+      const response = await fetch(`http://localhost:8081/api/payment/orders/${userId}${query}`, {
         method: 'GET',
         credentials: 'include',
       });
@@ -80,7 +89,8 @@ export default function OrderHistoryPage() {
 
       const data = await response.json();
       if (data.success) {
-        setOrders(data.orders);
+        setOrders(prev => cursor ? [...prev, ...data.orders] : data.orders);
+        setNextCursor(data.hasNext ? data.nextCursor : null);
       } else {
         setError(data.message || '주문 내역을 불러오는데 실패했습니다');
       }
@@ -89,6 +99,7 @@ export default function OrderHistoryPage() {
       setError('주문 내역을 불러오는데 실패했습니다');
     } finally {
       setLoading(false);
+      setLoadingMore(false);
     }
   };
 
@@ -544,6 +555,17 @@ export default function OrderHistoryPage() {
                     )}
                   </div>
                 ))}
+                {nextCursor && userId && (
+                  <div className="text-center">
+                    <button
+                      onClick={() => fetchOrderHistory(userId, nextCursor)}
+                      disabled={loadingMore}
+                      className="px-6 py-2 bg-white border border-gray-300 text-gray-700 rounded-md hover:bg-gray-50 disabled:opacity-50"
+                    >
+                      {loadingMore ? '불러오는 중...' : '더 보기'}
+                    </button>
+                  </div>
+                )}
               </div>
             )}
           </div>
@@ -44,7 +44,11 @@ export default function OrderPage() {
       });
 
       if (response.ok) {
-        const freshUserData = await response.json();
+        const { token: refreshedToken, ...freshUserData } = await response.json();
+        // 적립금 등이 바뀐 경우 서버가 새 토큰을 내려줌
+        if (refreshedToken) {
+          localStorage.setItem('token', refreshedToken);
+        }
         setUser(freshUserData);
       } else {
         handleLogout();
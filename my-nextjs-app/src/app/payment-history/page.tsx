@@ -24,6 +24,9 @@ export default function PaymentHistoryPage() {
   const [error, setError] = useState('');
   const [userId, setUserId] = useState<number | null>(null);
   const [refunding, setRefunding] = useState<string | null>(null);
+  // 다음 페이지 커서 (서버가 keyset 페이지 단위로 응답, null 이면 마지막 페이지)
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   useEffect(() => {
     // 임시로 userId = 1로 설정 (실제로는 로그인 세션에서 가져와야 함)
@@ -32,10 +35,16 @@ export default function PaymentHistoryPage() {
     fetchPaymentHistory(currentUserId);
   }, []);
 
-  const fetchPaymentHistory = async (userId: number) => {
+  // cursor 가 없으면 첫 페이지부터 다시 조회, 있으면 이어서 조회한 결제 내역을 뒤에 붙임
+  const fetchPaymentHistory = async (userId: number, cursor?: string) => {
     try {
-      setLoading(true);
-      const response = await fetch(`http://localhost:8081/api/payment/history/${userId}`, {
+      if (cursor) {
+        setLoadingMore(true);
+      } else {
+        setLoading(true);
+      }
+      const query = cursor ? `?cursor=${encodeURIComponent(cursor)}` : '';
+      const response = await fetch(`http://localhost:8081/api/payment/history/${userId}${query}`, {
         method: 'GET',
         credentials: 'include',
       });
@@ -46,7 +55,8 @@ export default function PaymentHistoryPage() {
 
       const data = await response.json();
       if (data.success) {
-        setPayments(data.payments);
+        setPayments(prev => cursor ? [...prev, ...data.payments] : data.payments);
+        setNextCursor(data.hasNext ? data.nextCursor : null);
       } else {
         setError(data.message || '결제 내역을 불러오는데 실패했습니다');
       }
@@ -55,6 +65,7 @@ export default function PaymentHistoryPage() {
       setError('결제 내역을 불러오는데 실패했습니다');
     } finally {
       setLoading(false);
+      setLoadingMore(false);
     }
   };
 
@@ -247,6 +258,17 @@ export default function PaymentHistoryPage() {
                     ))}
                   </tbody>
                 </table>
+                {nextCursor && userId && (
+                  <div className="text-center py-4">
+                    <button
+                      onClick={() => fetchPaymentHistory(userId, nextCursor)}
+                      disabled={loadingMore}
+                      className="px-6 py-2 bg-white border border-gray-300 text-gray-700 rounded-md hover:bg-gray-50 disabled:opacity-50"
+                    >
+                      {loadingMore ? '불러오는 중...' : '더 보기'}
+                    </button>
+                  </div>
+                )}
               </div>
             )}
           </div>
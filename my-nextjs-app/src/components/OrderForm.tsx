@@ -74,7 +74,11 @@ export default function OrderForm({ user, onLogout }: OrderFormProps) {
       });
       
       if (response.ok) {
-        const userData = await response.json();
+        const { token: refreshedToken, ...userData } = await response.json();
+        // 적립금 등이 바뀐 경우 서버가 새 토큰을 내려줌
+        if (refreshedToken) {
+          localStorage.setItem('token', refreshedToken);
+        }
         localStorage.setItem('user', JSON.stringify(userData));
         window.location.reload(); // 간단히 페이지 새로고침
       }